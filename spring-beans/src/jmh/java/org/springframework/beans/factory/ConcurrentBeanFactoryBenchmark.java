@@ -18,16 +18,23 @@ package org.springframework.beans.factory;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
 
@@ -37,6 +44,8 @@ import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifie
  * Benchmark for creating prototype beans in a concurrent fashion.
  * This benchmark requires to customize the number of worker threads {@code -t <int>} on the
  * CLI when running this particular benchmark to leverage concurrency.
+ * The startup graph benchmark measures the overhead of parallel singleton pre-instantiation
+ * for CPU-bound singletons, including autowired dependencies shared between threads.
  *
  * @author Brian Clozel
  */
@@ -61,17 +70,76 @@ public class ConcurrentBeanFactoryBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class StartupGraphState {
+
+		@Param({"sequential", "parallel"})
+		public String mode;
+
+		public ExecutorService executor;
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup(Level.Trial)
+		public void setupExecutor() {
+			this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		}
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.setBootstrapExecutor(this.executor);
+			this.factory.setParallelPreInstantiation("parallel".equals(this.mode));
+			this.factory.addPropertyEditorRegistrar(
+					registry -> registry.registerCustomEditor(Date.class,
+							new CustomDateEditor(new SimpleDateFormat("yyyy/MM/dd"), false)));
+			this.factory.registerBeanDefinition("shared", new RootBeanDefinition(SharedBean.class));
+			for (int i = 0; i < 500; i++) {
+				RootBeanDefinition rbd = new RootBeanDefinition(
+						ConcurrentBean.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+				rbd.getPropertyValues().add("date", "2004/08/08");
+				if (i % 10 != 0) {
+					rbd.setDependsOn("bean" + (i - i % 10));
+				}
+				this.factory.registerBeanDefinition("bean" + i, rbd);
+			}
+			this.factory.freezeConfiguration();
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.executor.shutdown();
+		}
+	}
+
 	@Benchmark
 	public void concurrentBeanCreation(BenchmarkState state, Blackhole bh) {
 		bh.consume(state.factory.getBean("bean1"));
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void startupGraph(StartupGraphState state, Blackhole bh) {
+		state.factory.preInstantiateSingletons();
+		bh.consume(state.factory);
+	}
+
 
 	public static class ConcurrentBean {
 
 		private Date date;
 
+		private SharedBean shared;
+
+		public SharedBean getShared() {
+			return this.shared;
+		}
+
+		public void setShared(SharedBean shared) {
+			this.shared = shared;
+		}
+
 		public Date getDate() {
 			return this.date;
 		}
@@ -80,4 +148,9 @@ public class ConcurrentBeanFactoryBenchmark {
 			this.date = date;
 		}
 	}
+
+
+	public static class SharedBean {
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,18 @@
 
 package org.springframework.beans.factory;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
@@ -30,6 +35,7 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -133,10 +139,130 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class StartupGraphState extends Shared {
+
+		@Param({"sequential", "parallel"})
+		public String mode;
+
+		@Param({"0", "1"})
+		public long initDelay;
+
+		public ExecutorService executor;
+
+		@Setup(Level.Trial)
+		public void setupExecutor() {
+			this.executor = Executors.newFixedThreadPool(8);
+		}
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.setBootstrapExecutor(this.executor);
+			this.beanFactory.setParallelPreInstantiation("parallel".equals(this.mode));
+			// 4 layers of 50 singletons, each referring to a singleton in the previous layer
+			for (int layer = 0; layer < 4; layer++) {
+				for (int i = 0; i < 50; i++) {
+					RootBeanDefinition rbd = new RootBeanDefinition(GraphBean.class);
+					rbd.getPropertyValues().add("initDelay", this.initDelay);
+					if (layer > 0) {
+						rbd.getPropertyValues().add("dependency", new RuntimeBeanReference("bean" + (layer - 1) + "-" + i));
+					}
+					rbd.setInitMethodName("init");
+					this.beanFactory.registerBeanDefinition("bean" + layer + "-" + i, rbd);
+				}
+			}
+			this.beanFactory.freezeConfiguration();
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.executor.shutdown();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public Object startupGraph(StartupGraphState state) {
+		state.beanFactory.preInstantiateSingletons();
+		return state.beanFactory;
+	}
+
+	@State(Scope.Benchmark)
+	public static class TypeLookupManyBeansState extends Shared {
+
+		@Param({"true", "false"})
+		public boolean frozen;
+
+		public ResolvableType genericType = ResolvableType.forClassWithGenerics(Holder.class, String.class);
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			// 10k beans spread across raw and generic types, with a handful of String holders
+			for (int i = 0; i < 10000; i++) {
+				Class<?> beanClass = switch (i % 4) {
+					case 0 -> A.class;
+					case 1 -> B.class;
+					case 2 -> IntegerHolder.class;
+					default -> (i % 1000 == 3 ? StringHolder.class : LongHolder.class);
+				};
+				this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(beanClass));
+			}
+			if (this.frozen) {
+				this.beanFactory.freezeConfiguration();
+			}
+		}
+	}
+
+	@Benchmark
+	public String[] beanNamesForRawTypeManyBeans(TypeLookupManyBeansState state) {
+		return state.beanFactory.getBeanNamesForType(StringHolder.class);
+	}
+
+	@Benchmark
+	public String[] beanNamesForGenericTypeManyBeans(TypeLookupManyBeansState state) {
+		return state.beanFactory.getBeanNamesForType(state.genericType);
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	interface Holder<T> {
+	}
+
+	static class StringHolder implements Holder<String> {
+	}
+
+	static class IntegerHolder implements Holder<Integer> {
+	}
+
+	static class LongHolder implements Holder<Long> {
+	}
+
+	public static class GraphBean {
+
+		private long initDelay;
+
+		private Object dependency;
+
+		public void setInitDelay(long initDelay) {
+			this.initDelay = initDelay;
+		}
+
+		public void setDependency(Object dependency) {
+			this.dependency = dependency;
+		}
+
+		public void init() throws InterruptedException {
+			if (this.initDelay > 0) {
+				// Simulate I/O-bound initialization, e.g. a connection pool or a remote client
+				Thread.sleep(this.initDelay);
+			}
+		}
+	}
+
 }
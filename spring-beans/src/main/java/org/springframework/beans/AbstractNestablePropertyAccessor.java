@@ -41,6 +41,7 @@ import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -76,6 +77,13 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 */
 	private static final Log logger = LogFactory.getLog(AbstractNestablePropertyAccessor.class);
 
+	/**
+	 * Cache for parsed keyed property names such as "map[key]" or "list[0]",
+	 * shared across accessor instances since many are created per binding.
+	 */
+	private static final ConcurrentLruCache<String, ParsedPropertyName> parsedPropertyNameCache =
+			new ConcurrentLruCache<>(256, AbstractNestablePropertyAccessor::parsePropertyName);
+
 	private int autoGrowCollectionLimit = Integer.MAX_VALUE;
 
 	@Nullable
@@ -939,10 +947,24 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 
 	/**
 	 * Parse the given property name into the corresponding property name tokens.
+	 * <p>As of 6.2, keyed property names are parsed once and then served from a
+	 * shared cache, whereas simple property names do not require any parsing.
 	 * @param propertyName the property name to parse
 	 * @return representation of the parsed property tokens
 	 */
 	private PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+		if (propertyName.indexOf(PROPERTY_KEY_PREFIX_CHAR) == -1) {
+			return new PropertyTokenHolder(propertyName);
+		}
+		ParsedPropertyName parsed = parsedPropertyNameCache.get(propertyName);
+		PropertyTokenHolder tokens = new PropertyTokenHolder(parsed.actualName());
+		tokens.canonicalName = parsed.canonicalName();
+		String[] keys = parsed.keys();
+		tokens.keys = (keys != null ? keys.clone() : null);
+		return tokens;
+	}
+
+	private static ParsedPropertyName parsePropertyName(String propertyName) {
 		String actualName = null;
 		List<String> keys = new ArrayList<>(2);
 		int searchIndex = 0;
@@ -965,17 +987,19 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 				}
 			}
 		}
-		PropertyTokenHolder tokens = new PropertyTokenHolder(actualName != null ? actualName : propertyName);
-		if (!keys.isEmpty()) {
-			tokens.canonicalName += PROPERTY_KEY_PREFIX +
-					StringUtils.collectionToDelimitedString(keys, PROPERTY_KEY_SUFFIX + PROPERTY_KEY_PREFIX) +
-					PROPERTY_KEY_SUFFIX;
-			tokens.keys = StringUtils.toStringArray(keys);
+		if (actualName == null) {
+			actualName = propertyName;
 		}
-		return tokens;
+		if (keys.isEmpty()) {
+			return new ParsedPropertyName(actualName, actualName, null);
+		}
+		String canonicalName = actualName + PROPERTY_KEY_PREFIX +
+				StringUtils.collectionToDelimitedString(keys, PROPERTY_KEY_SUFFIX + PROPERTY_KEY_PREFIX) +
+				PROPERTY_KEY_SUFFIX;
+		return new ParsedPropertyName(actualName, canonicalName, StringUtils.toStringArray(keys));
 	}
 
-	private int getPropertyNameKeyEnd(String propertyName, int startIndex) {
+	private static int getPropertyNameKeyEnd(String propertyName, int startIndex) {
 		int unclosedPrefixes = 0;
 		int length = propertyName.length();
 		for (int i = startIndex; i < length; i++) {
@@ -1090,4 +1114,11 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		public String[] keys;
 	}
 
+
+	/**
+	 * Immutable representation of a parsed property name, for caching.
+	 */
+	private record ParsedPropertyName(String actualName, String canonicalName, @Nullable String[] keys) {
+	}
+
 }
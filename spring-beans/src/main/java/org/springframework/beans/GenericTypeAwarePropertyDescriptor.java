@@ -18,6 +18,10 @@ package org.springframework.beans;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Objects;
@@ -27,12 +31,14 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.NativeDetector;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -40,11 +46,21 @@ import org.springframework.util.StringUtils;
  * overriding {@code getPropertyType()} such that a generically declared
  * type variable will be resolved against the containing bean class.
  *
+ * <p>As of 6.2, also provides invocation of the read and write method
+ * through {@link MethodHandle MethodHandles} which are created once per
+ * property of a bean class, falling back to reflective invocation where
+ * a method handle is not available, e.g. in a native image.
+ *
  * @author Juergen Hoeller
  * @since 2.5.2
  */
 final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 
+	private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+
 	private final Class<?> beanClass;
 
 	@Nullable
@@ -76,6 +92,17 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Class<?> propertyEditorClass;
 
+	@Nullable
+	private MethodHandle readMethodHandle;
+
+	@Nullable
+	private MethodHandle writeMethodHandle;
+
+	@Nullable
+	private Class<?> writeMethodHandleType;
+
+	private volatile boolean methodHandlesResolved;
+
 
 	public GenericTypeAwarePropertyDescriptor(Class<?> beanClass, String propertyName,
 			@Nullable Method readMethod, @Nullable Method writeMethod,
@@ -224,6 +251,89 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return this.propertyEditorClass;
 	}
 
+	/**
+	 * Invoke the read method on the given target instance.
+	 * @param target the bean instance to read the property from
+	 * @return the property value
+	 * @throws InvocationTargetException if the read method threw an exception
+	 * @since 6.2
+	 */
+	@Nullable
+	public Object invokeReadMethod(Object target) throws Exception {
+		Method readMethod = this.readMethod;
+		Assert.state(readMethod != null, "No read method available");
+		resolveMethodHandles();
+		MethodHandle handle = this.readMethodHandle;
+		if (handle == null) {
+			ReflectionUtils.makeAccessible(readMethod);
+			return readMethod.invoke(target, (Object[]) null);
+		}
+		try {
+			return handle.invokeExact(target);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Invoke the write method for actual access on the given target instance.
+	 * @param target the bean instance to write the property to
+	 * @param value the value to set
+	 * @throws InvocationTargetException if the write method threw an exception
+	 * @throws IllegalArgumentException if the value does not match the parameter type
+	 * @since 6.2
+	 * @see #getWriteMethodForActualAccess()
+	 */
+	public void invokeWriteMethod(Object target, @Nullable Object value) throws Exception {
+		Method writeMethod = getWriteMethodForActualAccess();
+		resolveMethodHandles();
+		MethodHandle handle = this.writeMethodHandle;
+		if (handle == null || this.writeMethodHandleType == null ||
+				!ClassUtils.isAssignableValue(this.writeMethodHandleType, value)) {
+			// Reflective invocation, also for raising a standard IllegalArgumentException
+			ReflectionUtils.makeAccessible(writeMethod);
+			writeMethod.invoke(target, value);
+			return;
+		}
+		try {
+			handle.invokeExact(target, value);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	private void resolveMethodHandles() {
+		if (!this.methodHandlesResolved) {
+			if (!NativeDetector.inNativeImage()) {
+				this.readMethodHandle = createMethodHandle(this.readMethod, READ_METHOD_TYPE);
+				this.writeMethodHandle = createMethodHandle(this.writeMethod, WRITE_METHOD_TYPE);
+				if (this.writeMethod != null) {
+					this.writeMethodHandleType = this.writeMethod.getParameterTypes()[0];
+				}
+			}
+			this.methodHandlesResolved = true;
+		}
+	}
+
+	@Nullable
+	private static MethodHandle createMethodHandle(@Nullable Method method, MethodType type) {
+		if (method == null) {
+			return null;
+		}
+		try {
+			ReflectionUtils.makeAccessible(method);
+			return MethodHandles.lookup().unreflect(method).asType(type);
+		}
+		catch (Throwable ex) {
+			// Not accessible through a method handle -> reflective invocation
+			LogFactory.getLog(GenericTypeAwarePropertyDescriptor.class).trace(
+					"Falling back to reflective invocation of " + method, ex);
+			return null;
+		}
+	}
+
 
 	@Override
 	public boolean equals(@Nullable Object other) {
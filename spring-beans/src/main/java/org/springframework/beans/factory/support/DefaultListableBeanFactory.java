@@ -30,8 +30,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +51,7 @@ import java.util.stream.Stream;
 import jakarta.inject.Provider;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -70,8 +73,10 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.Ordered;
@@ -161,6 +166,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate singletons in parallel on the bootstrap executor. */
+	private boolean parallelPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -186,6 +194,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Map of singleton and non-singleton bean names, keyed by generic dependency type. */
+	private final Map<ResolvableType, String[]> allBeanNamesByGenericType = new ConcurrentHashMap<>(64);
+
+	/** Map of singleton-only bean names, keyed by generic dependency type. */
+	private final Map<ResolvableType, String[]> singletonBeanNamesByGenericType = new ConcurrentHashMap<>(64);
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -297,6 +311,40 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set whether non-lazy singletons should be pre-instantiated in parallel
+	 * on the {@linkplain #setBootstrapExecutor bootstrap executor}.
+	 * <p>Default is "false", creating all singletons in the main bootstrap thread
+	 * apart from beans explicitly marked for
+	 * {@linkplain AbstractBeanDefinition#setBackgroundInit background initialization}.
+	 * Switch this flag on in order to create independent singletons concurrently,
+	 * scheduling each singleton after the singletons that its bean definition
+	 * refers to (through bean references, depends-on declarations or a factory bean).
+	 * Singletons that are requested by several threads at the same time are
+	 * created once, with the other threads waiting for the result. Singletons
+	 * that cannot be created in parallel (for example, due to a circular
+	 * reference across threads) are retried in the main bootstrap thread, and
+	 * {@link org.springframework.beans.factory.SmartInitializingSingleton}
+	 * callbacks are invoked in the main bootstrap thread in registration order.
+	 * <p>Note that this requires thread-safe initialization code in all singleton
+	 * beans, and has no effect if no bootstrap executor has been set.
+	 * @since 6.2
+	 * @see #setBootstrapExecutor
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setParallelPreInstantiation(boolean parallelPreInstantiation) {
+		this.parallelPreInstantiation = parallelPreInstantiation;
+	}
+
+	/**
+	 * Return whether non-lazy singletons get pre-instantiated in parallel
+	 * on the bootstrap executor.
+	 * @since 6.2
+	 */
+	public boolean isParallelPreInstantiation() {
+		return this.parallelPreInstantiation;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -344,6 +392,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelPreInstantiation = otherListableFactory.parallelPreInstantiation;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -546,9 +595,20 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (resolved != null && !type.hasGenerics()) {
 			return getBeanNamesForType(resolved, includeNonSingletons, allowEagerInit);
 		}
-		else {
+		if (!isConfigurationFrozen() || resolved == null || !allowEagerInit) {
 			return doGetBeanNamesForType(type, includeNonSingletons, allowEagerInit);
 		}
+		Map<ResolvableType, String[]> cache =
+				(includeNonSingletons ? this.allBeanNamesByGenericType : this.singletonBeanNamesByGenericType);
+		String[] resolvedBeanNames = cache.get(type);
+		if (resolvedBeanNames != null) {
+			return resolvedBeanNames;
+		}
+		resolvedBeanNames = doGetBeanNamesForType(type, includeNonSingletons, true);
+		if (isCacheSafe(type)) {
+			cache.put(type, resolvedBeanNames);
+		}
+		return resolvedBeanNames;
 	}
 
 	@Override
@@ -574,6 +634,28 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return resolvedBeanNames;
 	}
 
+	/**
+	 * Check whether the given generic type is safe to use as a by-type cache key,
+	 * i.e. whether it is fully resolvable against classes that are visible to
+	 * this factory's bean ClassLoader (or one of its parents).
+	 * @param type the generic type to check
+	 */
+	private boolean isCacheSafe(ResolvableType type) {
+		Class<?> resolved = type.resolve();
+		if (resolved == null || !ClassUtils.isCacheSafe(resolved, getBeanClassLoader())) {
+			return false;
+		}
+		if (type.isArray()) {
+			return isCacheSafe(type.getComponentType());
+		}
+		for (ResolvableType generic : type.getGenerics()) {
+			if (!isCacheSafe(generic)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
@@ -983,6 +1065,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	protected void checkMergedBeanDefinition(RootBeanDefinition mbd, String beanName, @Nullable Object[] args) {
 		super.checkMergedBeanDefinition(mbd, beanName, args);
 
+		if (this.preInstantiationThread.get() == PreInstantiation.PARALLEL) {
+			// Any bean may be created in parallel pre-instantiation threads
+			return;
+		}
 		if (mbd.isBackgroundInit()) {
 			if (this.preInstantiationThread.get() == PreInstantiation.MAIN && getBootstrapExecutor() != null) {
 				throw new BeanCurrentlyInCreationException(beanName, "Bean marked for background " +
@@ -1002,7 +1088,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	@Override
 	protected boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationThread.get() != PreInstantiation.BACKGROUND);
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
 	}
 
 	@Override
@@ -1015,13 +1102,20 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		// While this may not be part of the regular factory bootstrap, it does otherwise work fine.
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
-		// Trigger initialization of all non-lazy singleton beans...
+		// Trigger parallel initialization of non-lazy singleton beans, if enabled...
+		Executor executor = getBootstrapExecutor();
+		boolean parallel = (isParallelPreInstantiation() && executor != null);
+		if (parallel) {
+			preInstantiateSingletonsInParallel(beanNames, executor);
+		}
+
+		// Trigger initialization of all (remaining) non-lazy singleton beans...
 		List<CompletableFuture<?>> futures = new ArrayList<>();
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		try {
 			for (String beanName : beanNames) {
 				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
-				if (!mbd.isAbstract() && mbd.isSingleton()) {
+				if (!mbd.isAbstract() && mbd.isSingleton() && !(parallel && containsSingleton(beanName))) {
 					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
 					if (future != null) {
 						futures.add(future);
@@ -1088,6 +1182,124 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return null;
 	}
 
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+		Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+		for (String beanName : beanNames) {
+			scheduleSingletonInParallel(beanName, executor, futures, new HashSet<>(), failures);
+		}
+		CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+
+		// Report failures deterministically, in bean registration order. Beans which failed
+		// due to a concurrent creation conflict get retried in the main bootstrap thread.
+		RuntimeException failure = null;
+		for (String beanName : beanNames) {
+			RuntimeException ex = failures.get(beanName);
+			if (ex != null && !(ex instanceof BeansException beansEx &&
+					beansEx.contains(BeanCurrentlyInCreationException.class))) {
+				if (failure == null) {
+					failure = ex;
+				}
+				else {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	@Nullable
+	private CompletableFuture<?> scheduleSingletonInParallel(String beanName, Executor executor,
+			Map<String, CompletableFuture<?>> futures, Set<String> scheduling, Map<String, RuntimeException> failures) {
+
+		CompletableFuture<?> future = futures.get(beanName);
+		if (future != null || !scheduling.add(beanName)) {
+			// Already scheduled, or circular reference between bean definitions
+			return future;
+		}
+		RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+		if (mbd.isAbstract() || !mbd.isSingleton() || mbd.isLazyInit()) {
+			return null;
+		}
+
+		List<CompletableFuture<?>> dependencies = new ArrayList<>();
+		for (String dependency : getDeclaredDependencies(mbd)) {
+			String dependencyName = canonicalName(BeanFactoryUtils.transformedBeanName(dependency));
+			if (containsBeanDefinition(dependencyName)) {
+				CompletableFuture<?> dependencyFuture =
+						scheduleSingletonInParallel(dependencyName, executor, futures, scheduling, failures);
+				if (dependencyFuture != null) {
+					dependencies.add(dependencyFuture);
+				}
+			}
+		}
+		future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+				.thenRunAsync(() -> instantiateSingletonInParallelThread(beanName, failures), executor);
+		futures.put(beanName, future);
+		return future;
+	}
+
+	/**
+	 * Determine the names of the beans that the given bean definition refers to
+	 * through depends-on declarations, its factory bean, or bean references in
+	 * constructor arguments and property values.
+	 */
+	private Set<String> getDeclaredDependencies(RootBeanDefinition mbd) {
+		Set<String> dependencies = new LinkedHashSet<>();
+		String[] dependsOn = mbd.getDependsOn();
+		if (dependsOn != null) {
+			dependencies.addAll(Arrays.asList(dependsOn));
+		}
+		String factoryBeanName = mbd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			dependencies.add(factoryBeanName);
+		}
+		if (mbd.hasConstructorArgumentValues()) {
+			for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+				if (valueHolder.getValue() instanceof RuntimeBeanReference reference) {
+					dependencies.add(reference.getBeanName());
+				}
+			}
+			for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getGenericArgumentValues()) {
+				if (valueHolder.getValue() instanceof RuntimeBeanReference reference) {
+					dependencies.add(reference.getBeanName());
+				}
+			}
+		}
+		if (mbd.hasPropertyValues()) {
+			for (PropertyValue pv : mbd.getPropertyValues().getPropertyValues()) {
+				if (pv.getValue() instanceof RuntimeBeanReference reference) {
+					dependencies.add(reference.getBeanName());
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	private void instantiateSingletonInParallelThread(String beanName, Map<String, RuntimeException> failures) {
+		PreInstantiation previous = this.preInstantiationThread.get();
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+		}
+		catch (RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to instantiate singleton bean '" + beanName + "' in parallel", ex);
+			}
+			failures.put(beanName, ex);
+		}
+		finally {
+			if (previous != null) {
+				this.preInstantiationThread.set(previous);
+			}
+			else {
+				this.preInstantiationThread.remove();
+			}
+		}
+	}
+
 	private void instantiateSingletonInBackgroundThread(String beanName) {
 		this.preInstantiationThread.set(PreInstantiation.BACKGROUND);
 		try {
@@ -1393,6 +1605,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		this.allBeanNamesByGenericType.clear();
+		this.singletonBeanNamesByGenericType.clear();
 	}
 
 
@@ -2543,7 +2757,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
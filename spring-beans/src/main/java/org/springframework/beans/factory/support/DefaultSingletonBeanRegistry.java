@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -102,6 +103,16 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	@Nullable
 	private volatile Thread singletonCreationThread;
 
+	/** Threads creating singletons outside of the singleton lock: bean name to thread. */
+	private final Map<String, Thread> lenientCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Threads waiting for a singleton in lenient creation: thread to bean name. */
+	private final Map<Thread, String> lenientWaitingThreads = new ConcurrentHashMap<>(16);
+
+	private final Lock lenientCreationLock = new ReentrantLock();
+
+	private final Condition lenientCreationFinished = this.lenientCreationLock.newCondition();
+
 	/** Flag that indicates whether we're currently within destroySingletons. */
 	private volatile boolean singletonsCurrentlyInDestruction = false;
 
@@ -196,6 +207,10 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		// Quick check for existing instance without full singleton lock.
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
+			if (!isCurrentThreadAllowedToHoldSingletonLock() && isInLenientCreationByOtherThread(beanName)) {
+				// Wait for the other thread to complete the singleton instead of using its early reference.
+				return null;
+			}
 			singletonObject = this.earlySingletonObjects.get(beanName);
 			if (singletonObject == null && allowEarlyReference) {
 				if (!this.singletonLock.tryLock()) {
@@ -244,6 +259,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 		boolean acquireLock = isCurrentThreadAllowedToHoldSingletonLock();
 		boolean locked = (acquireLock && this.singletonLock.tryLock());
+		boolean lenientCreation = false;
 		try {
 			Object singletonObject = this.singletonObjects.get(beanName);
 			if (singletonObject == null) {
@@ -277,6 +293,15 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 					}
 				}
 
+				if (!locked) {
+					// Coordinate with other threads creating singletons outside of the singleton lock.
+					lenientCreation = acquireLenientCreation(beanName);
+					singletonObject = this.singletonObjects.get(beanName);
+					if (singletonObject != null) {
+						return singletonObject;
+					}
+				}
+
 				if (this.singletonsCurrentlyInDestruction) {
 					throw new BeanCreationNotAllowedException(beanName,
 							"Singleton bean creation not allowed while singletons of this factory are in destruction " +
@@ -326,12 +351,100 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 			return singletonObject;
 		}
 		finally {
+			if (lenientCreation) {
+				releaseLenientCreation(beanName);
+			}
 			if (locked) {
 				this.singletonLock.unlock();
 			}
 		}
 	}
 
+	/**
+	 * Register the current thread as creating the given singleton outside of the
+	 * singleton lock, waiting for any other thread currently creating the same
+	 * singleton to finish first.
+	 * @param beanName the name of the bean
+	 * @return {@code true} if the current thread has been registered for the
+	 * singleton, {@code false} if it was registered already or if the singleton
+	 * has been created by another thread in the meantime
+	 * @throws BeanCurrentlyInCreationException if waiting would lead to a
+	 * deadlock between threads creating each other's dependencies
+	 */
+	private boolean acquireLenientCreation(String beanName) {
+		Thread currentThread = Thread.currentThread();
+		this.lenientCreationLock.lock();
+		try {
+			while (!this.singletonObjects.containsKey(beanName)) {
+				Thread otherThread = this.lenientCreationThreads.putIfAbsent(beanName, currentThread);
+				if (otherThread == null) {
+					return true;
+				}
+				if (otherThread == currentThread) {
+					return false;
+				}
+				if (isWaitingFor(otherThread, currentThread)) {
+					throw new BeanCurrentlyInCreationException(beanName, "Singleton bean currently in creation " +
+							"in thread \"" + otherThread.getName() + "\" which in turn waits for singleton beans " +
+							"in creation in thread \"" + currentThread.getName() + "\": Is there a circular reference?");
+				}
+				this.lenientWaitingThreads.put(currentThread, beanName);
+				try {
+					this.lenientCreationFinished.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new BeanCreationException(beanName,
+							"Interrupted while waiting for singleton creation in other thread", ex);
+				}
+				finally {
+					this.lenientWaitingThreads.remove(currentThread);
+				}
+			}
+			return false;
+		}
+		finally {
+			this.lenientCreationLock.unlock();
+		}
+	}
+
+	/**
+	 * Determine whether the given thread waits, directly or transitively,
+	 * for a singleton in lenient creation by the given target thread.
+	 * <p>To be called within the lenient creation lock.
+	 */
+	private boolean isWaitingFor(Thread thread, Thread targetThread) {
+		Set<Thread> seen = new HashSet<>();
+		Thread current = thread;
+		while (current != null && seen.add(current)) {
+			String awaitedBean = this.lenientWaitingThreads.get(current);
+			if (awaitedBean == null) {
+				return false;
+			}
+			current = this.lenientCreationThreads.get(awaitedBean);
+			if (current == targetThread) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void releaseLenientCreation(String beanName) {
+		this.lenientCreationLock.lock();
+		try {
+			this.lenientCreationThreads.remove(beanName);
+			this.lenientCreationFinished.signalAll();
+		}
+		finally {
+			this.lenientCreationLock.unlock();
+		}
+	}
+
+	private boolean isInLenientCreationByOtherThread(String beanName) {
+		Thread thread = this.lenientCreationThreads.get(beanName);
+		return (thread != null && thread != Thread.currentThread());
+	}
+
 	/**
 	 * Determine whether the current thread is allowed to hold the singleton lock.
 	 * <p>By default, any thread may acquire and hold the singleton lock, except
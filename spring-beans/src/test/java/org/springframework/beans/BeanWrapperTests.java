@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.testfixture.beans.IndexedTestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.core.OverridingClassLoader;
 import org.springframework.core.io.DefaultResourceLoader;
@@ -299,6 +300,42 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 				.satisfies(ex -> assertThat(ex.getPossibleMatches()).isNull());
 	}
 
+	@Test
+	void fluentSetterAndPrimitiveGetter() {
+		FluentBean target = new FluentBean();
+		BeanWrapper accessor = createAccessor(target);
+		accessor.setPropertyValue("count", "5");
+		assertThat(target.count).isEqualTo(5);
+		assertThat(accessor.getPropertyValue("count")).isEqualTo(5);
+		accessor.setPropertyValue("count", 7);
+		assertThat(accessor.getPropertyValue("count")).isEqualTo(7);
+	}
+
+	@Test
+	void accessorExceptionsExposedAsCause() {
+		FluentBean target = new FluentBean();
+		BeanWrapper accessor = createAccessor(target);
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("failing", "x"))
+				.havingCause().isInstanceOf(IllegalStateException.class).withMessage("set");
+		assertThatExceptionOfType(InvalidPropertyException.class)
+				.isThrownBy(() -> accessor.getPropertyValue("failing"))
+				.withMessageContaining("Getter for property 'failing' threw exception")
+				.havingRootCause().isInstanceOf(IllegalStateException.class).withMessage("get");
+	}
+
+	@Test
+	void keyedPropertyNamesParsedRepeatedly() {
+		IndexedTestBean target = new IndexedTestBean(true);
+		BeanWrapper accessor = createAccessor(target);
+		for (int i = 0; i < 3; i++) {
+			accessor.setPropertyValue("map['key1']", "value" + i);
+			accessor.setPropertyValue("array[0].name", "name" + i);
+			assertThat(accessor.getPropertyValue("map[key1]")).isEqualTo("value" + i);
+			assertThat(accessor.getPropertyValue("array[0].name")).isEqualTo("name" + i);
+		}
+	}
+
 
 	private interface BaseProperty {
 
@@ -394,6 +431,30 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 	}
 
 
+	@SuppressWarnings("unused")
+	private static class FluentBean {
+
+		private int count;
+
+		public FluentBean setCount(int count) {
+			this.count = count;
+			return this;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setFailing(String failing) {
+			throw new IllegalStateException("set");
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException("get");
+		}
+	}
+
+
 	public static class SetterOverload {
 
 		public String value;
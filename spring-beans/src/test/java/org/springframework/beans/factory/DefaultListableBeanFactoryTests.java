@@ -1617,6 +1617,41 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanNamesForGenericTypeAgainstFrozen() {
+		ResolvableType cityRepositoryType = ResolvableType.forClassWithGenerics(Repository.class, City.class, Long.class);
+		ResolvableType otherRepositoryType = ResolvableType.forClassWithGenerics(Repository.class, TestBean.class, Long.class);
+		lbf.registerBeanDefinition("repo1", new RootBeanDefinition(CityRepository.class));
+		lbf.freezeConfiguration();
+
+		String[] beanNames = lbf.getBeanNamesForType(cityRepositoryType);
+		assertThat(beanNames).containsExactly("repo1");
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType)).isSameAs(beanNames);
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType, false, true)).containsExactly("repo1");
+		assertThat(lbf.getBeanNamesForType(otherRepositoryType)).isEmpty();
+
+		lbf.registerBeanDefinition("repo2", new RootBeanDefinition(CityRepository.class));
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType)).containsExactly("repo1", "repo2");
+
+		lbf.registerSingleton("repo3", new CityRepository());
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType)).containsExactly("repo1", "repo2", "repo3");
+		assertThat(lbf.getBeanNamesForType(otherRepositoryType)).isEmpty();
+
+		lbf.removeBeanDefinition("repo1");
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType)).containsExactly("repo2", "repo3");
+	}
+
+	@Test
+	void getBeanNamesForGenericTypeWithLateRegistrationAgainstFrozen() {
+		ResolvableType cityRepositoryType = ResolvableType.forClassWithGenerics(Repository.class, City.class, Long.class);
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType)).isEmpty();
+
+		lbf.registerBeanDefinition("repo", new RootBeanDefinition(CityRepository.class));
+		assertThat(lbf.getBeanNamesForType(cityRepositoryType)).containsExactly("repo");
+		assertThat(lbf.getBeanProvider(cityRepositoryType).stream()).singleElement().isInstanceOf(CityRepository.class);
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link DefaultListableBeanFactory#setParallelPreInstantiation}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class ParallelPreInstantiationTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4, runnable -> {
+		Thread thread = new Thread(runnable);
+		thread.setName("parallel-" + thread.getId());
+		return thread;
+	});
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@BeforeEach
+	void setup() {
+		this.beanFactory.setBootstrapExecutor(this.executor);
+		this.beanFactory.setParallelPreInstantiation(true);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void parallelPreInstantiationWithDeclaredDependencies() {
+		for (int i = 0; i < 8; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(SlowBean.class);
+			if (i > 0) {
+				bd.getPropertyValues().add("dependency", new RuntimeBeanReference("bean" + (i - 1)));
+			}
+			this.beanFactory.registerBeanDefinition("bean" + i, bd);
+		}
+		this.beanFactory.registerBeanDefinition("lazyBean", new RootBeanDefinition(SlowBean.class));
+		this.beanFactory.getBeanDefinition("lazyBean").setLazyInit(true);
+		this.beanFactory.preInstantiateSingletons();
+
+		for (int i = 0; i < 8; i++) {
+			SlowBean bean = this.beanFactory.getBean("bean" + i, SlowBean.class);
+			assertThat(bean.threadName).startsWith("parallel-");
+			if (i > 0) {
+				assertThat(bean.dependency).isSameAs(this.beanFactory.getBean("bean" + (i - 1)));
+			}
+		}
+		assertThat(this.beanFactory.containsSingleton("lazyBean")).isFalse();
+	}
+
+	@Test
+	void parallelPreInstantiationWithSharedAutowiredDependency() {
+		this.beanFactory.registerBeanDefinition("shared", new RootBeanDefinition(SharedBean.class));
+		for (int i = 0; i < 8; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i,
+					new RootBeanDefinition(SlowBean.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false));
+		}
+		this.beanFactory.preInstantiateSingletons();
+
+		SharedBean shared = this.beanFactory.getBean(SharedBean.class);
+		assertThat(shared.instanceCount).isEqualTo(1);
+		for (int i = 0; i < 8; i++) {
+			assertThat(this.beanFactory.getBean("bean" + i, SlowBean.class).shared).isSameAs(shared);
+		}
+	}
+
+	@Test
+	void parallelPreInstantiationWithCircularReferenceAcrossThreads() {
+		this.beanFactory.registerBeanDefinition("beanA",
+				new RootBeanDefinition(CircularBeanA.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false));
+		this.beanFactory.registerBeanDefinition("beanB",
+				new RootBeanDefinition(CircularBeanB.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false));
+		this.beanFactory.preInstantiateSingletons();
+
+		CircularBeanA beanA = this.beanFactory.getBean(CircularBeanA.class);
+		CircularBeanB beanB = this.beanFactory.getBean(CircularBeanB.class);
+		assertThat(beanA.beanB).isSameAs(beanB);
+		assertThat(beanB.beanA).isSameAs(beanA);
+	}
+
+	@Test
+	void smartInitializingSingletonsInvokedInMainThreadInRegistrationOrder() {
+		List<String> callbacks = Collections.synchronizedList(new ArrayList<>());
+		for (int i = 0; i < 8; i++) {
+			String name = "bean" + i;
+			this.beanFactory.registerBeanDefinition(name, new RootBeanDefinition(SmartInitializingSingleton.class,
+					() -> () -> callbacks.add(name + ":" + Thread.currentThread().getName())));
+		}
+		this.beanFactory.preInstantiateSingletons();
+
+		String mainThread = Thread.currentThread().getName();
+		assertThat(callbacks).containsExactly("bean0:" + mainThread, "bean1:" + mainThread, "bean2:" + mainThread,
+				"bean3:" + mainThread, "bean4:" + mainThread, "bean5:" + mainThread, "bean6:" + mainThread,
+				"bean7:" + mainThread);
+	}
+
+	@Test
+	void failuresReportedInRegistrationOrder() {
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(SlowBean.class));
+		}
+		this.beanFactory.registerBeanDefinition("failing1", new RootBeanDefinition(Object.class, () -> {
+			throw new IllegalStateException("first");
+		}));
+		this.beanFactory.registerBeanDefinition("failing2", new RootBeanDefinition(Object.class, () -> {
+			throw new IllegalStateException("second");
+		}));
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.satisfies(ex -> {
+					assertThat(ex.getBeanName()).isEqualTo("failing1");
+					assertThat(ex.getSuppressed()).singleElement().isInstanceOfSatisfying(BeanCreationException.class,
+							suppressed -> assertThat(suppressed.getBeanName()).isEqualTo("failing2"));
+				});
+	}
+
+	@Test
+	void mainThreadPreInstantiationWithoutBootstrapExecutor() {
+		this.beanFactory.setBootstrapExecutor(null);
+		this.beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(SlowBean.class));
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBean(SlowBean.class).threadName).isEqualTo(Thread.currentThread().getName());
+	}
+
+
+	public static class SlowBean {
+
+		final String threadName = Thread.currentThread().getName();
+
+		Object dependency;
+
+		SharedBean shared;
+
+		public SlowBean() throws InterruptedException {
+			Thread.sleep(20);
+		}
+
+		public void setDependency(Object dependency) {
+			this.dependency = dependency;
+		}
+
+		public void setShared(SharedBean shared) {
+			this.shared = shared;
+		}
+	}
+
+
+	public static class SharedBean {
+
+		private static final AtomicInteger instances = new AtomicInteger();
+
+		final int instanceCount;
+
+		public SharedBean() throws InterruptedException {
+			Thread.sleep(100);
+			this.instanceCount = instances.incrementAndGet();
+		}
+	}
+
+
+	public static class CircularBeanA {
+
+		CircularBeanB beanB;
+
+		public CircularBeanA() throws InterruptedException {
+			Thread.sleep(50);
+		}
+
+		public void setBeanB(CircularBeanB beanB) {
+			this.beanB = beanB;
+		}
+	}
+
+
+	public static class CircularBeanB {
+
+		CircularBeanA beanA;
+
+		public CircularBeanB() throws InterruptedException {
+			Thread.sleep(50);
+		}
+
+		public void setBeanA(CircularBeanA beanA) {
+			this.beanA = beanA;
+		}
+	}
+
+}
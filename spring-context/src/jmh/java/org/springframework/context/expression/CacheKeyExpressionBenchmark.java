@@ -0,0 +1,163 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Benchmark for cache key expressions, comparing interpreted and compiled SpEL
+ * evaluation against a method-based context with the key resolution performed
+ * by the caching infrastructure on a {@code @Cacheable} method.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CacheKeyExpressionBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class ExpressionState {
+
+		public final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+		public Method method;
+
+		public Object[] args;
+
+		public Expression interpreted;
+
+		public Expression compiled;
+
+		@Setup
+		public void setup() {
+			this.method = ReflectionUtils.findMethod(BookService.class, "findBook", Long.class);
+			this.args = new Object[] {42L};
+			this.interpreted = new SpelExpressionParser(
+					new SpelParserConfiguration(SpelCompilerMode.OFF, null)).parseExpression("#id");
+			this.compiled = new SpelExpressionParser(
+					new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null)).parseExpression("#id");
+			// Trigger compilation
+			this.compiled.getValue(createEvaluationContext());
+		}
+
+		public MethodBasedEvaluationContext createEvaluationContext() {
+			return new MethodBasedEvaluationContext(this, this.method, this.args, this.parameterNameDiscoverer);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class CacheableState {
+
+		public AnnotationConfigApplicationContext context;
+
+		public BookService bookService;
+
+		@Setup
+		public void setup() {
+			this.context = new AnnotationConfigApplicationContext(CachingConfig.class);
+			this.bookService = this.context.getBean(BookService.class);
+		}
+
+		@TearDown
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public void interpretedKeyExpression(ExpressionState state, Blackhole bh) {
+		bh.consume(state.interpreted.getValue(state.createEvaluationContext()));
+	}
+
+	@Benchmark
+	public void compiledKeyExpression(ExpressionState state, Blackhole bh) {
+		bh.consume(state.compiled.getValue(state.createEvaluationContext()));
+	}
+
+	@Benchmark
+	public void cacheableWithArgumentKey(CacheableState state, Blackhole bh) {
+		bh.consume(state.bookService.findBook(42L));
+	}
+
+	@Benchmark
+	public void cacheableWithKeyExpression(CacheableState state, Blackhole bh) {
+		bh.consume(state.bookService.findBookByIsbn(42L));
+	}
+
+	@Benchmark
+	public void cacheableWithKeyGenerator(CacheableState state, Blackhole bh) {
+		bh.consume(state.bookService.findBookByTitle(42L));
+	}
+
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableCaching
+	static class CachingConfig {
+
+		@Bean
+		ConcurrentMapCacheManager cacheManager() {
+			return new ConcurrentMapCacheManager();
+		}
+
+		@Bean
+		BookService bookService() {
+			return new BookService();
+		}
+	}
+
+
+	public static class BookService {
+
+		@Cacheable(cacheNames = "books", key = "#id")
+		public String findBook(Long id) {
+			return "book-" + id;
+		}
+
+		@Cacheable(cacheNames = "isbn", key = "'isbn-' + #id")
+		public String findBookByIsbn(Long id) {
+			return "isbn-" + id;
+		}
+
+		@Cacheable(cacheNames = "titles")
+		public String findBookByTitle(Long id) {
+			return "title-" + id;
+		}
+	}
+
+}
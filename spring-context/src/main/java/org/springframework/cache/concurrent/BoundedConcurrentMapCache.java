@@ -0,0 +1,879 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation based on a
+ * {@link ConcurrentHashMap} that bounds the number of entries or their total
+ * weight, expires entries after write or access, and optionally refreshes
+ * entries asynchronously once they reach a certain age.
+ *
+ * <p>Entries are evicted based on a "second chance" (clock) approximation of
+ * LRU: entries are queued in insertion order, and an entry read since it was
+ * last considered for eviction is given another round in the queue rather than
+ * being evicted. Expired entries are removed lazily when read, as well as while
+ * writing to the cache. Under concurrent writes, the cache may temporarily
+ * exceed its maximum size until the next write.
+ *
+ * <p>Hit, miss, eviction and expiration counts are recorded and exposed through
+ * {@link #getStatistics()}.
+ *
+ * <p>This is meant for simple bounded caching needs without an additional
+ * dependency. For advanced local caching, consider
+ * {@link org.springframework.cache.caffeine.CaffeineCache} instead.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see ConcurrentMapCacheManager#setCacheOptions
+ */
+public class BoundedConcurrentMapCache extends AbstractValueAdaptingCache {
+
+	private static final Log logger = LogFactory.getLog(BoundedConcurrentMapCache.class);
+
+	private final String name;
+
+	private final Options options;
+
+	private final ConcurrentMap<Object, Entry> store = new ConcurrentHashMap<>(256);
+
+	private final Queue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger evictionQueueLength = new AtomicInteger();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final AtomicLong totalWeight = new AtomicLong();
+
+	private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+	private final ConcurrentMap<Object, CompletableFuture<?>> pendingLoads = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder expirationCount = new LongAdder();
+
+	private final LongAdder refreshCount = new LongAdder();
+
+	@Nullable
+	private final SerializationDelegate serialization;
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and
+	 * maximum number of entries.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries
+	 */
+	public BoundedConcurrentMapCache(String name, long maximumSize) {
+		this(name, Options.builder().maximumSize(maximumSize).build(), true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and options.
+	 * @param name the name of the cache
+	 * @param options the bounds and expiration options to apply
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 */
+	public BoundedConcurrentMapCache(String name, Options options, boolean allowNullValues) {
+		this(name, options, allowNullValues, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and options.
+	 * If the {@link SerializationDelegate} is specified,
+	 * {@link #isStoreByValue() store-by-value} is enabled.
+	 * @param name the name of the cache
+	 * @param options the bounds and expiration options to apply
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 */
+	protected BoundedConcurrentMapCache(String name, Options options,
+			boolean allowNullValues, @Nullable SerializationDelegate serialization) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(options, "Options must not be null");
+		this.name = name;
+		this.options = options;
+		this.serialization = serialization;
+	}
+
+
+	/**
+	 * Return whether this cache stores a copy of each entry ({@code true}) or
+	 * a reference ({@code false}, default). If store by value is enabled, each
+	 * entry in the cache must be serializable.
+	 */
+	public final boolean isStoreByValue() {
+		return (this.serialization != null);
+	}
+
+	/**
+	 * Return the bounds and expiration options of this cache.
+	 */
+	public final Options getOptions() {
+		return this.options;
+	}
+
+	/**
+	 * Return the number of entries currently held by this cache, possibly
+	 * including expired entries that have not been cleaned up yet.
+	 */
+	public long getEstimatedSize() {
+		return this.store.size();
+	}
+
+	/**
+	 * Return the total weight of the entries currently held by this cache.
+	 * Equal to {@link #getEstimatedSize()} unless a weigher is configured.
+	 */
+	public long getWeightedSize() {
+		return this.totalWeight.get();
+	}
+
+	/**
+	 * Return a snapshot of the statistics recorded by this cache.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum(),
+				this.expirationCount.sum(), this.refreshCount.sum());
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	@Override
+	public final ConcurrentMap<Object, ?> getNativeCache() {
+		return this.store;
+	}
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		Entry entry = getValidEntry(key, currentTime());
+		return (entry != null ? entry.value : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		long now = currentTime();
+		Entry entry = getValidEntry(key, now);
+		if (entry != null) {
+			refreshIfNecessary(entry, now, () -> {
+				try {
+					return CompletableFuture.completedFuture(valueLoader.call());
+				}
+				catch (Throwable ex) {
+					return CompletableFuture.failedFuture(ex);
+				}
+			});
+			return (T) fromStoreValue(entry.value);
+		}
+		Entry[] replaced = new Entry[1];
+		Entry[] created = new Entry[1];
+		Entry result = this.store.compute(key, (k, existing) -> {
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			replaced[0] = existing;
+			try {
+				created[0] = createEntry(k, valueLoader.call(), now);
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+			return created[0];
+		});
+		if (replaced[0] != null) {
+			this.expirationCount.increment();
+		}
+		if (created[0] != null) {
+			onReplaced(replaced[0], created[0]);
+		}
+		return (T) fromStoreValue(result.value);
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	/**
+	 * Return the cached value for the given key, or compose the future returned
+	 * by the given value loader and store its result once completed.
+	 * <p>Concurrent retrievals for the same missing key share a single load.
+	 * A cached value due for {@linkplain Options.Builder#refreshAfterWrite refresh}
+	 * is returned while the value loader reloads it in the background.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		long now = currentTime();
+		Entry entry = getValidEntry(key, now);
+		if (entry != null) {
+			refreshIfNecessary(entry, now, valueLoader);
+			return CompletableFuture.completedFuture((T) fromStoreValue(entry.value));
+		}
+
+		CompletableFuture<Object> loading = new CompletableFuture<>();
+		CompletableFuture<?> existing = this.pendingLoads.putIfAbsent(key, loading);
+		if (existing != null) {
+			// Dependent stage: callers must not be able to complete the shared load
+			return existing.thenApply(value -> (T) value);
+		}
+
+		CompletableFuture<T> loaded;
+		try {
+			loaded = valueLoader.get();
+		}
+		catch (Throwable ex) {
+			this.pendingLoads.remove(key, loading);
+			loading.completeExceptionally(ex);
+			return CompletableFuture.failedFuture(ex);
+		}
+		loaded.whenComplete((value, ex) -> {
+			Throwable failure = ex;
+			if (failure == null) {
+				try {
+					put(key, value);
+				}
+				catch (Throwable putEx) {
+					failure = putEx;
+				}
+			}
+			this.pendingLoads.remove(key, loading);
+			if (failure != null) {
+				loading.completeExceptionally(failure);
+			}
+			else {
+				loading.complete(value);
+			}
+		});
+		return loading.thenApply(value -> (T) value);
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		Entry entry = createEntry(key, value, currentTime());
+		onReplaced(this.store.put(key, entry), entry);
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		long now = currentTime();
+		Entry[] replaced = new Entry[1];
+		Entry[] created = new Entry[1];
+		Entry result = this.store.compute(key, (k, existing) -> {
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			replaced[0] = existing;
+			created[0] = createEntry(k, value, now);
+			return created[0];
+		});
+		if (replaced[0] != null) {
+			this.expirationCount.increment();
+		}
+		if (created[0] != null) {
+			onReplaced(replaced[0], created[0]);
+			return null;
+		}
+		return toValueWrapper(result.value);
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		Entry entry = this.store.remove(key);
+		if (entry != null) {
+			onRemoved(entry);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean notEmpty = false;
+		for (Object key : this.store.keySet()) {
+			notEmpty |= evictIfPresent(key);
+		}
+		return notEmpty;
+	}
+
+	/**
+	 * Remove all expired entries, and evict entries if this cache is over
+	 * its maximum size or weight.
+	 * <p>This happens as part of regular write operations already but may be
+	 * triggered explicitly for caches that are mostly read from.
+	 */
+	public void cleanUp() {
+		this.evictionLock.lock();
+		try {
+			long now = currentTime();
+			for (Entry entry : this.store.values()) {
+				if (isExpired(entry, now)) {
+					removeExpired(entry);
+				}
+			}
+			evictEntries(now);
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	@Override
+	protected Object toStoreValue(@Nullable Object userValue) {
+		Object storeValue = super.toStoreValue(userValue);
+		if (this.serialization != null) {
+			try {
+				return this.serialization.serializeToByteArray(storeValue);
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+						"'. Does it implement Serializable?", ex);
+			}
+		}
+		else {
+			return storeValue;
+		}
+	}
+
+	@Override
+	@Nullable
+	protected Object fromStoreValue(@Nullable Object storeValue) {
+		if (storeValue != null && this.serialization != null) {
+			try {
+				return super.fromStoreValue(this.serialization.deserializeFromByteArray((byte[]) storeValue));
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to deserialize cache value '" + storeValue + "'", ex);
+			}
+		}
+		else {
+			return super.fromStoreValue(storeValue);
+		}
+	}
+
+
+	private long currentTime() {
+		return (this.options.hasTimeBasedPolicy() ? this.options.clock.millis() : 0L);
+	}
+
+	@Nullable
+	private Entry getValidEntry(Object key, long now) {
+		Entry entry = this.store.get(key);
+		if (entry == null) {
+			this.missCount.increment();
+			return null;
+		}
+		if (isExpired(entry, now)) {
+			removeExpired(entry);
+			this.missCount.increment();
+			return null;
+		}
+		entry.accessed = true;
+		if (this.options.expireAfterAccess > 0) {
+			entry.accessTime = now;
+		}
+		this.hitCount.increment();
+		return entry;
+	}
+
+	private boolean isExpired(Entry entry, long now) {
+		return ((this.options.expireAfterWrite > 0 && now - entry.writeTime >= this.options.expireAfterWrite) ||
+				(this.options.expireAfterAccess > 0 && now - entry.accessTime >= this.options.expireAfterAccess));
+	}
+
+	private void removeExpired(Entry entry) {
+		if (this.store.remove(entry.key, entry)) {
+			onRemoved(entry);
+			this.expirationCount.increment();
+		}
+	}
+
+	private Entry createEntry(Object key, @Nullable Object userValue, long now) {
+		long weight = (this.options.weigher != null ? this.options.weigher.applyAsLong(key, userValue) : 1);
+		Assert.state(weight >= 0, "Weigher must not return a negative weight");
+		return new Entry(key, toStoreValue(userValue), weight, now);
+	}
+
+	private void refreshIfNecessary(Entry entry, long now, Supplier<? extends CompletableFuture<?>> valueLoader) {
+		long refreshAfterWrite = this.options.refreshAfterWrite;
+		if (refreshAfterWrite <= 0 || now - entry.writeTime < refreshAfterWrite ||
+				!this.refreshingKeys.add(entry.key)) {
+			return;
+		}
+		try {
+			this.options.refreshExecutor.execute(() -> {
+				CompletableFuture<?> loaded;
+				try {
+					loaded = valueLoader.get();
+				}
+				catch (Throwable ex) {
+					loaded = CompletableFuture.failedFuture(ex);
+				}
+				loaded.thenAccept(value -> {
+					Entry refreshed = createEntry(entry.key, value, currentTime());
+					if (this.store.replace(entry.key, entry, refreshed)) {
+						this.refreshCount.increment();
+						onReplaced(entry, refreshed);
+					}
+				}).whenComplete((result, ex) -> {
+					this.refreshingKeys.remove(entry.key);
+					if (ex != null && logger.isDebugEnabled()) {
+						logger.debug("Failed to refresh entry for key '" + entry.key + "' in cache '" + this.name + "'",
+								(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
+					}
+				});
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.refreshingKeys.remove(entry.key);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refresh of entry for key '" + entry.key + "' in cache '" + this.name +
+						"' rejected by executor", ex);
+			}
+		}
+	}
+
+	private void onReplaced(@Nullable Entry oldEntry, Entry newEntry) {
+		if (oldEntry != null) {
+			onRemoved(oldEntry);
+		}
+		this.totalWeight.addAndGet(newEntry.weight);
+		if (this.options.isBounded() || this.options.hasExpiration()) {
+			this.evictionQueue.offer(newEntry);
+			this.evictionQueueLength.incrementAndGet();
+			afterWrite();
+		}
+	}
+
+	private void onRemoved(Entry entry) {
+		this.totalWeight.addAndGet(-entry.weight);
+	}
+
+	private void afterWrite() {
+		if (isOverCapacity()) {
+			this.evictionLock.lock();
+		}
+		else if (!this.evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			long now = currentTime();
+			expireEntries(now);
+			evictEntries(now);
+			purgeEvictionQueue();
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	private boolean isOverCapacity() {
+		return ((this.options.maximumSize > 0 && this.store.size() > this.options.maximumSize) ||
+				(this.options.maximumWeight > 0 && this.totalWeight.get() > this.options.maximumWeight));
+	}
+
+	/**
+	 * Remove expired entries from the head of the eviction queue, i.e. the
+	 * least recently written ones. Must be called with the eviction lock held.
+	 */
+	private void expireEntries(long now) {
+		if (!this.options.hasExpiration()) {
+			return;
+		}
+		Entry entry;
+		while ((entry = this.evictionQueue.peek()) != null) {
+			if (this.store.get(entry.key) == entry && !isExpired(entry, now)) {
+				return;
+			}
+			this.evictionQueue.poll();
+			this.evictionQueueLength.decrementAndGet();
+			if (isExpired(entry, now)) {
+				removeExpired(entry);
+			}
+		}
+	}
+
+	/**
+	 * Evict entries while the cache is over its maximum size or weight.
+	 * Must be called with the eviction lock held.
+	 */
+	private void evictEntries(long now) {
+		int secondChances = this.evictionQueueLength.get();
+		while (isOverCapacity()) {
+			Entry entry = this.evictionQueue.poll();
+			if (entry == null) {
+				return;
+			}
+			this.evictionQueueLength.decrementAndGet();
+			if (this.store.get(entry.key) != entry) {
+				// Stale queue element for a replaced or removed entry
+				continue;
+			}
+			if (isExpired(entry, now)) {
+				removeExpired(entry);
+			}
+			else if (entry.accessed && secondChances-- > 0) {
+				entry.accessed = false;
+				this.evictionQueue.offer(entry);
+				this.evictionQueueLength.incrementAndGet();
+			}
+			else if (this.store.remove(entry.key, entry)) {
+				onRemoved(entry);
+				this.evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Drop queue elements for replaced or removed entries once they make up
+	 * the majority of the queue. Must be called with the eviction lock held.
+	 */
+	private void purgeEvictionQueue() {
+		if (this.evictionQueueLength.get() > 2 * this.store.size() + 64) {
+			this.evictionQueue.removeIf(entry -> {
+				if (this.store.get(entry.key) != entry) {
+					this.evictionQueueLength.decrementAndGet();
+					return true;
+				}
+				return false;
+			});
+		}
+	}
+
+
+	private static final class Entry {
+
+		final Object key;
+
+		final Object value;
+
+		final long weight;
+
+		final long writeTime;
+
+		volatile long accessTime;
+
+		volatile boolean accessed;
+
+		Entry(Object key, Object value, long weight, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = writeTime;
+			this.accessTime = writeTime;
+		}
+	}
+
+
+	/**
+	 * Bounds and expiration options for a {@link BoundedConcurrentMapCache}.
+	 * Use {@link #builder()} to create an instance.
+	 */
+	public static final class Options {
+
+		private final long maximumSize;
+
+		private final long maximumWeight;
+
+		@Nullable
+		private final ToLongBiFunction<Object, Object> weigher;
+
+		private final long expireAfterWrite;
+
+		private final long expireAfterAccess;
+
+		private final long refreshAfterWrite;
+
+		private final Executor refreshExecutor;
+
+		private final Clock clock;
+
+		private Options(Builder builder) {
+			this.maximumSize = builder.maximumSize;
+			this.maximumWeight = builder.maximumWeight;
+			this.weigher = builder.weigher;
+			this.expireAfterWrite = toMillis(builder.expireAfterWrite);
+			this.expireAfterAccess = toMillis(builder.expireAfterAccess);
+			this.refreshAfterWrite = toMillis(builder.refreshAfterWrite);
+			this.refreshExecutor = builder.refreshExecutor;
+			this.clock = builder.clock;
+		}
+
+		private static long toMillis(@Nullable Duration duration) {
+			return (duration != null ? Math.max(duration.toMillis(), 1) : 0);
+		}
+
+		/**
+		 * Return the maximum number of entries, or 0 if not bounded by size.
+		 */
+		public long getMaximumSize() {
+			return this.maximumSize;
+		}
+
+		/**
+		 * Return the maximum total weight of all entries, or 0 if not bounded by weight.
+		 */
+		public long getMaximumWeight() {
+			return this.maximumWeight;
+		}
+
+		/**
+		 * Return the time after which entries expire once written, or {@code null} if none.
+		 */
+		@Nullable
+		public Duration getExpireAfterWrite() {
+			return (this.expireAfterWrite > 0 ? Duration.ofMillis(this.expireAfterWrite) : null);
+		}
+
+		/**
+		 * Return the time after which entries expire once last read or written,
+		 * or {@code null} if none.
+		 */
+		@Nullable
+		public Duration getExpireAfterAccess() {
+			return (this.expireAfterAccess > 0 ? Duration.ofMillis(this.expireAfterAccess) : null);
+		}
+
+		/**
+		 * Return the time after which entries are asynchronously refreshed once
+		 * written, or {@code null} if none.
+		 */
+		@Nullable
+		public Duration getRefreshAfterWrite() {
+			return (this.refreshAfterWrite > 0 ? Duration.ofMillis(this.refreshAfterWrite) : null);
+		}
+
+		boolean isBounded() {
+			return (this.maximumSize > 0 || this.maximumWeight > 0);
+		}
+
+		boolean hasExpiration() {
+			return (this.expireAfterWrite > 0 || this.expireAfterAccess > 0);
+		}
+
+		boolean hasTimeBasedPolicy() {
+			return (hasExpiration() || this.refreshAfterWrite > 0);
+		}
+
+		/**
+		 * Create a new {@link Builder} for cache options.
+		 */
+		public static Builder builder() {
+			return new Builder();
+		}
+
+
+		/**
+		 * Builder for {@link Options}.
+		 */
+		public static final class Builder {
+
+			private long maximumSize;
+
+			private long maximumWeight;
+
+			@Nullable
+			private ToLongBiFunction<Object, Object> weigher;
+
+			@Nullable
+			private Duration expireAfterWrite;
+
+			@Nullable
+			private Duration expireAfterAccess;
+
+			@Nullable
+			private Duration refreshAfterWrite;
+
+			private Executor refreshExecutor = ForkJoinPool.commonPool();
+
+			private Clock clock = Clock.systemUTC();
+
+			private Builder() {
+			}
+
+			/**
+			 * Set the maximum number of entries in the cache.
+			 */
+			public Builder maximumSize(long maximumSize) {
+				Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+				this.maximumSize = maximumSize;
+				return this;
+			}
+
+			/**
+			 * Set the maximum total weight of the entries in the cache, as
+			 * determined by the given weigher.
+			 * @param maximumWeight the maximum total weight
+			 * @param weigher function to determine the weight of an entry from
+			 * its key and its user-level value, which may be {@code null}
+			 */
+			public Builder maximumWeight(long maximumWeight, ToLongBiFunction<Object, Object> weigher) {
+				Assert.isTrue(maximumWeight > 0, "Maximum weight must be positive");
+				Assert.notNull(weigher, "Weigher must not be null");
+				this.maximumWeight = maximumWeight;
+				this.weigher = weigher;
+				return this;
+			}
+
+			/**
+			 * Expire entries once the given time has elapsed after they were written.
+			 */
+			public Builder expireAfterWrite(Duration expireAfterWrite) {
+				Assert.isTrue(expireAfterWrite.compareTo(Duration.ZERO) > 0, "Expiration must be positive");
+				this.expireAfterWrite = expireAfterWrite;
+				return this;
+			}
+
+			/**
+			 * Expire entries once the given time has elapsed after they were last
+			 * read or written.
+			 */
+			public Builder expireAfterAccess(Duration expireAfterAccess) {
+				Assert.isTrue(expireAfterAccess.compareTo(Duration.ZERO) > 0, "Expiration must be positive");
+				this.expireAfterAccess = expireAfterAccess;
+				return this;
+			}
+
+			/**
+			 * Asynchronously reload entries that are read through a value loader
+			 * once the given time has elapsed after they were written, returning
+			 * the current value in the meantime.
+			 * @see org.springframework.cache.Cache#get(Object, Callable)
+			 * @see org.springframework.cache.Cache#retrieve(Object, Supplier)
+			 */
+			public Builder refreshAfterWrite(Duration refreshAfterWrite) {
+				Assert.isTrue(refreshAfterWrite.compareTo(Duration.ZERO) > 0, "Refresh interval must be positive");
+				this.refreshAfterWrite = refreshAfterWrite;
+				return this;
+			}
+
+			/**
+			 * Set the executor to refresh entries with.
+			 * <p>By default, the {@link ForkJoinPool#commonPool()} is used.
+			 */
+			public Builder refreshExecutor(Executor refreshExecutor) {
+				Assert.notNull(refreshExecutor, "Executor must not be null");
+				this.refreshExecutor = refreshExecutor;
+				return this;
+			}
+
+			/**
+			 * Set the clock to determine entry expiration and refresh with.
+			 * <p>By default, the {@link Clock#systemUTC() system clock} is used.
+			 */
+			public Builder clock(Clock clock) {
+				Assert.notNull(clock, "Clock must not be null");
+				this.clock = clock;
+				return this;
+			}
+
+			/**
+			 * Build the {@link Options}.
+			 */
+			public Options build() {
+				return new Options(this);
+			}
+		}
+	}
+
+
+	/**
+	 * Snapshot of the statistics of a {@link BoundedConcurrentMapCache}.
+	 * @param hitCount the number of lookups that found a valid entry
+	 * @param missCount the number of lookups that found no valid entry
+	 * @param evictionCount the number of entries evicted because of size or weight
+	 * @param expirationCount the number of entries removed because they expired
+	 * @param refreshCount the number of entries successfully refreshed
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount,
+			long expirationCount, long refreshCount) {
+
+		/**
+		 * Return the number of lookups.
+		 */
+		public long requestCount() {
+			return this.hitCount + this.missCount;
+		}
+
+		/**
+		 * Return the ratio of lookups that found a valid entry, or 1.0 if there
+		 * were no lookups yet.
+		 */
+		public double hitRate() {
+			long requestCount = requestCount();
+			return (requestCount != 0 ? (double) this.hitCount / requestCount : 1.0);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,9 +40,13 @@ import org.springframework.lang.Nullable;
  * {@link Cache#retrieve(Object, Supplier)} operations through basic
  * {@code CompletableFuture} adaptation, with early-determined cache misses.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
- * cache configuration options. However, it may be useful for testing or simple
- * caching scenarios. For advanced local caching needs, consider
+ * <p>Caches are unbounded by default. Alternatively, {@link #setCacheOptions}
+ * can be used to create {@link BoundedConcurrentMapCache} instances instead,
+ * with a maximum size or weight as well as expiration of entries.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with
+ * only basic cache configuration options. However, it may be useful for testing
+ * or simple caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager} or
  * {@link org.springframework.cache.jcache.JCacheCacheManager}.
  *
@@ -60,6 +64,9 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 
 	private boolean storeByValue = false;
 
+	@Nullable
+	private BoundedConcurrentMapCache.Options cacheOptions;
+
 	@Nullable
 	private SerializationDelegate serialization;
 
@@ -150,6 +157,33 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify the options to build {@link BoundedConcurrentMapCache} instances
+	 * with, bounding each cache in size or weight and/or expiring its entries.
+	 * <p>Default is none, creating unbounded {@link ConcurrentMapCache} instances.
+	 * <p>Note: A change of the cache options will reset all existing caches,
+	 * if any, to reconfigure them with the new options.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache.Options#builder()
+	 */
+	public void setCacheOptions(@Nullable BoundedConcurrentMapCache.Options cacheOptions) {
+		if (cacheOptions != this.cacheOptions) {
+			this.cacheOptions = cacheOptions;
+			// Need to recreate all Cache instances with the new options...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the options to build {@link BoundedConcurrentMapCache} instances
+	 * with, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public BoundedConcurrentMapCache.Options getCacheOptions() {
+		return this.cacheOptions;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -182,12 +216,17 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	}
 
 	/**
-	 * Create a new ConcurrentMapCache instance for the specified cache name.
+	 * Create a new ConcurrentMapCache instance for the specified cache name,
+	 * or a {@link BoundedConcurrentMapCache} if {@link #setCacheOptions cache
+	 * options} have been specified.
 	 * @param name the name of the cache
 	 * @return the ConcurrentMapCache (or a decorator thereof)
 	 */
 	protected Cache createConcurrentMapCache(String name) {
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
+		if (this.cacheOptions != null) {
+			return new BoundedConcurrentMapCache(name, this.cacheOptions, isAllowNullValues(), actualSerialization);
+		}
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
 	}
 
@@ -25,7 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -54,6 +56,7 @@ import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.SpringProperties;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.standard.ExpressionCache;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -124,6 +127,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private final Map<CacheOperationCacheKey, CacheOperationMetadata> metadataCache = new ConcurrentHashMap<>(1024);
 
+	private final ConcurrentMap<InFlightLoadKey, CompletableFuture<?>> inFlightLoads = new ConcurrentHashMap<>(64);
+
 	private final StandardEvaluationContext originalEvaluationContext = new StandardEvaluationContext();
 
 	private final CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator(
@@ -283,6 +288,9 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 						+ "register a CacheManager bean or remove the @EnableCaching annotation from your configuration.");
 			}
 		}
+		if (this.beanFactory != null) {
+			this.beanFactory.getBeanProvider(ExpressionCache.class).ifUnique(this.evaluator::setExpressionCache);
+		}
 		this.initialized = true;
 	}
 
@@ -447,7 +455,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
 			Cache cache = context.getCaches().iterator().next();
 			if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
-				return cache.retrieve(key, () -> (CompletableFuture<?>) invokeOperation(invoker));
+				return retrieveSynchronized(cache, key, () -> (CompletableFuture<?>) invokeOperation(invoker));
 			}
 			if (this.reactiveCachingHandler != null) {
 				Object returnValue = this.reactiveCachingHandler.executeSynchronized(invoker, method, cache, key);
@@ -455,21 +463,103 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 					return returnValue;
 				}
 			}
+			return wrapCacheValue(method, getSynchronized(cache, key, invoker));
+		}
+		else {
+			// No caching required, just call the underlying method
+			return invokeOperation(invoker);
+		}
+	}
+
+	/**
+	 * Obtain the value for the given key through {@link Cache#get(Object, java.util.concurrent.Callable)},
+	 * coalescing concurrent misses for the same cache and key into a single invocation.
+	 * <p>Callers that find a load in flight wait on its result rather than on the
+	 * cache, so that virtual threads are able to unmount while waiting. Once the
+	 * load has completed, they read the value from the cache, so that each of them
+	 * receives its own instance from a cache storing values by value.
+	 */
+	@Nullable
+	private Object getSynchronized(Cache cache, Object key, CacheOperationInvoker invoker) {
+		InFlightLoadKey loadKey = new InFlightLoadKey(cache, key);
+		SynchronizedLoad load = new SynchronizedLoad();
+		CompletableFuture<?> existingLoad = this.inFlightLoads.putIfAbsent(loadKey, load);
+		// A nested invocation for the same key from the loading thread itself
+		// goes straight to the cache, as waiting on its own load would never end
+		if (existingLoad != null && !(existingLoad instanceof SynchronizedLoad synchronizedLoad &&
+				synchronizedLoad.owner == Thread.currentThread())) {
+			Object value;
 			try {
-				return wrapCacheValue(method, cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker))));
+				value = existingLoad.join();
 			}
-			catch (Cache.ValueRetrievalException ex) {
-				// Directly propagate ThrowableWrapper from the invoker,
-				// or potentially also an IllegalArgumentException etc.
+			catch (CompletionException ex) {
 				ReflectionUtils.rethrowRuntimeException(ex.getCause());
 				// Never reached
 				return null;
 			}
+			// Fall back to the loaded value if the cache did not retain it
+			Cache.ValueWrapper wrapper = doGet(cache, key);
+			return (wrapper != null ? wrapper.get() : value);
+		}
+		try {
+			Object value = cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker)));
+			load.complete(value);
+			return value;
+		}
+		catch (Cache.ValueRetrievalException ex) {
+			// Directly propagate ThrowableWrapper from the invoker,
+			// or potentially also an IllegalArgumentException etc.
+			load.completeExceptionally(ex.getCause());
+			ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			// Never reached
+			return null;
 		}
-		else {
-			// No caching required, just call the underlying method
-			return invokeOperation(invoker);
+		catch (Throwable ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightLoads.remove(loadKey, load);
+		}
+	}
+
+	/**
+	 * Obtain the value for the given key through {@link Cache#retrieve(Object, Supplier)},
+	 * coalescing concurrent misses for the same cache and key into a single invocation.
+	 * <p>Each caller receives its own dependent future, so that cancelling one of
+	 * them does not affect the shared load or any other caller.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<T> retrieveSynchronized(
+			Cache cache, Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		InFlightLoadKey loadKey = new InFlightLoadKey(cache, key);
+		CompletableFuture<?> load = this.inFlightLoads.get(loadKey);
+		if (load == null) {
+			CompletableFuture<Object> newLoad = new CompletableFuture<>();
+			load = this.inFlightLoads.putIfAbsent(loadKey, newLoad);
+			if (load == null) {
+				try {
+					cache.retrieve(key, valueLoader).whenComplete((value, ex) -> {
+						if (ex != null) {
+							newLoad.completeExceptionally(ex);
+						}
+						else {
+							newLoad.complete(value);
+						}
+					});
+				}
+				catch (Throwable ex) {
+					newLoad.completeExceptionally(
+							ex instanceof CacheOperationInvoker.ThrowableWrapper wrapper ? wrapper.getOriginal() : ex);
+					this.inFlightLoads.remove(loadKey, newLoad);
+					throw ex;
+				}
+				newLoad.whenComplete((value, ex) -> this.inFlightLoads.remove(loadKey, newLoad));
+				load = newLoad;
+			}
 		}
+		return (CompletableFuture<T>) load.copy();
 	}
 
 	/**
@@ -913,9 +1003,18 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		 */
 		@Nullable
 		protected Object generateKey(@Nullable Object result) {
-			if (StringUtils.hasText(this.metadata.operation.getKey())) {
-				EvaluationContext evaluationContext = createEvaluationContext(result);
-				this.key = evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey, evaluationContext);
+			String keyExpression = this.metadata.operation.getKey();
+			if (StringUtils.hasText(keyExpression)) {
+				int argumentIndex = evaluator.keyArgumentIndex(
+						keyExpression, this.metadata.methodKey, this.metadata.targetMethod);
+				if (argumentIndex != CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX) {
+					// Plain reference to a method argument: no evaluation necessary
+					this.key = (argumentIndex < this.args.length ? this.args[argumentIndex] : null);
+				}
+				else {
+					EvaluationContext evaluationContext = createEvaluationContext(result);
+					this.key = evaluator.key(keyExpression, this.metadata.methodKey, evaluationContext);
+				}
 			}
 			else {
 				this.key = this.metadata.keyGenerator.generate(this.target, this.metadata.method, this.args);
@@ -995,6 +1094,35 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Key for a value load in flight, identifying the target cache instance
+	 * along with the key within that cache.
+	 */
+	private record InFlightLoadKey(Cache cache, Object key) {
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof InFlightLoadKey that &&
+					this.cache == that.cache && this.key.equals(that.key)));
+		}
+
+		@Override
+		public int hashCode() {
+			return (System.identityHashCode(this.cache) * 31 + this.key.hashCode());
+		}
+	}
+
+
+	/**
+	 * Value load in flight through {@link Cache#get(Object, java.util.concurrent.Callable)},
+	 * performed by the owner thread.
+	 */
+	private static final class SynchronizedLoad extends CompletableFuture<Object> {
+
+		private final Thread owner = Thread.currentThread();
+	}
+
+
 	private class CachePutRequest {
 
 		private final CacheOperationContext context;
@@ -1089,19 +1217,19 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				if (adapter.isMultiValue()) {
 					// Flux or similar
 					return adapter.fromPublisher(Flux.from(Mono.fromFuture(
-							cache.retrieve(key,
+							retrieveSynchronized(cache, key,
 									() -> Flux.from(adapter.toPublisher(invokeOperation(invoker))).collectList().toFuture())))
 							.flatMap(Flux::fromIterable));
 				}
 				else {
 					// Mono or similar
 					return adapter.fromPublisher(Mono.fromFuture(
-							cache.retrieve(key,
+							retrieveSynchronized(cache, key,
 									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).toFuture())));
 				}
 			}
 			if (KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method)) {
-				return Mono.fromFuture(cache.retrieve(key, () -> {
+				return Mono.fromFuture(retrieveSynchronized(cache, key, () -> {
 					Mono<?> mono = ((Mono<?>) invokeOperation(invoker));
 					if (mono == null) {
 						mono = Mono.empty();
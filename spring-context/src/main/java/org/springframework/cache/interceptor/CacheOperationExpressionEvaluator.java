@@ -24,8 +24,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.cache.Cache;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.CachedExpressionEvaluator;
+import org.springframework.core.KotlinDetector;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.lang.Nullable;
 
 /**
@@ -58,6 +61,11 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 	 */
 	public static final String RESULT_VARIABLE = "result";
 
+	/**
+	 * Indicate that a key expression does not refer to a single method argument.
+	 */
+	static final int NO_ARGUMENT_INDEX = -1;
+
 
 	private final Map<ExpressionKey, Expression> keyCache = new ConcurrentHashMap<>(64);
 
@@ -65,6 +73,8 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 
 	private final Map<ExpressionKey, Expression> unlessCache = new ConcurrentHashMap<>(64);
 
+	private final Map<ArgumentIndexKey, Integer> keyArgumentIndexCache = new ConcurrentHashMap<>(64);
+
 	private final CacheEvaluationContextFactory evaluationContextFactory;
 
 	public CacheOperationExpressionEvaluator(CacheEvaluationContextFactory evaluationContextFactory) {
@@ -106,6 +116,50 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		return getExpression(this.keyCache, methodKey, keyExpression).getValue(evalContext);
 	}
 
+	/**
+	 * Determine whether the specified key expression is a plain reference to a
+	 * method argument, such as {@code #id}, {@code #p0} or {@code #a0}.
+	 * <p>The key for such an expression can be read straight from the method
+	 * arguments, without creating an {@link EvaluationContext} for the invocation.
+	 * @param keyExpression the key expression
+	 * @param methodKey the key of the method the expression is defined on
+	 * @param targetMethod the target method the arguments are resolved against
+	 * @return the index of the referenced argument, or {@link #NO_ARGUMENT_INDEX}
+	 * if the expression needs to be evaluated
+	 */
+	public int keyArgumentIndex(String keyExpression, AnnotatedElementKey methodKey, Method targetMethod) {
+		// Keyed per method: a shared expression cache returns the same expression for any method
+		return this.keyArgumentIndexCache.computeIfAbsent(new ArgumentIndexKey(methodKey, keyExpression), key ->
+				determineArgumentIndex(getExpression(this.keyCache, methodKey, keyExpression), targetMethod));
+	}
+
+	private int determineArgumentIndex(Expression expression, Method targetMethod) {
+		if (!(expression instanceof SpelExpression spelExpression &&
+				spelExpression.getAST() instanceof VariableReference variableReference) ||
+				KotlinDetector.isSuspendingFunction(targetMethod)) {
+			return NO_ARGUMENT_INDEX;
+		}
+		String name = variableReference.toStringAST().substring(1);
+		if (name.equals("root") || name.equals("this") || name.equals(RESULT_VARIABLE)) {
+			return NO_ARGUMENT_INDEX;
+		}
+		// Same resolution as MethodBasedEvaluationContext: the last match wins
+		String[] paramNames = getParameterNameDiscoverer().getParameterNames(targetMethod);
+		int paramCount = (paramNames != null ? paramNames.length : targetMethod.getParameterCount());
+		int index = NO_ARGUMENT_INDEX;
+		for (int i = 0; i < paramCount; i++) {
+			if (name.equals("a" + i) || name.equals("p" + i) ||
+					(paramNames != null && name.equals(paramNames[i]))) {
+				index = i;
+			}
+		}
+		if (index == paramCount - 1 && targetMethod.isVarArgs()) {
+			// Variable arguments are exposed as an array
+			return NO_ARGUMENT_INDEX;
+		}
+		return index;
+	}
+
 	public boolean condition(String conditionExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
 		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
 				evalContext, Boolean.class)));
@@ -123,6 +177,14 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		this.keyCache.clear();
 		this.conditionCache.clear();
 		this.unlessCache.clear();
+		this.keyArgumentIndexCache.clear();
+	}
+
+
+	/**
+	 * Key for the argument index of a key expression on a specific method.
+	 */
+	private record ArgumentIndexKey(AnnotatedElementKey methodKey, String keyExpression) {
 	}
 
 }
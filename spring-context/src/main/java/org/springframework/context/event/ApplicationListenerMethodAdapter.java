@@ -93,6 +93,8 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 
 	private final boolean defaultExecution;
 
+	private final boolean batch;
+
 	private final int order;
 
 	@Nullable
@@ -122,6 +124,7 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann);
 		this.condition = (ann != null ? ann.condition() : null);
 		this.defaultExecution = (ann == null || ann.defaultExecution());
+		this.batch = (ann != null && ann.batch());
 		this.order = resolveOrder(this.targetMethod);
 		String id = (ann != null ? ann.id() : "");
 		this.listenerId = (!id.isEmpty() ? id : null);
@@ -133,6 +136,11 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			throw new IllegalStateException(
 					"Maximum one parameter is allowed for event listener method: " + method);
 		}
+		boolean batch = (ann != null && ann.batch());
+		if (batch && (count == 0 || !method.getParameterTypes()[0].isAssignableFrom(List.class))) {
+			throw new IllegalStateException(
+					"List parameter is mandatory for batch event listener method: " + method);
+		}
 
 		if (ann != null) {
 			Class<?>[] classes = ann.classes();
@@ -149,7 +157,13 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			throw new IllegalStateException(
 					"Event parameter is mandatory for event listener method: " + method);
 		}
-		return Collections.singletonList(ResolvableType.forMethodParameter(method, 0));
+		ResolvableType parameterType = ResolvableType.forMethodParameter(method, 0);
+		if (batch) {
+			ResolvableType elementType = parameterType.getGeneric();
+			return Collections.singletonList(
+					elementType.resolve() != null ? elementType : ResolvableType.forClass(Object.class));
+		}
+		return Collections.singletonList(parameterType);
 	}
 
 	private static int resolveOrder(Method method) {
@@ -242,6 +256,16 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		return this.defaultExecution;
 	}
 
+	/**
+	 * Return whether the target listener method consumes events in batches.
+	 * @since 6.2
+	 * @see EventListener#batch()
+	 * @see #processEvents
+	 */
+	public boolean isBatchListener() {
+		return this.batch;
+	}
+
 
 	/**
 	 * Process the specified {@link ApplicationEvent}, checking if the condition
@@ -261,6 +285,41 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		}
 	}
 
+	/**
+	 * Process the specified batch of {@link ApplicationEvent ApplicationEvents},
+	 * as queued up for this listener by a batching multicaster.
+	 * <p>For a {@linkplain #isBatchListener() batch listener}, all events that
+	 * match the condition are delivered to the listener method in a single
+	 * invocation. Otherwise, each event is processed individually.
+	 * @param events the events to process through the listener method
+	 * @since 6.2
+	 * @see BatchingApplicationEventMulticaster
+	 */
+	public void processEvents(List<? extends ApplicationEvent> events) {
+		if (!isBatchListener()) {
+			for (ApplicationEvent event : events) {
+				processEvent(event);
+			}
+			return;
+		}
+		List<Object> batch = new ArrayList<>(events.size());
+		for (ApplicationEvent event : events) {
+			Object[] args = resolveArguments(event);
+			if (args != null && shouldHandle(event, args)) {
+				batch.addAll((Collection<?>) args[0]);
+			}
+		}
+		if (!batch.isEmpty()) {
+			Object result = doInvoke(batch);
+			if (result != null) {
+				handleResult(result);
+			}
+			else {
+				logger.trace("No result object given - no result to handle");
+			}
+		}
+	}
+
 	/**
 	 * Determine whether the listener method would actually handle the given
 	 * event, checking if the condition matches.
@@ -289,6 +348,8 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	 * <p>These arguments will be used to invoke the method handled by this instance.
 	 * Can return {@code null} to indicate that no suitable arguments could be resolved
 	 * and therefore the method should not be invoked at all for the specified event.
+	 * <p>For a {@linkplain #isBatchListener() batch listener}, the event argument
+	 * is exposed as a singleton list.
 	 */
 	@Nullable
 	protected Object[] resolveArguments(ApplicationEvent event) {
@@ -299,15 +360,16 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		if (this.method.getParameterCount() == 0) {
 			return new Object[0];
 		}
+		Object arg = event;
 		Class<?> declaredEventClass = declaredEventType.toClass();
 		if (!ApplicationEvent.class.isAssignableFrom(declaredEventClass) &&
 				event instanceof PayloadApplicationEvent<?> payloadEvent) {
 			Object payload = payloadEvent.getPayload();
 			if (declaredEventClass.isInstance(payload)) {
-				return new Object[] {payload};
+				arg = payload;
 			}
 		}
-		return new Object[] {event};
+		return new Object[] {this.batch ? Collections.singletonList(arg) : arg};
 	}
 
 	@SuppressWarnings({"deprecation", "unchecked"})
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * {@link ApplicationEventMulticaster} implementation that hands events to each
+ * listener through a bounded queue of its own, drained by a task on the
+ * listener's executor, decoupling high-frequency event publication from the
+ * processing of those events.
+ *
+ * <p>Each listener receives its events in publication order, with different
+ * listeners processing events concurrently with each other and with the
+ * publisher. Events that accumulate while a listener is busy are coalesced
+ * into batches of up to {@link #setMaxBatchSize maxBatchSize} events which
+ * are delivered in a single invocation to {@link EventListener#batch() batch}
+ * listener methods declaring a {@code List<E>} parameter, and one by one to
+ * any other listener.
+ *
+ * <p>Once a listener queue reaches its {@link #setQueueCapacity capacity},
+ * the publishing thread blocks until the listener catches up, applying
+ * back-pressure to the event source. Events published from within a listener
+ * while the target queue is full get queued beyond its capacity instead, in
+ * order to not have listener threads wait for each other; the same applies to
+ * a publishing thread which gets interrupted while waiting. A listener with a
+ * queue is never invoked outside of that queue, so it is never invoked
+ * concurrently with itself.
+ *
+ * <p>Listener queues are drained on the {@link #setTaskExecutor task executor},
+ * defaulting to a {@link SimpleAsyncTaskExecutor} (consider switching that one
+ * to {@link SimpleAsyncTaskExecutor#setVirtualThreads virtual threads} on
+ * Java 21). Individual listeners can be given executors of their own through
+ * {@link #setListenerExecutors}. {@link ApplicationListener ApplicationListeners}
+ * which declare no support for asynchronous execution are invoked in the
+ * publishing thread, as with {@link SimpleApplicationEventMulticaster}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see EventListener#batch()
+ * @see ApplicationListenerMethodAdapter#processEvents
+ */
+public class BatchingApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+	/**
+	 * The default capacity of each listener queue: 1024.
+	 * @see #setQueueCapacity
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * The default maximum number of events to deliver at once: 256.
+	 * @see #setMaxBatchSize
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+
+	private static final Log logger = LogFactory.getLog(BatchingApplicationEventMulticaster.class);
+
+	private Map<String, Executor> listenerExecutors = Collections.emptyMap();
+
+	private final Executor defaultExecutor = new SimpleAsyncTaskExecutor("event-listener-");
+
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private final Map<ApplicationListener<?>, ListenerQueue> listenerQueues = new ConcurrentHashMap<>(64);
+
+	private final ThreadLocal<Boolean> drainingThread = new NamedThreadLocal<>("Event listener queue draining");
+
+	private final LongAdder deliveredEventCount = new LongAdder();
+
+	private final LongAdder deliveredBatchCount = new LongAdder();
+
+	private final LongAdder totalLatency = new LongAdder();
+
+	private final AtomicLong maxLatency = new AtomicLong();
+
+
+	/**
+	 * Create a new BatchingApplicationEventMulticaster.
+	 */
+	public BatchingApplicationEventMulticaster() {
+	}
+
+	/**
+	 * Create a new BatchingApplicationEventMulticaster for the given BeanFactory.
+	 */
+	public BatchingApplicationEventMulticaster(BeanFactory beanFactory) {
+		super(beanFactory);
+	}
+
+
+	/**
+	 * Specify executors for individual listeners, keyed by
+	 * {@link SmartApplicationListener#getListenerId() listener id}, e.g. the
+	 * {@link EventListener#id() id} of an {@code @EventListener} method.
+	 * <p>Listeners without a specific executor are processed on the general
+	 * {@link #setTaskExecutor task executor}.
+	 */
+	public void setListenerExecutors(Map<String, Executor> listenerExecutors) {
+		this.listenerExecutors = new ConcurrentHashMap<>(listenerExecutors);
+	}
+
+	/**
+	 * Set the maximum number of events to queue up per listener, blocking the
+	 * publisher once reached. Default is {@value #DEFAULT_QUEUE_CAPACITY}.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Set the maximum number of queued events to deliver to a listener at once.
+	 * Default is {@value #DEFAULT_MAX_BATCH_SIZE}.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+
+	@Override
+	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
+		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+			if (listener.supportsAsyncExecution()) {
+				// Reserve a slot atomically with the lookup, preventing retirement of the queue
+				ListenerQueue queue = this.listenerQueues.compute(listener, (key, existing) -> {
+					ListenerQueue queueToUse = (existing != null ? existing : new ListenerQueue(key));
+					queueToUse.reserve();
+					return queueToUse;
+				});
+				queue.offer(event);
+			}
+			else {
+				invokeListener(listener, event);
+			}
+		}
+	}
+
+	/**
+	 * Determine the executor to drain the queue for the given listener with.
+	 * <p>The default implementation checks the specified
+	 * {@link #setListenerExecutors listener executors}, falling back to the
+	 * general {@link #setTaskExecutor task executor}.
+	 * @param listener the listener to drain a queue for
+	 * @return the executor to use (never {@code null})
+	 */
+	protected Executor determineExecutor(ApplicationListener<?> listener) {
+		if (!this.listenerExecutors.isEmpty() && listener instanceof SmartApplicationListener sal) {
+			Executor executor = this.listenerExecutors.get(sal.getListenerId());
+			if (executor != null) {
+				return executor;
+			}
+		}
+		Executor executor = getTaskExecutor();
+		return (executor != null ? executor : this.defaultExecutor);
+	}
+
+	/**
+	 * Invoke the given batch listener with the given events.
+	 * <p>A listener without {@link EventListener#defaultExecution() default
+	 * execution} receives the events one by one through
+	 * {@link #invokeListener}, leaving their processing to the listener itself.
+	 * @param listener the listener method adapter to invoke
+	 * @param events the current batch of events to propagate
+	 * @see ApplicationListenerMethodAdapter#processEvents
+	 */
+	protected void invokeBatchListener(ApplicationListenerMethodAdapter listener, List<ApplicationEvent> events) {
+		if (!listener.isDefaultExecution()) {
+			for (ApplicationEvent event : events) {
+				invokeListener(listener, event);
+			}
+			return;
+		}
+		ErrorHandler errorHandler = getErrorHandler();
+		if (errorHandler != null) {
+			try {
+				listener.processEvents(events);
+			}
+			catch (Throwable err) {
+				errorHandler.handleError(err);
+			}
+		}
+		else {
+			listener.processEvents(events);
+		}
+	}
+
+
+	/**
+	 * Return the number of events currently queued up across all listeners.
+	 */
+	public int getQueueSize() {
+		int queueSize = 0;
+		for (ListenerQueue queue : this.listenerQueues.values()) {
+			queueSize += queue.size();
+		}
+		return queueSize;
+	}
+
+	/**
+	 * Return the number of events currently queued up for the given listener.
+	 */
+	public int getQueueSize(ApplicationListener<?> listener) {
+		ListenerQueue queue = this.listenerQueues.get(listener);
+		return (queue != null ? queue.size() : 0);
+	}
+
+	/**
+	 * Return the total number of events delivered from listener queues so far.
+	 */
+	public long getDeliveredEventCount() {
+		return this.deliveredEventCount.sum();
+	}
+
+	/**
+	 * Return the total number of deliveries from listener queues so far,
+	 * with each delivery covering a batch of one or more events.
+	 */
+	public long getDeliveredBatchCount() {
+		return this.deliveredBatchCount.sum();
+	}
+
+	/**
+	 * Return the average time between the publication of an event and the
+	 * completion of its delivery to a queued listener.
+	 */
+	public Duration getAverageLatency() {
+		long count = this.deliveredEventCount.sum();
+		return Duration.ofNanos(count > 0 ? this.totalLatency.sum() / count : 0);
+	}
+
+	/**
+	 * Return the maximum time between the publication of an event and the
+	 * completion of its delivery to a queued listener.
+	 */
+	public Duration getMaxLatency() {
+		return Duration.ofNanos(this.maxLatency.get());
+	}
+
+	private void recordDelivery(List<QueuedEvent> batch) {
+		long now = System.nanoTime();
+		long latency = 0;
+		long max = 0;
+		for (QueuedEvent queuedEvent : batch) {
+			long eventLatency = now - queuedEvent.timestamp();
+			latency += eventLatency;
+			max = Math.max(max, eventLatency);
+		}
+		this.deliveredEventCount.add(batch.size());
+		this.deliveredBatchCount.increment();
+		this.totalLatency.add(latency);
+		this.maxLatency.accumulateAndGet(max, Math::max);
+	}
+
+
+	/**
+	 * An event along with the time of its publication.
+	 */
+	private record QueuedEvent(ApplicationEvent event, long timestamp) {
+	}
+
+
+	/**
+	 * Bounded queue of events for a specific listener, drained by at most one
+	 * task at a time and retired once running idle.
+	 */
+	private final class ListenerQueue implements Runnable {
+
+		private final ApplicationListener<?> listener;
+
+		private final Executor executor;
+
+		/** The queued events, guarded by lock. */
+		private final Deque<QueuedEvent> events = new ArrayDeque<>();
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		private final Object lock = new Object();
+
+		/** Number of events reserved or queued but not drained yet, guarded by lock. */
+		private int pendingCount;
+
+		ListenerQueue(ApplicationListener<?> listener) {
+			this.listener = listener;
+			this.executor = determineExecutor(listener);
+		}
+
+		/**
+		 * Reserve a slot for an event to be {@link #offer offered} next,
+		 * preventing this queue from being retired in the meantime.
+		 * <p>Called within the atomic lookup of this queue.
+		 */
+		void reserve() {
+			synchronized (this.lock) {
+				this.pendingCount++;
+			}
+		}
+
+		/**
+		 * Add the given event to this queue, waiting for space if necessary,
+		 * unless called from a listener or interrupted while waiting.
+		 */
+		void offer(ApplicationEvent event) {
+			QueuedEvent queuedEvent = new QueuedEvent(event, System.nanoTime());
+			synchronized (this.lock) {
+				// Published from within a listener -> do not wait for another listener
+				if (drainingThread.get() == null) {
+					while (this.events.size() >= queueCapacity) {
+						try {
+							this.lock.wait();
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+							break;
+						}
+					}
+				}
+				this.events.add(queuedEvent);
+			}
+			schedule();
+		}
+
+		int size() {
+			synchronized (this.lock) {
+				return this.events.size();
+			}
+		}
+
+		private void schedule() {
+			if (this.scheduled.compareAndSet(false, true)) {
+				try {
+					this.executor.execute(this);
+				}
+				catch (RejectedExecutionException ex) {
+					// Probably on shutdown -> drain queue locally instead
+					run();
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			Boolean outerDraining = drainingThread.get();
+			drainingThread.set(Boolean.TRUE);
+			try {
+				List<QueuedEvent> batch = new ArrayList<>(Math.min(maxBatchSize, queueCapacity));
+				while (true) {
+					synchronized (this.lock) {
+						while (batch.size() < maxBatchSize && !this.events.isEmpty()) {
+							batch.add(this.events.poll());
+						}
+						if (!batch.isEmpty()) {
+							this.pendingCount -= batch.size();
+							this.lock.notifyAll();
+						}
+					}
+					if (!batch.isEmpty()) {
+						deliver(batch);
+						batch.clear();
+					}
+					else {
+						this.scheduled.set(false);
+						if (size() == 0 || !this.scheduled.compareAndSet(false, true)) {
+							retireIfIdle();
+							return;
+						}
+					}
+				}
+			}
+			finally {
+				if (outerDraining == null) {
+					drainingThread.remove();
+				}
+			}
+		}
+
+		private void deliver(List<QueuedEvent> batch) {
+			if (this.listener instanceof ApplicationListenerMethodAdapter adapter && adapter.isBatchListener()) {
+				List<ApplicationEvent> events = new ArrayList<>(batch.size());
+				for (QueuedEvent queuedEvent : batch) {
+					events.add(queuedEvent.event());
+				}
+				try {
+					invokeBatchListener(adapter, events);
+				}
+				catch (Throwable ex) {
+					logger.error("Unexpected error occurred in queued listener " + this.listener, ex);
+				}
+			}
+			else {
+				for (QueuedEvent queuedEvent : batch) {
+					try {
+						invokeListener(this.listener, queuedEvent.event());
+					}
+					catch (Throwable ex) {
+						logger.error("Unexpected error occurred in queued listener " + this.listener, ex);
+					}
+				}
+			}
+			recordDelivery(batch);
+		}
+
+		private void retireIfIdle() {
+			listenerQueues.computeIfPresent(this.listener, (key, queue) -> (queue == this && isIdle() ? null : queue));
+		}
+
+		private boolean isIdle() {
+			synchronized (this.lock) {
+				return (this.pendingCount == 0 && !this.scheduled.get());
+			}
+		}
+	}
+
+}
@@ -140,6 +140,20 @@ public @interface EventListener {
 	 */
 	boolean defaultExecution() default true;
 
+	/**
+	 * Whether the annotated method consumes events in batches, declaring a
+	 * {@link java.util.List} of the event type as its single parameter.
+	 * <p>Batches are assembled by a multicaster that supports them, such as
+	 * {@link BatchingApplicationEventMulticaster}, from events that have been
+	 * queued up for the listener in the meantime. Any other multicaster
+	 * delivers each event as a singleton list.
+	 * <p>A {@link #condition} gets evaluated for each event individually, with
+	 * the method argument being a singleton list of the current event.
+	 * @since 6.2
+	 * @see ApplicationListenerMethodAdapter#processEvents
+	 */
+	boolean batch() default false;
+
 	/**
 	 * An optional identifier for the listener, defaulting to the fully-qualified
 	 * signature of the declaring method (e.g. "mypackage.MyClass.myMethod()").
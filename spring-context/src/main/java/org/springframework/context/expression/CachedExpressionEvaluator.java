@@ -21,6 +21,7 @@ import java.util.Map;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.ExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -39,6 +40,9 @@ public abstract class CachedExpressionEvaluator {
 
 	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
+	@Nullable
+	private ExpressionCache expressionCache;
+
 
 	/**
 	 * Create a new instance with the default {@link SpelExpressionParser}.
@@ -63,6 +67,21 @@ public abstract class CachedExpressionEvaluator {
 		return this.parser;
 	}
 
+	/**
+	 * Specify a shared cache to obtain parsed expressions from, instead of the
+	 * caches held by this evaluator. Expressions are then parsed through the
+	 * configuration of {@link #getParser()} and shared with other consumers of
+	 * the same cache, independent of the element that they are defined on.
+	 * <p>This does not apply to a parser in
+	 * {@link org.springframework.expression.spel.SpelCompilerMode#IMMEDIATE IMMEDIATE}
+	 * compiler mode: since its expressions get compiled for the types of their
+	 * first evaluation, they remain cached per element.
+	 * @since 6.2
+	 */
+	public void setExpressionCache(@Nullable ExpressionCache expressionCache) {
+		this.expressionCache = expressionCache;
+	}
+
 	/**
 	 * Return a shared parameter name discoverer which caches data internally.
 	 * @since 4.3
@@ -74,7 +93,8 @@ public abstract class CachedExpressionEvaluator {
 	/**
 	 * Return the parsed {@link Expression} for the specified SpEL expression.
 	 * <p>{@linkplain #parseExpression(String) Parses} the expression if it hasn't
-	 * already been parsed and cached.
+	 * already been parsed and cached, or obtains it from the
+	 * {@linkplain #setExpressionCache shared expression cache} if specified.
 	 * @param cache the cache to use
 	 * @param elementKey the {@code AnnotatedElementKey} containing the element
 	 * on which the expression is defined
@@ -83,6 +103,10 @@ public abstract class CachedExpressionEvaluator {
 	protected Expression getExpression(Map<ExpressionKey, Expression> cache,
 			AnnotatedElementKey elementKey, String expression) {
 
+		ExpressionCache expressionCache = this.expressionCache;
+		if (expressionCache != null && expressionCache.isShareable(getParser())) {
+			return expressionCache.getExpression(getParser(), expression);
+		}
 		ExpressionKey expressionKey = createKey(elementKey, expression);
 		return cache.computeIfAbsent(expressionKey, key -> parseExpression(expression));
 	}
@@ -32,6 +32,7 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParserContext;
 import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.ExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.support.StandardTypeConverter;
@@ -82,6 +83,9 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 
 	private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>(256);
 
+	@Nullable
+	private ExpressionCache sharedExpressionCache;
+
 	private final Map<BeanExpressionContext, StandardEvaluationContext> evaluationCache = new ConcurrentHashMap<>(8);
 
 	private final ParserContext beanExpressionParserContext = new ParserContext() {
@@ -153,6 +157,19 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 		this.expressionParser = expressionParser;
 	}
 
+	/**
+	 * Specify a shared cache to obtain parsed expressions from, instead of
+	 * keeping parsed expressions in this resolver.
+	 * <p>Only applies to a {@link SpelExpressionParser}, which is the default,
+	 * and not to a parser in
+	 * {@link org.springframework.expression.spel.SpelCompilerMode#IMMEDIATE IMMEDIATE}
+	 * compiler mode whose expressions remain cached in this resolver.
+	 * @since 6.2
+	 */
+	public void setExpressionCache(@Nullable ExpressionCache expressionCache) {
+		this.sharedExpressionCache = expressionCache;
+	}
+
 
 	@Override
 	@Nullable
@@ -161,8 +178,7 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 			return value;
 		}
 		try {
-			Expression expr = this.expressionCache.computeIfAbsent(value, expression ->
-					this.expressionParser.parseExpression(expression, this.beanExpressionParserContext));
+			Expression expr = getExpression(value);
 			EvaluationContext evalContext = this.evaluationCache.computeIfAbsent(beanExpressionContext, bec -> {
 					ConfigurableBeanFactory beanFactory = bec.getBeanFactory();
 					StandardEvaluationContext sec = new StandardEvaluationContext(bec);
@@ -186,6 +202,15 @@ public class StandardBeanExpressionResolver implements BeanExpressionResolver {
 		}
 	}
 
+	private Expression getExpression(String value) {
+		if (this.sharedExpressionCache != null && this.expressionParser instanceof SpelExpressionParser parser &&
+				this.sharedExpressionCache.isShareable(parser)) {
+			return this.sharedExpressionCache.getExpression(parser, value, this.beanExpressionParserContext);
+		}
+		return this.expressionCache.computeIfAbsent(value, expression ->
+				this.expressionParser.parseExpression(expression, this.beanExpressionParserContext));
+	}
+
 	/**
 	 * Template method for customizing the expression evaluation context.
 	 * <p>The default implementation is empty.
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedConcurrentMapCache}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class BoundedConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private final MutableClock clock = new MutableClock();
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.maximumSize(1000).expireAfterWrite(Duration.ofMinutes(10)).clock(this.clock).build();
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME, options, true);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL, options, false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache.getNativeCache();
+	}
+
+
+	@Test
+	void evictLeastRecentlyAddedEntryWhenOverMaximumSize() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", 2);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.put("c", "3");
+
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.get("b")).isNotNull();
+		assertThat(cache.get("c")).isNotNull();
+		assertThat(cache.getEstimatedSize()).isEqualTo(2);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void recentlyReadEntryGetsSecondChance() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", 2);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		assertThat(cache.get("a")).isNotNull();
+		cache.put("c", "3");
+
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isNotNull();
+	}
+
+	@Test
+	void evictWhenOverMaximumWeight() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.maximumWeight(10, (key, value) -> ((String) value).length()).build();
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", options, true);
+		cache.put("a", "12345");
+		cache.put("b", "12345");
+		assertThat(cache.getWeightedSize()).isEqualTo(10);
+
+		cache.put("c", "1");
+		assertThat(cache.getWeightedSize()).isEqualTo(6);
+		assertThat(cache.get("a")).isNull();
+
+		cache.put("c", "123");
+		assertThat(cache.getWeightedSize()).isEqualTo(8);
+		cache.evict("b");
+		assertThat(cache.getWeightedSize()).isEqualTo(3);
+	}
+
+	@Test
+	void expireAfterWrite() {
+		this.cache.put("a", "1");
+		this.clock.advance(Duration.ofMinutes(5));
+		assertThat(this.cache.get("a")).isNotNull();
+
+		this.clock.advance(Duration.ofMinutes(5));
+		assertThat(this.cache.get("a")).isNull();
+		assertThat(this.cache.getEstimatedSize()).isZero();
+		assertThat(this.cache.getStatistics().expirationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void expireAfterAccess() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.expireAfterAccess(Duration.ofMinutes(10)).clock(this.clock).build();
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", options, true);
+		cache.put("a", "1");
+		this.clock.advance(Duration.ofMinutes(8));
+		assertThat(cache.get("a")).isNotNull();
+		this.clock.advance(Duration.ofMinutes(8));
+		assertThat(cache.get("a")).isNotNull();
+
+		this.clock.advance(Duration.ofMinutes(10));
+		assertThat(cache.get("a")).isNull();
+	}
+
+	@Test
+	void expiredEntriesRemovedOnWrite() {
+		this.cache.put("a", "1");
+		this.cache.put("b", "2");
+		this.clock.advance(Duration.ofMinutes(10));
+		this.cache.put("c", "3");
+
+		assertThat(this.cache.getEstimatedSize()).isEqualTo(1);
+		assertThat(this.cache.getStatistics().expirationCount()).isEqualTo(2);
+	}
+
+	@Test
+	void expiredEntryReloadedThroughValueLoader() {
+		this.cache.put("a", "1");
+		this.clock.advance(Duration.ofMinutes(10));
+
+		assertThat(this.cache.get("a", () -> "2")).isEqualTo("2");
+		assertThat(this.cache.putIfAbsent("a", "3")).isNotNull();
+	}
+
+	@Test
+	void putIfAbsentReplacesExpiredEntry() {
+		this.cache.put("a", "1");
+		this.clock.advance(Duration.ofMinutes(10));
+
+		assertThat(this.cache.putIfAbsent("a", "2")).isNull();
+		assertThat(this.cache.get("a", String.class)).isEqualTo("2");
+	}
+
+	@Test
+	void refreshAfterWrite() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.refreshAfterWrite(Duration.ofMinutes(1)).refreshExecutor(Runnable::run).clock(this.clock).build();
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", options, true);
+		AtomicInteger counter = new AtomicInteger();
+
+		assertThat(cache.get("a", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get("a", counter::incrementAndGet)).isEqualTo(1);
+
+		this.clock.advance(Duration.ofMinutes(1));
+		// Stale value returned while refreshing
+		assertThat(cache.get("a", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get("a", counter::incrementAndGet)).isEqualTo(2);
+		assertThat(cache.getStatistics().refreshCount()).isEqualTo(1);
+	}
+
+	@Test
+	void refreshAfterWriteWithRetrieve() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.refreshAfterWrite(Duration.ofMinutes(1)).refreshExecutor(Runnable::run).clock(this.clock).build();
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", options, true);
+		AtomicInteger counter = new AtomicInteger();
+		Supplier<CompletableFuture<Integer>> loader = () -> CompletableFuture.completedFuture(counter.incrementAndGet());
+
+		assertThat(cache.retrieve("a", loader)).isCompletedWithValue(1);
+		assertThat(cache.retrieve("a", loader)).isCompletedWithValue(1);
+
+		this.clock.advance(Duration.ofMinutes(1));
+		// Stale value returned while refreshing
+		assertThat(cache.retrieve("a", loader)).isCompletedWithValue(1);
+		assertThat(cache.retrieve("a", loader)).isCompletedWithValue(2);
+		assertThat(cache.getStatistics().refreshCount()).isEqualTo(1);
+	}
+
+	@Test
+	void failedRetrieveRefreshKeepsCurrentValue() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.refreshAfterWrite(Duration.ofMinutes(1)).refreshExecutor(Runnable::run).clock(this.clock).build();
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", options, true);
+		cache.put("a", "1");
+
+		this.clock.advance(Duration.ofMinutes(1));
+		assertThat(cache.retrieve("a", () -> CompletableFuture.<String>failedFuture(
+				new IllegalStateException("Expected failure")))).isCompletedWithValue("1");
+		assertThat(cache.get("a", String.class)).isEqualTo("1");
+		assertThat(cache.getStatistics().refreshCount()).isZero();
+	}
+
+	@Test
+	void failedRefreshKeepsCurrentValue() {
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.refreshAfterWrite(Duration.ofMinutes(1)).refreshExecutor(Runnable::run).clock(this.clock).build();
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", options, true);
+		cache.put("a", "1");
+
+		this.clock.advance(Duration.ofMinutes(1));
+		assertThat(cache.get("a", () -> {
+			throw new IllegalStateException("Expected failure");
+		})).isEqualTo("1");
+		assertThat(cache.get("a", String.class)).isEqualTo("1");
+		assertThat(cache.getStatistics().refreshCount()).isZero();
+	}
+
+	@Test
+	void statistics() {
+		this.cache.put("a", "1");
+		this.cache.get("a");
+		this.cache.get("a");
+		this.cache.get("b");
+
+		BoundedConcurrentMapCache.Statistics statistics = this.cache.getStatistics();
+		assertThat(statistics.hitCount()).isEqualTo(2);
+		assertThat(statistics.missCount()).isEqualTo(1);
+		assertThat(statistics.requestCount()).isEqualTo(3);
+		assertThat(statistics.hitRate()).isEqualTo(2.0 / 3);
+	}
+
+	@Test
+	void retrieveComposesValueLoaderFuture() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<CompletableFuture<String>> loader = () -> {
+			loadCount.incrementAndGet();
+			return pending;
+		};
+
+		CompletableFuture<String> first = this.cache.retrieve("a", loader);
+		CompletableFuture<String> second = this.cache.retrieve("a", loader);
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+		assertThat(loadCount.get()).isEqualTo(1);
+
+		pending.complete("1");
+		assertThat(first).isCompletedWithValue("1");
+		assertThat(second).isCompletedWithValue("1");
+		assertThat(this.cache.get("a", String.class)).isEqualTo("1");
+		assertThat(this.cache.retrieve("a", loader)).isCompletedWithValue("1");
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void retrieveWithFailingValueLoader() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		CompletableFuture<String> result = this.cache.retrieve("a", () -> pending);
+		pending.completeExceptionally(new IllegalStateException("failed"));
+
+		assertThat(result).isCompletedExceptionally();
+		assertThat(this.cache.get("a")).isNull();
+		assertThat(this.cache.retrieve("a", () -> CompletableFuture.completedFuture("1"))).isCompletedWithValue("1");
+	}
+
+	@Test
+	void cleanUp() {
+		this.cache.put("a", "1");
+		this.clock.advance(Duration.ofMinutes(10));
+		this.cache.cleanUp();
+
+		assertThat(this.cache.getEstimatedSize()).isZero();
+		assertThat(this.cache.getWeightedSize()).isZero();
+	}
+
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
@@ -131,4 +133,28 @@ class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	void testChangeCacheOptions() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1", "c2");
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(ConcurrentMapCache.class);
+
+		BoundedConcurrentMapCache.Options options = BoundedConcurrentMapCache.Options.builder()
+				.maximumSize(100).expireAfterWrite(Duration.ofMinutes(5)).build();
+		cm.setCacheOptions(options);
+		assertThat(cm.getCacheOptions()).isSameAs(options);
+		Cache cache1x = cm.getCache("c1");
+		assertThat(cache1x).isInstanceOf(BoundedConcurrentMapCache.class);
+		assertThat(((BoundedConcurrentMapCache) cache1x).getOptions()).isSameAs(options);
+
+		cm.setStoreByValue(true);
+		Cache cache1y = cm.getCache("c1");
+		assertThat(((BoundedConcurrentMapCache) cache1y).isStoreByValue()).isTrue();
+		cache1y.put("key", "value");
+		assertThat(cache1y.get("key").get()).isEqualTo("value");
+
+		cm.setCacheOptions(null);
+		assertThat(cm.getCache("c1")).isInstanceOf(ConcurrentMapCache.class);
+	}
+
 }
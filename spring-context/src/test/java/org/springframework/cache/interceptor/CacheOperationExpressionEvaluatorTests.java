@@ -26,14 +26,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.AnnotationCacheOperationSource;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.standard.ExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
@@ -103,6 +111,62 @@ class CacheOperationExpressionEvaluatorTests {
 		assertThat(keyB).isEqualTo(args[1]);
 	}
 
+	@Test
+	void keyArgumentIndexWithArgumentReference() {
+		Method method = ReflectionUtils.findMethod(
+				AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+
+		assertThat(this.eval.keyArgumentIndex("#a", key, method)).isEqualTo(0);
+		assertThat(this.eval.keyArgumentIndex("#b", key, method)).isEqualTo(1);
+		assertThat(this.eval.keyArgumentIndex("#p0", key, method)).isEqualTo(0);
+		assertThat(this.eval.keyArgumentIndex("#a1", key, method)).isEqualTo(1);
+	}
+
+	@Test
+	void keyArgumentIndexWithExpressionToEvaluate() {
+		Method method = ReflectionUtils.findMethod(
+				AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+
+		assertThat(this.eval.keyArgumentIndex("#a.toString()", key, method))
+				.isEqualTo(CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX);
+		assertThat(this.eval.keyArgumentIndex("#p2", key, method))
+				.isEqualTo(CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX);
+		assertThat(this.eval.keyArgumentIndex("#result", key, method))
+				.isEqualTo(CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX);
+		assertThat(this.eval.keyArgumentIndex("#root", key, method))
+				.isEqualTo(CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX);
+		assertThat(this.eval.keyArgumentIndex("'a'", key, method))
+				.isEqualTo(CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX);
+	}
+
+	@Test
+	void keyArgumentIndexWithVarArgs() {
+		Method method = ReflectionUtils.findMethod(
+				AnnotatedClass.class, "varArgs", Object.class, Object[].class);
+		AnnotatedElementKey key = new AnnotatedElementKey(method, AnnotatedClass.class);
+
+		assertThat(this.eval.keyArgumentIndex("#a", key, method)).isEqualTo(0);
+		assertThat(this.eval.keyArgumentIndex("#b", key, method))
+				.isEqualTo(CacheOperationExpressionEvaluator.NO_ARGUMENT_INDEX);
+	}
+
+	@Test
+	void keyArgumentIndexWithSharedExpressionCache() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(SharedExpressionCacheConfig.class);
+		ArgumentKeyService service = context.getBean(ArgumentKeyService.class);
+		Cache cache = context.getBean(CacheManager.class).getCache("test");
+
+		Object first = service.idFirst(1L, "name");
+		Object second = service.idSecond("other", 2L);
+
+		assertThat(cache.get(1L).get()).isEqualTo(first);
+		assertThat(cache.get(2L).get()).isEqualTo(second);
+		assertThat(cache.get("other")).isNull();
+		context.close();
+	}
+
 	@Test
 	void withReturnValue() {
 		EvaluationContext context = createEvaluationContext("theResult");
@@ -167,6 +231,44 @@ class CacheOperationExpressionEvaluatorTests {
 		@Caching(cacheable = { @Cacheable(value = "test", key = "#a"), @Cacheable(value = "test", key = "#b") })
 		public void multipleCaching(Object a, Object b) {
 		}
+
+		public void varArgs(Object a, Object... b) {
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class SharedExpressionCacheConfig {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager();
+		}
+
+		@Bean
+		public ExpressionCache expressionCache() {
+			return new ExpressionCache();
+		}
+
+		@Bean
+		public ArgumentKeyService argumentKeyService() {
+			return new ArgumentKeyService();
+		}
+	}
+
+
+	static class ArgumentKeyService {
+
+		@Cacheable(cacheNames = "test", key = "#id")
+		public String idFirst(Long id, String name) {
+			return "first-" + id;
+		}
+
+		@Cacheable(cacheNames = "test", key = "#id")
+		public String idSecond(String name, Long id) {
+			return "second-" + id;
+		}
 	}
 
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for the coalescing of concurrent {@link Cacheable#sync()} invocations.
+ * Uses a no-op cache which does not perform any locking on its own, so that
+ * every invocation that is not coalesced reaches the target method.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class CacheSyncCoalescingTests {
+
+	private ConfigurableApplicationContext context;
+
+	private SimpleService simpleService;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.simpleService = this.context.getBean(SimpleService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		if (this.context != null) {
+			this.context.close();
+		}
+	}
+
+
+	@Test
+	void concurrentInvocationsAreCoalesced() throws Exception {
+		List<Thread> followers = new ArrayList<>();
+		List<FutureTask<Object>> results = new ArrayList<>();
+		FutureTask<Object> leader = start(() -> this.simpleService.get("key"), followers, results);
+		assertThat(this.simpleService.awaitStarted()).isTrue();
+		for (int i = 0; i < 4; i++) {
+			start(() -> this.simpleService.get("key"), followers, results);
+		}
+		followers.remove(0);
+		awaitWaiting(followers);
+
+		this.simpleService.release();
+		for (Future<Object> result : results) {
+			assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(0);
+		}
+		assertThat(leader.get()).isEqualTo(0);
+		assertThat(this.simpleService.getInvocationCount()).isEqualTo(1);
+
+		// No load in flight anymore
+		assertThat(this.simpleService.get("key")).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentInvocationsShareFailure() throws Exception {
+		this.simpleService.setFailure(true);
+		List<Thread> followers = new ArrayList<>();
+		List<FutureTask<Object>> results = new ArrayList<>();
+		start(() -> this.simpleService.get("key"), followers, results);
+		assertThat(this.simpleService.awaitStarted()).isTrue();
+		start(() -> this.simpleService.get("key"), followers, results);
+		followers.remove(0);
+		awaitWaiting(followers);
+
+		this.simpleService.release();
+		for (Future<Object> result : results) {
+			assertThatIllegalStateException().isThrownBy(() -> {
+				try {
+					result.get(10, TimeUnit.SECONDS);
+				}
+				catch (ExecutionException ex) {
+					throw ex.getCause();
+				}
+			}).withMessage("Expected failure");
+		}
+		assertThat(this.simpleService.getInvocationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentInvocationsWithStoreByValueCacheReceiveOwnInstances() throws Exception {
+		this.context.close();
+		this.context = new AnnotationConfigApplicationContext(StoreByValueConfig.class);
+		this.simpleService = this.context.getBean(SimpleService.class);
+
+		List<Thread> followers = new ArrayList<>();
+		List<FutureTask<Object>> results = new ArrayList<>();
+		start(() -> this.simpleService.getList("key"), followers, results);
+		assertThat(this.simpleService.awaitStarted()).isTrue();
+		start(() -> this.simpleService.getList("key"), followers, results);
+		followers.remove(0);
+		awaitWaiting(followers);
+
+		this.simpleService.release();
+		Object first = results.get(0).get(10, TimeUnit.SECONDS);
+		Object second = results.get(1).get(10, TimeUnit.SECONDS);
+		assertThat(first).isEqualTo(List.of(0));
+		assertThat(second).isEqualTo(List.of(0)).isNotSameAs(first);
+		assertThat(this.simpleService.getInvocationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void invocationsForDistinctKeysAreNotCoalesced() {
+		CompletableFuture<Object> first = this.simpleService.getAsync("key1");
+		CompletableFuture<Object> second = this.simpleService.getAsync("key2");
+		assertThat(this.simpleService.getInvocationCount()).isEqualTo(2);
+		first.cancel(true);
+		second.cancel(true);
+	}
+
+	@Test
+	void concurrentAsyncInvocationsAreCoalesced() {
+		CompletableFuture<Object> first = this.simpleService.getAsync("key");
+		CompletableFuture<Object> second = this.simpleService.getAsync("key");
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+		assertThat(this.simpleService.getInvocationCount()).isEqualTo(1);
+
+		this.simpleService.complete(0, "result");
+		assertThat(first.join()).isEqualTo("result");
+		assertThat(second.join()).isEqualTo("result");
+
+		// No load in flight anymore
+		this.simpleService.getAsync("key");
+		assertThat(this.simpleService.getInvocationCount()).isEqualTo(2);
+	}
+
+	@Test
+	void cancellationOfCoalescedAsyncInvocationDoesNotAffectOthers() {
+		CompletableFuture<Object> first = this.simpleService.getAsync("key");
+		CompletableFuture<Object> second = this.simpleService.getAsync("key");
+		first.cancel(true);
+
+		this.simpleService.complete(0, "result");
+		assertThat(first).isCancelled();
+		assertThat(second.join()).isEqualTo("result");
+	}
+
+
+	private static FutureTask<Object> start(
+			Callable<Object> task, List<Thread> threads, List<FutureTask<Object>> results) {
+
+		FutureTask<Object> future = new FutureTask<>(task);
+		Thread thread = new Thread(future);
+		threads.add(thread);
+		results.add(future);
+		thread.start();
+		return future;
+	}
+
+	private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+		for (Thread thread : threads) {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+		}
+	}
+
+
+	static class SimpleService {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private final List<CompletableFuture<Object>> pending = new ArrayList<>();
+
+		private volatile boolean failure;
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Object get(Object key) throws InterruptedException {
+			return load();
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public List<Integer> getList(Object key) throws InterruptedException {
+			return new ArrayList<>(List.of(load()));
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<Object> getAsync(Object key) {
+			this.counter.getAndIncrement();
+			CompletableFuture<Object> future = new CompletableFuture<>();
+			this.pending.add(future);
+			return future;
+		}
+
+		private int load() throws InterruptedException {
+			int value = this.counter.getAndIncrement();
+			this.started.countDown();
+			this.release.await();
+			if (this.failure) {
+				throw new IllegalStateException("Expected failure");
+			}
+			return value;
+		}
+
+		public int getInvocationCount() {
+			return this.counter.get();
+		}
+
+		public boolean awaitStarted() throws InterruptedException {
+			return this.started.await(10, TimeUnit.SECONDS);
+		}
+
+		public void release() {
+			this.release.countDown();
+		}
+
+		public void complete(int index, Object value) {
+			this.pending.get(index).complete(value);
+		}
+
+		public void setFailure(boolean failure) {
+			this.failure = failure;
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new NoOpCacheManager();
+		}
+
+		@Bean
+		public SimpleService simpleService() {
+			return new SimpleService();
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class StoreByValueConfig {
+
+		@Bean
+		public CacheManager cacheManager() {
+			ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+			cacheManager.setStoreByValue(true);
+			return cacheManager;
+		}
+
+		@Bean
+		public SimpleService simpleService() {
+			return new SimpleService();
+		}
+	}
+
+}
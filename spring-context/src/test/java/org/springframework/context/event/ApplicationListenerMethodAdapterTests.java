@@ -168,6 +168,19 @@ class ApplicationListenerMethodAdapterTests extends AbstractApplicationEventList
 		assertThatIllegalStateException().isThrownBy(() -> createTestInstance(method));
 	}
 
+	@Test
+	void batchListenerWithElementType() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringBatch", List.class);
+		supportsEventType(true, method, createPayloadEventType(String.class));
+		supportsEventType(false, method, createPayloadEventType(Integer.class));
+	}
+
+	@Test
+	void batchListenerWithoutListParameter() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "invalidBatch", String.class);
+		assertThatIllegalStateException().isThrownBy(() -> createTestInstance(method));
+	}
+
 	@Test
 	void defaultOrder() {
 		Method method = ReflectionUtils.findMethod(
@@ -285,6 +298,23 @@ class ApplicationListenerMethodAdapterTests extends AbstractApplicationEventList
 		verify(this.sampleEvents, never()).handleString(anyString());
 	}
 
+	@Test
+	void invokeBatchListenerWithSingleEvent() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringBatch", List.class);
+		invokeListener(method, new PayloadApplicationEvent<>(this, "test"));
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("test"));
+	}
+
+	@Test
+	void invokeBatchListenerWithSeveralEvents() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringBatch", List.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		assertThat(adapter.isBatchListener()).isTrue();
+		adapter.processEvents(List.of(new PayloadApplicationEvent<>(this, "a"),
+				new PayloadApplicationEvent<>(this, 123L), new PayloadApplicationEvent<>(this, "b")));
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("a", "b"));
+	}
+
 	@Test
 	void invokeListenerWithAnnotationValue() {
 		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringAnnotationClasses");
@@ -510,6 +540,14 @@ class ApplicationListenerMethodAdapterTests extends AbstractApplicationEventList
 		public void handleGenericAnyPayload(EntityWrapper<?> event) {
 		}
 
+		@EventListener(batch = true)
+		public void handleStringBatch(List<String> payloads) {
+		}
+
+		@EventListener(batch = true)
+		public void invalidBatch(String payload) {
+		}
+
 		@EventListener
 		public void tooManyParameters(String event, String whatIsThis) {
 		}
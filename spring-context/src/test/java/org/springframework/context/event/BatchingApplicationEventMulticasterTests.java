@@ -0,0 +1,317 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.context.support.AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
+
+/**
+ * Tests for {@link BatchingApplicationEventMulticaster}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class BatchingApplicationEventMulticasterTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4, runnable -> new Thread(runnable, "batching"));
+
+	private final BatchingApplicationEventMulticaster multicaster = new BatchingApplicationEventMulticaster();
+
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void eventsDeliveredInOrderOnTaskExecutor() {
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<Integer>>) event -> {
+			received.add(event.getPayload());
+			threadNames.add(Thread.currentThread().getName());
+		});
+
+		for (int i = 0; i < 1000; i++) {
+			this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+		}
+		awaitDelivered(1000);
+
+		assertThat(received).hasSize(1000).isSorted();
+		assertThat(threadNames).containsOnly("batching");
+		assertThat(this.multicaster.getQueueSize()).isZero();
+		assertThat(this.multicaster.getDeliveredBatchCount()).isBetween(1L, 1000L);
+		assertThat(this.multicaster.getMaxLatency()).isGreaterThanOrEqualTo(this.multicaster.getAverageLatency());
+	}
+
+	@Test
+	void nonAsyncListenerInvokedInPublishingThread() {
+		List<String> threadNames = new ArrayList<>();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListener(new ApplicationListener<>() {
+			@Override
+			public void onApplicationEvent(ApplicationEvent event) {
+				threadNames.add(Thread.currentThread().getName());
+			}
+			@Override
+			public boolean supportsAsyncExecution() {
+				return false;
+			}
+		});
+
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "event"));
+		assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+		assertThat(this.multicaster.getDeliveredEventCount()).isZero();
+	}
+
+	@Test
+	void publisherBlockedOnFullQueue() throws Exception {
+		CountDownLatch listenerLatch = new CountDownLatch(1);
+		AtomicInteger received = new AtomicInteger();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(2);
+		this.multicaster.addApplicationListener(event -> {
+			try {
+				listenerLatch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			received.incrementAndGet();
+		});
+
+		CountDownLatch publisherLatch = new CountDownLatch(1);
+		Thread publisher = new Thread(() -> {
+			for (int i = 0; i < 10; i++) {
+				this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+			}
+			publisherLatch.countDown();
+		});
+		publisher.start();
+
+		assertThat(publisherLatch.await(200, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(this.multicaster.getQueueSize()).isEqualTo(2);
+
+		listenerLatch.countDown();
+		assertThat(publisherLatch.await(5, TimeUnit.SECONDS)).isTrue();
+		awaitDelivered(10);
+		assertThat(received.get()).isEqualTo(10);
+	}
+
+	@Test
+	void listenerPublishingBeyondCapacityNotInvokedInline() {
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setQueueCapacity(1);
+		this.multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<Integer>>) event -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			received.add(event.getPayload());
+			if (event.getPayload() == 0) {
+				for (int i = 1; i < 5; i++) {
+					this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+				}
+			}
+			active.decrementAndGet();
+		});
+
+		this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 0));
+		awaitDelivered(5);
+		assertThat(received).containsExactly(0, 1, 2, 3, 4);
+		assertThat(maxActive.get()).isEqualTo(1);
+	}
+
+	@Test
+	void listenerSpecificExecutor() {
+		ExecutorService listenerExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "special"));
+		try {
+			this.multicaster.setTaskExecutor(this.executor);
+			this.multicaster.setListenerExecutors(Map.of("special", listenerExecutor));
+			List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+			this.multicaster.addApplicationListener(
+					event -> threadNames.add("default:" + Thread.currentThread().getName()));
+			this.multicaster.addApplicationListener(new SpecialListener(threadNames));
+
+			this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "event"));
+			awaitDelivered(2);
+			assertThat(threadNames).containsExactlyInAnyOrder("default:batching", "special:special");
+		}
+		finally {
+			listenerExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	void listenerExceptionDoesNotStopQueue() {
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.setErrorHandler(errors::add);
+		this.multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<Integer>>) event -> {
+			if (event.getPayload() == 1) {
+				throw new IllegalStateException("failure");
+			}
+			received.add(event.getPayload());
+		});
+
+		for (int i = 0; i < 3; i++) {
+			this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+		}
+		awaitDelivered(3);
+		assertThat(received).containsExactly(0, 2);
+		assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void batchListenerMethod() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		this.multicaster.setTaskExecutor(this.executor);
+		context.getBeanFactory().registerSingleton(APPLICATION_EVENT_MULTICASTER_BEAN_NAME, this.multicaster);
+		context.register(BatchListener.class);
+		context.refresh();
+
+		BatchListener listener = context.getBean(BatchListener.class);
+		for (int i = 0; i < 100; i++) {
+			context.publishEvent(new OrderEvent(i));
+		}
+		Awaitility.await()
+					.atMost(5, TimeUnit.SECONDS)
+					.pollInterval(10, TimeUnit.MILLISECONDS)
+					.until(() -> listener.received.size() == 50);
+		assertThat(listener.received).allMatch(event -> event.id() % 2 == 0)
+				.isSortedAccordingTo((a, b) -> a.id() - b.id());
+		assertThat(listener.batchSizes).allMatch(size -> size > 0 && size <= 100);
+		context.close();
+	}
+
+	@Test
+	void batchListenerMethodWithSimpleMulticaster() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BatchListener.class);
+		BatchListener listener = context.getBean(BatchListener.class);
+		for (int i = 0; i < 4; i++) {
+			context.publishEvent(new OrderEvent(i));
+		}
+		assertThat(listener.received).containsExactly(new OrderEvent(0), new OrderEvent(2));
+		assertThat(listener.batchSizes).containsExactly(1, 1);
+		context.close();
+	}
+
+	@Test
+	void batchListenerWithoutDefaultExecution() {
+		List<ApplicationEvent> received = Collections.synchronizedList(new ArrayList<>());
+		Method method = ReflectionUtils.findMethod(DeferredBatchListener.class, "onOrders", List.class);
+		this.multicaster.setTaskExecutor(this.executor);
+		this.multicaster.addApplicationListener(
+				new ApplicationListenerMethodAdapter("deferred", DeferredBatchListener.class, method) {
+					@Override
+					public void onApplicationEvent(ApplicationEvent event) {
+						received.add(event);
+					}
+				});
+
+		for (int i = 0; i < 3; i++) {
+			this.multicaster.multicastEvent(new PayloadApplicationEvent<>(this, new OrderEvent(i)));
+		}
+		awaitDelivered(3);
+		assertThat(received).extracting(event -> ((PayloadApplicationEvent<?>) event).getPayload())
+				.containsExactly(new OrderEvent(0), new OrderEvent(1), new OrderEvent(2));
+	}
+
+
+	private void awaitDelivered(long count) {
+		Awaitility.await()
+					.atMost(5, TimeUnit.SECONDS)
+					.pollInterval(10, TimeUnit.MILLISECONDS)
+					.until(() -> this.multicaster.getDeliveredEventCount() >= count);
+	}
+
+
+	record OrderEvent(int id) {
+	}
+
+
+	static class BatchListener {
+
+		final List<OrderEvent> received = Collections.synchronizedList(new ArrayList<>());
+
+		final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+		@EventListener(batch = true, condition = "#events[0].id() % 2 == 0")
+		public void onOrders(List<OrderEvent> events) {
+			this.batchSizes.add(events.size());
+			this.received.addAll(events);
+		}
+	}
+
+
+	static class DeferredBatchListener {
+
+		@EventListener(batch = true, defaultExecution = false)
+		public void onOrders(List<OrderEvent> events) {
+		}
+	}
+
+
+	static class SpecialListener implements SmartApplicationListener {
+
+		private final List<String> threadNames;
+
+		SpecialListener(List<String> threadNames) {
+			this.threadNames = threadNames;
+		}
+
+		@Override
+		public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+			return true;
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {
+			this.threadNames.add("special:" + Thread.currentThread().getName());
+		}
+
+		@Override
+		public String getListenerId() {
+			return "special";
+		}
+	}
+
+}
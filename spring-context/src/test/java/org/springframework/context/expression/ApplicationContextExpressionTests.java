@@ -25,6 +25,7 @@ import java.net.URI;
 import java.net.URL;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,9 +35,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanExpressionContext;
 import org.springframework.beans.factory.config.Scope;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.TestBean;
@@ -50,7 +53,14 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.EncodedResource;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.ExpressionCache;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -317,6 +327,28 @@ class ApplicationContextExpressionTests {
 						.withMessageEndingWith("exceeding the threshold of '20' characters"));
 	}
 
+	@Test
+	void sharedExpressionCacheWithImmediateCompilation() {
+		AtomicInteger parseCount = new AtomicInteger();
+		SpelExpressionParser parser = new SpelExpressionParser(
+				new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null)) {
+			@Override
+			protected SpelExpression doParseExpression(String expressionString, @Nullable ParserContext context) {
+				parseCount.incrementAndGet();
+				return super.doParseExpression(expressionString, context);
+			}
+		};
+		StandardBeanExpressionResolver resolver = new StandardBeanExpressionResolver();
+		resolver.setExpressionParser(parser);
+		resolver.setExpressionCache(new ExpressionCache());
+		BeanExpressionContext context = new BeanExpressionContext(new DefaultListableBeanFactory(), null);
+
+		assertThat(resolver.evaluate("#{1 + 2}", context)).isEqualTo(3);
+		assertThat(resolver.evaluate("#{1 + 2}", context)).isEqualTo(3);
+		assertThat(resolver.evaluate("#{1 + 2}", context)).isEqualTo(3);
+		assertThat(parseCount).hasValue(1);
+	}
+
 	private static void doWithMaxSpelExpressionLength(String maxLength, Runnable action) {
 		try {
 			SpringProperties.setProperty(MAX_SPEL_EXPRESSION_LENGTH_PROPERTY_NAME, maxLength);
@@ -23,6 +23,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.ExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
@@ -67,10 +70,52 @@ class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache).as("Cached expression should be based on type").hasSize(2);
 	}
 
+	@Test
+	void sharedExpressionCache() {
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		ExpressionCache expressionCache = new ExpressionCache();
+		TestExpressionEvaluator otherEvaluator = new TestExpressionEvaluator();
+		expressionEvaluator.setExpressionCache(expressionCache);
+		otherEvaluator.setExpressionCache(expressionCache);
+
+		Expression expression = expressionEvaluator.getTestExpression("true", method, getClass());
+		assertThat(otherEvaluator.getTestExpression("true", method, Object.class)).isSameAs(expression);
+		assertThat(expressionEvaluator.testCache).isEmpty();
+		assertThat(expressionCache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void sharedExpressionCacheWithImmediateCompilation() {
+		Method stringMethod = ReflectionUtils.findMethod(getClass(), "handleString", String.class);
+		Method builderMethod = ReflectionUtils.findMethod(getClass(), "handleBuilder", StringBuilder.class);
+		SpelExpressionParser parser = new SpelExpressionParser(
+				new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, getClass().getClassLoader()));
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(parser);
+		ExpressionCache expressionCache = new ExpressionCache();
+		evaluator.setExpressionCache(expressionCache);
+
+		Expression stringExpression = evaluator.getTestExpression("length()", stringMethod, getClass());
+		assertThat(stringExpression.getValue("text")).isEqualTo(4);
+		assertThat(stringExpression.getValue("compiled")).isEqualTo(8);
+		Expression builderExpression = evaluator.getTestExpression("length()", builderMethod, getClass());
+		assertThat(builderExpression).isNotSameAs(stringExpression);
+		assertThat(builderExpression.getValue(new StringBuilder("other"))).isEqualTo(5);
+		assertThat(evaluator.getTestExpression("length()", stringMethod, getClass())).isSameAs(stringExpression);
+		assertThat(expressionCache.size()).isZero();
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
 
+	@SuppressWarnings("unused")
+	private void handleString(String value) {
+	}
+
+	@SuppressWarnings("unused")
+	private void handleBuilder(StringBuilder value) {
+	}
+
 	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
 
 		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
@@ -79,6 +124,10 @@ class CachedExpressionEvaluatorTests {
 			super(mockSpelExpressionParser());
 		}
 
+		public TestExpressionEvaluator(SpelExpressionParser parser) {
+			super(parser);
+		}
+
 		public Expression getTestExpression(String expression, Method method, Class<?> type) {
 			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
 		}
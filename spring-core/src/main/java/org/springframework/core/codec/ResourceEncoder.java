@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.core.codec;
 
+import java.io.IOException;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -44,8 +45,17 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	 */
 	public static final int DEFAULT_BUFFER_SIZE = StreamUtils.BUFFER_SIZE;
 
+	/**
+	 * The maximum size of the memory-mapped regions of file resources.
+	 * @since 6.2
+	 * @see #setMappedReadThreshold(long)
+	 */
+	public static final int MAPPED_REGION_SIZE = 4 * 1024 * 1024;
+
 	private final int bufferSize;
 
+	private long mappedReadThreshold = -1;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -58,6 +68,28 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum content length, in bytes, of file resources to read via
+	 * {@link DataBufferUtils#readMapped(Resource, long, long, DataBufferFactory, int)
+	 * memory-mapped} regions of up to {@value #MAPPED_REGION_SIZE} bytes,
+	 * rather than copying their content into buffers of the configured size.
+	 * <p>By default, this is set to -1, i.e. resources are never memory-mapped.
+	 * @since 6.2
+	 */
+	public void setMappedReadThreshold(long mappedReadThreshold) {
+		this.mappedReadThreshold = mappedReadThreshold;
+	}
+
+	/**
+	 * Return the minimum content length of file resources to read via
+	 * memory-mapped regions, or -1 if disabled.
+	 * @since 6.2
+	 */
+	public long getMappedReadThreshold() {
+		return this.mappedReadThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.toClass();
@@ -72,6 +104,16 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		if (this.mappedReadThreshold >= 0 && resource.isFile()) {
+			try {
+				if (resource.contentLength() >= this.mappedReadThreshold) {
+					return DataBufferUtils.readMapped(resource, 0, -1, bufferFactory, MAPPED_REGION_SIZE);
+				}
+			}
+			catch (IOException ignore) {
+				// fallback to DataBufferUtils.read(Resource), below
+			}
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
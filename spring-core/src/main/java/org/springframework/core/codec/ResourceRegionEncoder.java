@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -58,6 +58,8 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 
 	private final int bufferSize;
 
+	private long mappedReadThreshold = -1;
+
 
 	public ResourceRegionEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -69,6 +71,27 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		this.bufferSize = bufferSize;
 	}
 
+	/**
+	 * Set the minimum content length, in bytes, of file resources to read via
+	 * {@link DataBufferUtils#readMapped(Resource, long, long, DataBufferFactory, int)
+	 * memory-mapped} regions of up to {@value ResourceEncoder#MAPPED_REGION_SIZE} bytes,
+	 * rather than copying their content into buffers of the configured size.
+	 * <p>By default, this is set to -1, i.e. resources are never memory-mapped.
+	 * @since 6.2
+	 */
+	public void setMappedReadThreshold(long mappedReadThreshold) {
+		this.mappedReadThreshold = mappedReadThreshold;
+	}
+
+	/**
+	 * Return the minimum content length of file resources to read via
+	 * memory-mapped regions, or -1 if disabled.
+	 * @since 6.2
+	 */
+	public long getMappedReadThreshold() {
+		return this.mappedReadThreshold;
+	}
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return super.canEncode(elementType, mimeType)
@@ -129,7 +152,14 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
-		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		Flux<DataBuffer> in;
+		if (this.mappedReadThreshold >= 0 && count >= this.mappedReadThreshold && resource.isFile()) {
+			in = DataBufferUtils.readMapped(
+					resource, position, count, bufferFactory, ResourceEncoder.MAPPED_REGION_SIZE);
+		}
+		else {
+			in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		}
 		if (logger.isDebugEnabled()) {
 			in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
 		}
@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
@@ -237,6 +239,74 @@ public abstract class DataBufferUtils {
 		return position == 0 ? result : skipUntilByteCount(result, position);
 	}
 
+	/**
+	 * Read the given region of a file {@code Path} into a {@code Flux} of
+	 * read-only {@code DataBuffer}s that wrap memory-mapped regions of the file,
+	 * rather than copying its content into allocated buffers.
+	 * <p>Each region is mapped through {@link FileChannel#map} once requested,
+	 * and remains valid after the file is closed when the flux is terminated.
+	 * The mapping is freed by the JVM once the wrapping buffer is no longer
+	 * referenced; it is therefore best suited for large files that are written
+	 * out directly, for example by a {@code DataBufferFactory} that writes
+	 * wrapped direct buffers without copying. Note that the content of the
+	 * buffers is undefined, and access may fail, if the file is truncated
+	 * while mapped.
+	 * @param path the path to read bytes from
+	 * @param position the position to start reading from
+	 * @param count the maximum number of bytes to read, or -1 to read
+	 * until the end of the file
+	 * @param bufferFactory the factory to wrap the mapped regions with
+	 * @param bufferSize the maximum size of each mapped region
+	 * @return a Flux of data buffers wrapping the mapped regions of the file
+	 * @since 6.2
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= -1, "'count' must be >= -1");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.generate(new MappedFileChannelGenerator(
+						channel, position, count, bufferFactory, bufferSize)),
+				DataBufferUtils::closeChannel);
+
+		// No doOnDiscard as operators used do not cache
+	}
+
+	/**
+	 * Read the given region of a {@code Resource} into a {@code Flux} of
+	 * {@code DataBuffer}s.
+	 * <p>If the resource is a file, its content is memory-mapped via
+	 * {@link #readMapped(Path, long, long, DataBufferFactory, int)}, or else
+	 * read via {@link #read(Resource, long, DataBufferFactory, int)}.
+	 * @param resource the resource to read from
+	 * @param position the position to start reading from
+	 * @param count the maximum number of bytes to read, or -1 to read
+	 * until the end of the resource
+	 * @param bufferFactory the factory to create data buffers with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers read from the given resource
+	 * @since 6.2
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Resource resource, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		try {
+			if (resource.isFile()) {
+				return readMapped(resource.getFile().toPath(), position, count, bufferFactory, bufferSize);
+			}
+		}
+		catch (IOException ignore) {
+			// fallback to read(Resource), below
+		}
+		Flux<DataBuffer> result = read(resource, position, bufferFactory, bufferSize);
+		return (count == -1 ? result : takeUntilByteCount(result, count));
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -1017,6 +1087,49 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private final FileChannel channel;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int bufferSize;
+
+		private long position;
+
+		private long remaining;
+
+		public MappedFileChannelGenerator(FileChannel channel, long position, long count,
+				DataBufferFactory dataBufferFactory, int bufferSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.remaining = (count != -1 ? count : Long.MAX_VALUE);
+			this.dataBufferFactory = dataBufferFactory;
+			this.bufferSize = bufferSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				long size = Math.min(Math.min(this.remaining, this.bufferSize), this.channel.size() - this.position);
+				if (size > 0) {
+					MappedByteBuffer byteBuffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+					this.position += size;
+					this.remaining -= size;
+					sink.next(this.dataBufferFactory.wrap(byteBuffer));
+				}
+				else {
+					sink.complete();
+				}
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadCompletionHandler implements CompletionHandler<Integer, ReadCompletionHandler.Attachment> {
 
 		private final AsynchronousFileChannel channel;
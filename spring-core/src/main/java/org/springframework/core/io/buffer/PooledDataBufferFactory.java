@@ -0,0 +1,793 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that recycles the
+ * {@link ByteBuffer ByteBuffers} backing the buffers it allocates, for use in
+ * environments without a pooled allocator of their own, such as the Servlet,
+ * Jetty and Undertow adapters in {@code org.springframework.http.server.reactive}.
+ *
+ * <p>Buffers allocated by this factory are {@link PooledDataBuffer pooled}: they
+ * must be {@linkplain DataBufferUtils#release(DataBuffer) released} after use
+ * so that their memory can be reused. Requested capacities are rounded up to a
+ * power-of-two size class, starting at {@value DefaultDataBufferFactory#DEFAULT_INITIAL_CAPACITY}
+ * bytes; each size class has a bounded arena of free buffers shared by all
+ * threads, fronted by a small cache per thread. Capacities above the
+ * {@linkplain #PooledDataBufferFactory(boolean, int, long) maximum pooled capacity}
+ * are allocated and released without pooling.
+ *
+ * <p>The memory retained for reuse, in the shared arenas and the per-thread
+ * caches combined, never exceeds the configured maximum pooled memory: a
+ * released buffer that does not fit within that limit is left to the garbage
+ * collector. The buffers cached by a thread are counted until that thread
+ * terminates and its cache has been garbage collected.
+ *
+ * <p>Leak detection can be enabled through {@link #setLeakDetection(boolean)},
+ * in which case buffers that are garbage collected without having been released
+ * are logged at warn level along with their last {@linkplain PooledDataBuffer#touch(Object)
+ * touch hints}, and returned to the pool.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see DefaultDataBufferFactory
+ * @see NettyDataBufferFactory
+ */
+public class PooledDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The default maximum capacity of pooled buffers.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default maximum amount of memory retained for reuse, in the shared
+	 * arenas and the per-thread caches combined.
+	 */
+	public static final long DEFAULT_MAX_POOLED_MEMORY = 32 * 1024 * 1024;
+
+	private static final int MIN_CAPACITY = DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY;
+
+	private static final int MIN_CAPACITY_SHIFT = Integer.numberOfTrailingZeros(MIN_CAPACITY);
+
+	private static final int UNPOOLED = -1;
+
+	private static final int MAX_TOUCH_HINTS = 8;
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final boolean preferDirect;
+
+	private final int maxPooledCapacity;
+
+	private final long maxPooledMemory;
+
+	private final AtomicLong pooledMemory = new AtomicLong();
+
+	private final ArrayBlockingQueue<ByteBuffer>[] arenas;
+
+	private final DefaultDataBufferFactory delegateFactory;
+
+	private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(this::createThreadCache);
+
+	private int threadCacheSize = 16;
+
+	private boolean leakDetection = false;
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} that pools direct buffers
+	 * with default settings.
+	 */
+	public PooledDataBufferFactory() {
+		this(true);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} with default settings.
+	 * @param preferDirect {@code true} if direct buffers are to be pooled;
+	 * {@code false} for heap buffers
+	 */
+	public PooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_POOLED_MEMORY);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}.
+	 * @param preferDirect {@code true} if direct buffers are to be pooled;
+	 * {@code false} for heap buffers
+	 * @param maxPooledCapacity the maximum capacity of a pooled buffer;
+	 * buffers with a larger capacity are not pooled
+	 * @param maxPooledMemory the maximum amount of memory retained for reuse,
+	 * in the shared arenas and the per-thread caches combined; each size class
+	 * arena holds at most an even share of it
+	 */
+	@SuppressWarnings("unchecked")
+	public PooledDataBufferFactory(boolean preferDirect, int maxPooledCapacity, long maxPooledMemory) {
+		Assert.isTrue(maxPooledCapacity >= MIN_CAPACITY,
+				() -> "'maxPooledCapacity' should be at least " + MIN_CAPACITY);
+		Assert.isTrue(maxPooledMemory > 0, "'maxPooledMemory' should be larger than 0");
+		this.preferDirect = preferDirect;
+		this.maxPooledCapacity = sizeClassCapacity(sizeClass(maxPooledCapacity));
+		this.maxPooledMemory = maxPooledMemory;
+		this.arenas = new ArrayBlockingQueue[sizeClass(this.maxPooledCapacity) + 1];
+		long memoryPerSizeClass = maxPooledMemory / this.arenas.length;
+		for (int i = 0; i < this.arenas.length; i++) {
+			long count = memoryPerSizeClass / sizeClassCapacity(i);
+			this.arenas[i] = new ArrayBlockingQueue<>((int) Math.max(1, Math.min(count, Integer.MAX_VALUE - 8)));
+		}
+		this.delegateFactory = new DefaultDataBufferFactory(preferDirect);
+	}
+
+
+	/**
+	 * Set the maximum number of free buffers per size class that each thread
+	 * keeps for itself before handing them back to the shared arenas.
+	 * <p>By default, this is set to 16. Cached buffers count against the maximum
+	 * pooled memory, so a released buffer is only cached if the limit allows.
+	 * Set this to 0 in order to disable the per-thread caches, e.g. when buffers
+	 * are mostly allocated on virtual threads.
+	 * <p>Meant to be configured before the factory is used.
+	 */
+	public void setThreadCacheSize(int threadCacheSize) {
+		Assert.isTrue(threadCacheSize >= 0, "'threadCacheSize' must not be negative");
+		this.threadCacheSize = threadCacheSize;
+	}
+
+	/**
+	 * Return the configured maximum number of free buffers per size class
+	 * cached by each thread.
+	 */
+	public int getThreadCacheSize() {
+		return this.threadCacheSize;
+	}
+
+	/**
+	 * Specify whether to track allocated buffers, logging those that are garbage
+	 * collected without having been released.
+	 * <p>By default, this is set to {@code false}. Tracking comes at a cost for
+	 * every allocation and is mainly meant for tests and troubleshooting.
+	 * <p>Meant to be configured before the factory is used.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether allocated buffers are tracked for leaks.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+	/**
+	 * Return the maximum capacity of pooled buffers, rounded up to the
+	 * corresponding size class.
+	 */
+	public int getMaxPooledCapacity() {
+		return this.maxPooledCapacity;
+	}
+
+	/**
+	 * Return the amount of memory currently retained for reuse, in the shared
+	 * arenas and the per-thread caches combined.
+	 * @see #PooledDataBufferFactory(boolean, int, long)
+	 */
+	public long getPooledMemory() {
+		return this.pooledMemory.get();
+	}
+
+
+	@Override
+	@Deprecated
+	public PooledDataBuffer allocateBuffer() {
+		return allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public PooledDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		if (initialCapacity > this.maxPooledCapacity) {
+			ByteBuffer byteBuffer = allocate(initialCapacity);
+			return createDataBuffer(byteBuffer, UNPOOLED, DefaultDataBuffer.fromEmptyByteBuffer(
+					this.delegateFactory, byteBuffer));
+		}
+		int sizeClass = sizeClass(initialCapacity);
+		int capacity = sizeClassCapacity(sizeClass);
+		ByteBuffer byteBuffer = (this.threadCacheSize > 0 ? this.threadCache.get().poll(sizeClass, capacity) : null);
+		if (byteBuffer == null) {
+			byteBuffer = this.arenas[sizeClass].poll();
+		}
+		if (byteBuffer != null) {
+			this.pooledMemory.addAndGet(-capacity);
+		}
+		else {
+			byteBuffer = allocate(capacity);
+		}
+		return createDataBuffer(byteBuffer, sizeClass, DefaultDataBuffer.fromEmptyByteBuffer(
+				this.delegateFactory, byteBuffer));
+	}
+
+	@Override
+	public PooledDataBuffer wrap(ByteBuffer byteBuffer) {
+		return createDataBuffer(byteBuffer, UNPOOLED, this.delegateFactory.wrap(byteBuffer));
+	}
+
+	@Override
+	public PooledDataBuffer wrap(byte[] bytes) {
+		return createDataBuffer(ByteBuffer.wrap(bytes), UNPOOLED, this.delegateFactory.wrap(bytes));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation creates a single pooled buffer to contain the
+	 * data in {@code dataBuffers}.
+	 */
+	@Override
+	public PooledDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		PooledDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.preferDirect;
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + this.preferDirect +
+				", maxPooledCapacity=" + this.maxPooledCapacity + ")";
+	}
+
+
+	private PooledDataBuffer createDataBuffer(ByteBuffer byteBuffer, int sizeClass, DataBuffer delegate) {
+		Allocation allocation = new Allocation(byteBuffer, sizeClass);
+		if (this.leakDetection) {
+			allocation.leakRecord = new LeakRecord(this, byteBuffer, sizeClass);
+			allocation.cleanable = BufferCleaner.cleaner.register(allocation, allocation.leakRecord);
+		}
+		return new PooledByteBufferDataBuffer(this, allocation, delegate);
+	}
+
+	private ByteBuffer allocate(int capacity) {
+		return (this.preferDirect ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
+	private void recycle(ByteBuffer byteBuffer, int sizeClass, boolean useThreadCache) {
+		if (sizeClass == UNPOOLED) {
+			return;
+		}
+		int capacity = sizeClassCapacity(sizeClass);
+		if (!reservePooledMemory(capacity)) {
+			// Pool is full: leave the buffer to the garbage collector
+			return;
+		}
+		byteBuffer.clear();
+		if (useThreadCache && this.threadCacheSize > 0 &&
+				this.threadCache.get().offer(sizeClass, capacity, byteBuffer)) {
+			return;
+		}
+		if (!this.arenas[sizeClass].offer(byteBuffer)) {
+			this.pooledMemory.addAndGet(-capacity);
+		}
+	}
+
+	private boolean reservePooledMemory(int capacity) {
+		long current;
+		do {
+			current = this.pooledMemory.get();
+			if (current + capacity > this.maxPooledMemory) {
+				return false;
+			}
+		}
+		while (!this.pooledMemory.compareAndSet(current, current + capacity));
+		return true;
+	}
+
+	private ThreadCache createThreadCache() {
+		ThreadCache cache = new ThreadCache(this.arenas.length, this.threadCacheSize);
+		// Stop counting the buffers of a terminated thread once its cache is collected
+		BufferCleaner.cleaner.register(cache, new ThreadCacheRelease(this.pooledMemory, cache.cachedMemory));
+		return cache;
+	}
+
+	private static int sizeClass(int capacity) {
+		if (capacity <= MIN_CAPACITY) {
+			return 0;
+		}
+		return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_CAPACITY_SHIFT;
+	}
+
+	private static int sizeClassCapacity(int sizeClass) {
+		return MIN_CAPACITY << sizeClass;
+	}
+
+
+	/**
+	 * Free buffers cached by a single thread, per size class.
+	 */
+	private static final class ThreadCache {
+
+		private final ByteBuffer[][] buffers;
+
+		private final int[] counts;
+
+		/** Only updated by the owning thread, read once that thread has terminated. */
+		final AtomicLong cachedMemory = new AtomicLong();
+
+		ThreadCache(int sizeClasses, int size) {
+			this.buffers = new ByteBuffer[sizeClasses][size];
+			this.counts = new int[sizeClasses];
+		}
+
+		@Nullable
+		ByteBuffer poll(int sizeClass, int capacity) {
+			int count = this.counts[sizeClass];
+			if (count == 0) {
+				return null;
+			}
+			count--;
+			ByteBuffer byteBuffer = this.buffers[sizeClass][count];
+			this.buffers[sizeClass][count] = null;
+			this.counts[sizeClass] = count;
+			this.cachedMemory.lazySet(this.cachedMemory.get() - capacity);
+			return byteBuffer;
+		}
+
+		boolean offer(int sizeClass, int capacity, ByteBuffer byteBuffer) {
+			int count = this.counts[sizeClass];
+			if (count == this.buffers[sizeClass].length) {
+				return false;
+			}
+			this.buffers[sizeClass][count] = byteBuffer;
+			this.counts[sizeClass] = count + 1;
+			this.cachedMemory.lazySet(this.cachedMemory.get() + capacity);
+			return true;
+		}
+	}
+
+
+	/**
+	 * Cleaning action for a garbage collected {@link ThreadCache}, no longer
+	 * counting its buffers as pooled memory.
+	 */
+	private record ThreadCacheRelease(AtomicLong pooledMemory, AtomicLong cachedMemory) implements Runnable {
+
+		@Override
+		public void run() {
+			this.pooledMemory.addAndGet(-this.cachedMemory.get());
+		}
+	}
+
+
+	/**
+	 * Reference-counted ownership of a {@code ByteBuffer}, shared between a
+	 * buffer and the buffers split or sliced from it.
+	 */
+	private static final class Allocation {
+
+		private static final AtomicIntegerFieldUpdater<Allocation> REF_COUNT =
+				AtomicIntegerFieldUpdater.newUpdater(Allocation.class, "refCount");
+
+		final ByteBuffer byteBuffer;
+
+		final int sizeClass;
+
+		private volatile int refCount = 1;
+
+		@Nullable
+		LeakRecord leakRecord;
+
+		@Nullable
+		Cleaner.Cleanable cleanable;
+
+		Allocation(ByteBuffer byteBuffer, int sizeClass) {
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+		}
+
+		boolean isAllocated() {
+			return this.refCount > 0;
+		}
+
+		void retain() {
+			int count;
+			do {
+				count = this.refCount;
+				if (count <= 0) {
+					throw new IllegalStateException("Buffer has already been released");
+				}
+			}
+			while (!REF_COUNT.compareAndSet(this, count, count + 1));
+		}
+
+		boolean release(PooledDataBufferFactory factory) {
+			int count;
+			do {
+				count = this.refCount;
+				if (count <= 0) {
+					throw new IllegalStateException("Buffer has already been released");
+				}
+			}
+			while (!REF_COUNT.compareAndSet(this, count, count - 1));
+			if (count > 1) {
+				return false;
+			}
+			if (this.leakRecord != null && this.cleanable != null) {
+				this.leakRecord.released = true;
+				this.cleanable.clean();
+			}
+			factory.recycle(this.byteBuffer, this.sizeClass, true);
+			return true;
+		}
+
+		void touch(Object hint) {
+			if (this.leakRecord != null) {
+				this.leakRecord.touch(hint);
+			}
+		}
+	}
+
+
+	/**
+	 * Holder for the {@link Cleaner} used for leak detection and for thread
+	 * caches, only initialized on demand.
+	 */
+	private static final class BufferCleaner {
+
+		static final Cleaner cleaner = Cleaner.create();
+	}
+
+
+	/**
+	 * Cleaning action for a tracked {@link Allocation}, reporting the allocation
+	 * as leaked if it becomes unreachable without having been released.
+	 */
+	private static final class LeakRecord implements Runnable {
+
+		private final PooledDataBufferFactory factory;
+
+		private final ByteBuffer byteBuffer;
+
+		private final int sizeClass;
+
+		private final Deque<String> hints = new ArrayDeque<>(MAX_TOUCH_HINTS);
+
+		volatile boolean released;
+
+		LeakRecord(PooledDataBufferFactory factory, ByteBuffer byteBuffer, int sizeClass) {
+			this.factory = factory;
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+		}
+
+		synchronized void touch(Object hint) {
+			if (this.hints.size() == MAX_TOUCH_HINTS) {
+				this.hints.removeFirst();
+			}
+			this.hints.addLast(String.valueOf(hint));
+		}
+
+		@Override
+		public void run() {
+			if (this.released) {
+				return;
+			}
+			if (logger.isWarnEnabled()) {
+				String hints;
+				synchronized (this) {
+					hints = (this.hints.isEmpty() ? "none" : String.join(", ", this.hints));
+				}
+				logger.warn("DataBuffer with capacity " + this.byteBuffer.capacity() +
+						" was garbage collected without having been released; recent touch hints: " + hints);
+			}
+			// Not on an allocating thread: straight back to the shared arena
+			this.factory.recycle(this.byteBuffer, this.sizeClass, false);
+		}
+	}
+
+
+	/**
+	 * {@link PooledDataBuffer} backed by a {@link DefaultDataBuffer} over a
+	 * pooled {@code ByteBuffer}. Once released, the buffer can no longer be
+	 * accessed as its memory may be reused by another buffer.
+	 */
+	private static final class PooledByteBufferDataBuffer implements PooledDataBuffer {
+
+		private final PooledDataBufferFactory factory;
+
+		private final Allocation allocation;
+
+		private final DataBuffer delegate;
+
+		PooledByteBufferDataBuffer(PooledDataBufferFactory factory, Allocation allocation, DataBuffer delegate) {
+			this.factory = factory;
+			this.allocation = allocation;
+			this.delegate = delegate;
+		}
+
+		private DataBuffer delegate() {
+			if (!this.allocation.isAllocated()) {
+				throw new IllegalStateException("Buffer has already been released");
+			}
+			return this.delegate;
+		}
+
+		@Override
+		public PooledDataBufferFactory factory() {
+			return this.factory;
+		}
+
+		@Override
+		public boolean isAllocated() {
+			return this.allocation.isAllocated();
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+			this.allocation.retain();
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer touch(Object hint) {
+			this.allocation.touch(hint);
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			return this.allocation.release(this.factory);
+		}
+
+		@Override
+		public int indexOf(IntPredicate predicate, int fromIndex) {
+			return delegate().indexOf(predicate, fromIndex);
+		}
+
+		@Override
+		public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+			return delegate().lastIndexOf(predicate, fromIndex);
+		}
+
+		@Override
+		public int readableByteCount() {
+			return delegate().readableByteCount();
+		}
+
+		@Override
+		public int writableByteCount() {
+			return delegate().writableByteCount();
+		}
+
+		@Override
+		public int capacity() {
+			return delegate().capacity();
+		}
+
+		@Override
+		@Deprecated
+		public PooledDataBuffer capacity(int capacity) {
+			delegate().capacity(capacity);
+			return this;
+		}
+
+		@Override
+		@Deprecated
+		public PooledDataBuffer ensureCapacity(int capacity) {
+			return ensureWritable(capacity);
+		}
+
+		@Override
+		public PooledDataBuffer ensureWritable(int capacity) {
+			delegate().ensureWritable(capacity);
+			return this;
+		}
+
+		@Override
+		public int readPosition() {
+			return delegate().readPosition();
+		}
+
+		@Override
+		public PooledDataBuffer readPosition(int readPosition) {
+			delegate().readPosition(readPosition);
+			return this;
+		}
+
+		@Override
+		public int writePosition() {
+			return delegate().writePosition();
+		}
+
+		@Override
+		public PooledDataBuffer writePosition(int writePosition) {
+			delegate().writePosition(writePosition);
+			return this;
+		}
+
+		@Override
+		public byte getByte(int index) {
+			return delegate().getByte(index);
+		}
+
+		@Override
+		public byte read() {
+			return delegate().read();
+		}
+
+		@Override
+		public PooledDataBuffer read(byte[] destination) {
+			delegate().read(destination);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer read(byte[] destination, int offset, int length) {
+			delegate().read(destination, offset, length);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer write(byte b) {
+			delegate().write(b);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer write(byte[] source) {
+			delegate().write(source);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer write(byte[] source, int offset, int length) {
+			delegate().write(source, offset, length);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer write(DataBuffer... buffers) {
+			delegate().write(buffers);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer write(ByteBuffer... buffers) {
+			delegate().write(buffers);
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer write(CharSequence charSequence, Charset charset) {
+			delegate().write(charSequence, charset);
+			return this;
+		}
+
+		@Override
+		@Deprecated
+		public PooledDataBuffer slice(int index, int length) {
+			return new PooledByteBufferDataBuffer(this.factory, this.allocation, delegate().slice(index, length));
+		}
+
+		@Override
+		@Deprecated
+		public PooledDataBuffer retainedSlice(int index, int length) {
+			PooledDataBuffer slice = slice(index, length);
+			this.allocation.retain();
+			return slice;
+		}
+
+		@Override
+		public PooledDataBuffer split(int index) {
+			DataBuffer split = delegate().split(index);
+			this.allocation.retain();
+			return new PooledByteBufferDataBuffer(this.factory, this.allocation, split);
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuffer asByteBuffer() {
+			return delegate().asByteBuffer();
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuffer asByteBuffer(int index, int length) {
+			return delegate().asByteBuffer(index, length);
+		}
+
+		@Override
+		@Deprecated
+		public ByteBuffer toByteBuffer(int index, int length) {
+			return delegate().toByteBuffer(index, length);
+		}
+
+		@Override
+		public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+			delegate().toByteBuffer(srcPos, dest, destPos, length);
+		}
+
+		@Override
+		public ByteBufferIterator readableByteBuffers() {
+			return delegate().readableByteBuffers();
+		}
+
+		@Override
+		public ByteBufferIterator writableByteBuffers() {
+			return delegate().writableByteBuffers();
+		}
+
+		@Override
+		public InputStream asInputStream(boolean releaseOnClose) {
+			return new DataBufferInputStream(this, releaseOnClose);
+		}
+
+		@Override
+		public OutputStream asOutputStream() {
+			return new DataBufferOutputStream(this);
+		}
+
+		@Override
+		public String toString(int index, int length, Charset charset) {
+			return delegate().toString(index, length, charset);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof PooledByteBufferDataBuffer that &&
+					this.delegate.equals(that.delegate)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.delegate.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "PooledDataBuffer (r: " + this.delegate.readPosition() + ", w: " +
+					this.delegate.writePosition() + ", c: " + this.delegate.capacity() + ")";
+		}
+	}
+
+}
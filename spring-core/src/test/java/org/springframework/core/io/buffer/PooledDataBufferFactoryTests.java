@@ -0,0 +1,176 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PooledDataBufferFactory}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	void capacityRoundedUpToSizeClass() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer.capacity()).isEqualTo(256);
+		buffer.release();
+
+		buffer = this.bufferFactory.allocateBuffer(257);
+		assertThat(buffer.capacity()).isEqualTo(512);
+		buffer.release();
+
+		buffer = this.bufferFactory.allocateBuffer(PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY);
+		assertThat(buffer.capacity()).isEqualTo(PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY);
+		buffer.release();
+	}
+
+	@Test
+	void largeBufferNotPooled() {
+		int capacity = PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY + 1;
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(capacity);
+		assertThat(buffer.capacity()).isEqualTo(capacity);
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void releasedBufferCannotBeAccessed() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write((byte) 'a');
+		buffer.release();
+
+		assertThat(buffer.isAllocated()).isFalse();
+		assertThatIllegalStateException().isThrownBy(buffer::read);
+	}
+
+	@Test
+	void releasedBufferIsReused() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write("foo", StandardCharsets.UTF_8);
+		buffer.release();
+
+		PooledDataBuffer other = this.bufferFactory.allocateBuffer(20);
+		assertThat(other.readableByteCount()).isZero();
+		assertThat(other.writableByteCount()).isEqualTo(256);
+		other.write("bar", StandardCharsets.UTF_8);
+		assertThat(other.toString(StandardCharsets.UTF_8)).isEqualTo("bar");
+		other.release();
+	}
+
+	@Test
+	void splitSharesReferenceCount() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write("foobar", StandardCharsets.UTF_8);
+
+		PooledDataBuffer split = (PooledDataBuffer) buffer.split(3);
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("bar");
+
+		assertThat(buffer.release()).isFalse();
+		assertThat(split.isAllocated()).isTrue();
+		assertThat(split.release()).isTrue();
+		assertThat(buffer.isAllocated()).isFalse();
+	}
+
+	@Test
+	void writeBeyondCapacity() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(1);
+		buffer.write(new byte[1000]);
+		assertThat(buffer.readableByteCount()).isEqualTo(1000);
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void join() {
+		PooledDataBuffer foo = this.bufferFactory.allocateBuffer(3);
+		foo.write("foo", StandardCharsets.UTF_8);
+		PooledDataBuffer bar = this.bufferFactory.wrap("bar".getBytes(StandardCharsets.UTF_8));
+
+		PooledDataBuffer result = this.bufferFactory.join(List.of(foo, bar));
+		assertThat(result.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+		assertThat(result.factory()).isSameAs(this.bufferFactory);
+		assertThat(foo.isAllocated()).isFalse();
+		assertThat(bar.isAllocated()).isFalse();
+		result.release();
+	}
+
+	@Test
+	void touchWithLeakDetection() {
+		PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory(false);
+		bufferFactory.setLeakDetection(true);
+		PooledDataBuffer buffer = bufferFactory.allocateBuffer(10);
+		assertThat(buffer.touch("hint")).isSameAs(buffer);
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void withoutThreadCache() {
+		PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory(true);
+		bufferFactory.setThreadCacheSize(0);
+		PooledDataBuffer buffer = bufferFactory.allocateBuffer(10);
+		buffer.write((byte) 'a');
+		assertThat(buffer.release()).isTrue();
+		assertThat(bufferFactory.allocateBuffer(10).readableByteCount()).isZero();
+	}
+
+	@Test
+	void pooledMemoryLimitIncludesThreadCache() {
+		PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory(false, 1024, 2048);
+		List<PooledDataBuffer> buffers = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			buffers.add(bufferFactory.allocateBuffer(1024));
+		}
+		buffers.forEach(DataBufferUtils::release);
+		assertThat(bufferFactory.getPooledMemory()).isEqualTo(2048);
+
+		bufferFactory.allocateBuffer(1024);
+		assertThat(bufferFactory.getPooledMemory()).isEqualTo(1024);
+	}
+
+	@Test
+	void pooledMemoryLimitAcrossThreads() throws InterruptedException {
+		PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory(false, 1024, 4096);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Thread thread = new Thread(() -> {
+				List<PooledDataBuffer> buffers = new ArrayList<>();
+				for (int j = 0; j < 4; j++) {
+					buffers.add(bufferFactory.allocateBuffer(1024));
+				}
+				buffers.forEach(DataBufferUtils::release);
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(bufferFactory.getPooledMemory()).isBetween(0L, 4096L);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,23 @@
 
 package org.springframework.expression.spel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -103,4 +108,59 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class CollectionBenchmarkData {
+
+		@Param({"OFF", "IMMEDIATE"})
+		public String compilerMode;
+
+		@Param({"names.![length()]", "names.?[length() > 4]", "names.^[length() > 4]",
+				"counts.?[value > 50]", "counts.![key]", "counts[names[0]]"})
+		public String expressionString;
+
+		public CollectionRoot root = new CollectionRoot();
+
+		public Expression expression;
+
+		@Setup
+		public void setup() {
+			SpelParserConfiguration configuration = new SpelParserConfiguration(
+					SpelCompilerMode.valueOf(this.compilerMode), getClass().getClassLoader());
+			this.expression = new SpelExpressionParser(configuration).parseExpression(this.expressionString);
+			this.expression.getValue(this.root);
+			if (this.compilerMode.equals("IMMEDIATE") && !((SpelExpression) this.expression).compileExpression()) {
+				throw new IllegalStateException("Expression not compilable: " + this.expressionString);
+			}
+		}
+	}
+
+	@Benchmark
+	public Object collectionSelectionAndProjection(CollectionBenchmarkData data) {
+		return data.expression.getValue(data.root);
+	}
+
+
+	public static class CollectionRoot {
+
+		private final List<String> names = new ArrayList<>();
+
+		private final Map<String, Integer> counts = new HashMap<>();
+
+		public CollectionRoot() {
+			for (int i = 0; i < 100; i++) {
+				String name = "name" + i;
+				this.names.add(name);
+				this.counts.put(name, i);
+			}
+		}
+
+		public List<String> getNames() {
+			return this.names;
+		}
+
+		public Map<String, Integer> getCounts() {
+			return this.counts;
+		}
+	}
+
 }
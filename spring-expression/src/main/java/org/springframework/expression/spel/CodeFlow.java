@@ -101,9 +101,16 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the evaluation context).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * Local variables holding the active context object within nested scopes,
+	 * for example the current element of a collection selection or projection.
+	 */
+	private final Deque<Integer> contextObjectVariables = new ArrayDeque<>();
 
 
 	/**
@@ -121,11 +128,14 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context)) or, within a nested scope, the
+	 * active context object of that scope.
 	 * @param mv the method visitor into which the load instruction should be inserted
+	 * @see #enterContextObjectScope(int)
 	 */
 	public void loadTarget(MethodVisitor mv) {
-		mv.visitVarInsn(ALOAD, 1);
+		Integer variableId = this.contextObjectVariables.peek();
+		mv.visitVarInsn(ALOAD, (variableId != null ? variableId : 1));
 	}
 
 	/**
@@ -166,6 +176,27 @@ public class CodeFlow implements Opcodes {
 		this.compilationScopes.pop();
 	}
 
+	/**
+	 * Enter a nested scope in which the active context object is held in the given
+	 * local variable, for example the current element of a collection selection.
+	 * Within that scope, {@link #loadTarget} loads the given variable.
+	 * @param variableId the local variable holding the active context object,
+	 * or 1 for the target passed to the compiled expression
+	 * @since 6.2
+	 * @see #nextFreeVariableId()
+	 */
+	public void enterContextObjectScope(int variableId) {
+		this.contextObjectVariables.push(variableId);
+	}
+
+	/**
+	 * Exit a nested scope entered through {@link #enterContextObjectScope(int)}.
+	 * @since 6.2
+	 */
+	public void exitContextObjectScope() {
+		this.contextObjectVariables.pop();
+	}
+
 	/**
 	 * Return the descriptor for the item currently on top of the stack (in the current scope).
 	 */
@@ -19,8 +19,13 @@ package org.springframework.expression.spel.ast;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
 import org.springframework.expression.TargetedAccessor;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 
@@ -111,4 +116,67 @@ abstract class AstUtils {
 		}
 	}
 
+	/**
+	 * Generate code that replaces the collection, map, or array on top of the
+	 * stack with an {@link java.util.Iterator} over its elements (the entries
+	 * in case of a map), and stores the iterator in a new local variable.
+	 * @param operandType the type of operand: {@code Map}, {@code Iterable},
+	 * or {@code Object[]} for any kind of array
+	 * @return the id of the local variable holding the iterator
+	 * @since 6.2
+	 */
+	static int generateIteratorCode(MethodVisitor mv, CodeFlow cf, Class<?> operandType) {
+		if (operandType == Map.class) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, "java/util/Map");
+			mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/Map", "entrySet", "()Ljava/util/Set;", true);
+		}
+		else if (operandType.isArray()) {
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, "org/springframework/util/ObjectUtils",
+					"toObjectArray", "(Ljava/lang/Object;)[Ljava/lang/Object;", false);
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Arrays",
+					"asList", "([Ljava/lang/Object;)Ljava/util/List;", false);
+		}
+		else {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, "java/lang/Iterable");
+		}
+		mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		int iteratorVariable = cf.nextFreeVariableId();
+		mv.visitVarInsn(Opcodes.ASTORE, iteratorVariable);
+		return iteratorVariable;
+	}
+
+	/**
+	 * Generate code that stores the next element of the given iterator in the
+	 * given local variable, or jumps to the given label if there is none.
+	 * @since 6.2
+	 */
+	static void generateNextElementCode(MethodVisitor mv, int iteratorVariable, int elementVariable, Label end) {
+		mv.visitVarInsn(Opcodes.ALOAD, iteratorVariable);
+		mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(Opcodes.IFEQ, end);
+		mv.visitVarInsn(Opcodes.ALOAD, iteratorVariable);
+		mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(Opcodes.ASTORE, elementVariable);
+	}
+
+	/**
+	 * Generate code for the given node, evaluated against the element held
+	 * in the given local variable as its active context object.
+	 * @return the descriptor of the value that the generated code leaves on the stack
+	 * @since 6.2
+	 */
+	@Nullable
+	static String generateElementCode(MethodVisitor mv, CodeFlow cf, SpelNodeImpl node, int elementVariable) {
+		cf.enterCompilationScope();
+		cf.enterContextObjectScope(elementVariable);
+		try {
+			node.generateCode(mv, cf);
+			return cf.lastDescriptor();
+		}
+		finally {
+			cf.exitContextObjectScope();
+			cf.exitCompilationScope();
+		}
+	}
+
 }
@@ -426,7 +426,14 @@ public class Indexer extends SpelNodeImpl {
 						"Cached IndexAccessor must be a CompilableIndexAccessor, but was: " +
 							cachedIndexReadState.accessor.getClass().getName());
 			}
-			compilableIndexAccessor.generateCode(index, mv, cf);
+			// The target is on the stack already, the index is evaluated against the root object
+			cf.enterContextObjectScope(1);
+			try {
+				compilableIndexAccessor.generateCode(index, mv, cf);
+			}
+			finally {
+				cf.exitContextObjectScope();
+			}
 		}
 
 		cf.pushDescriptor(exitTypeDescriptor);
@@ -443,7 +450,14 @@ public class Indexer extends SpelNodeImpl {
 	}
 
 	private void generateIndexCode(MethodVisitor mv, CodeFlow cf, SpelNodeImpl indexNode, Class<?> indexType) {
-		cf.generateCodeForArgument(mv, indexNode, indexType);
+		// The index is evaluated against the root object, even within a nested scope
+		cf.enterContextObjectScope(1);
+		try {
+			cf.generateCodeForArgument(mv, indexNode, indexType);
+		}
+		finally {
+			cf.exitContextObjectScope();
+		}
 	}
 
 	@Override
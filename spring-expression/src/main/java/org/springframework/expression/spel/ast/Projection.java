@@ -22,12 +22,16 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -48,6 +52,10 @@ public class Projection extends SpelNodeImpl {
 
 	private final boolean nullSafe;
 
+	// Map or Iterable for a compilable projection (not supported for arrays)
+	@Nullable
+	private volatile Class<?> operandType;
+
 
 	public Projection(boolean nullSafe, int startPos, int endPos, SpelNodeImpl expression) {
 		super(startPos, endPos, expression);
@@ -79,6 +87,7 @@ public class Projection extends SpelNodeImpl {
 		// that can be referenced in the operation -- for example,
 		// {'a':'y', 'b':'n'}.![value == 'y' ? key : null] evaluates to ['a', null].
 		if (operand instanceof Map<?, ?> mapData) {
+			setOperandType(Map.class);
 			List<Object> result = new ArrayList<>();
 			for (Map.Entry<?, ?> entry : mapData.entrySet()) {
 				try {
@@ -98,6 +107,7 @@ public class Projection extends SpelNodeImpl {
 		if (operand instanceof Iterable || operandIsArray) {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ?
 					iterable : Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			setOperandType(operandIsArray ? null : Iterable.class);
 
 			List<Object> result = new ArrayList<>();
 			Class<?> arrayElementType = null;
@@ -145,6 +155,63 @@ public class Projection extends SpelNodeImpl {
 		return "![" + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.operandType != null && this.exitTypeDescriptor != null && this.children[0].isCompilable());
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		Class<?> operandType = this.operandType;
+		Assert.state(operandType != null, "No operand type");
+		if (cf.lastDescriptor() == null) {
+			// Stack is empty, should use context object
+			cf.loadTarget(mv);
+		}
+
+		Label skipIfNull = null;
+		if (this.nullSafe) {
+			mv.visitInsn(DUP);
+			skipIfNull = new Label();
+			Label continueLabel = new Label();
+			mv.visitJumpInsn(IFNONNULL, continueLabel);
+			CodeFlow.insertCheckCast(mv, this.exitTypeDescriptor);
+			mv.visitJumpInsn(GOTO, skipIfNull);
+			mv.visitLabel(continueLabel);
+		}
+
+		int iteratorVariable = AstUtils.generateIteratorCode(mv, cf, operandType);
+		int elementVariable = cf.nextFreeVariableId();
+		int resultVariable = cf.nextFreeVariableId();
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		mv.visitVarInsn(ASTORE, resultVariable);
+
+		Label loop = new Label();
+		Label end = new Label();
+		mv.visitLabel(loop);
+		AstUtils.generateNextElementCode(mv, iteratorVariable, elementVariable, end);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		String elementDescriptor = AstUtils.generateElementCode(mv, cf, this.children[0], elementVariable);
+		CodeFlow.insertBoxIfNecessary(mv, elementDescriptor);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+		mv.visitInsn(POP);
+		mv.visitJumpInsn(GOTO, loop);
+		mv.visitLabel(end);
+		mv.visitVarInsn(ALOAD, resultVariable);
+
+		if (skipIfNull != null) {
+			mv.visitLabel(skipIfNull);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+	private void setOperandType(@Nullable Class<?> operandType) {
+		this.operandType = operandType;
+		this.exitTypeDescriptor = (operandType != null ? "Ljava/util/List" : null);
+	}
+
 	private Class<?> determineCommonType(@Nullable Class<?> oldType, Class<?> newType) {
 		if (oldType == null) {
 			return newType;
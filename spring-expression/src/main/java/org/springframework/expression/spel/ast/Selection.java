@@ -17,18 +17,23 @@
 package org.springframework.expression.spel.ast;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -70,6 +75,10 @@ public class Selection extends SpelNodeImpl {
 
 	private final boolean nullSafe;
 
+	// Map, Iterable or Object[] (for any kind of array) for a compilable selection
+	@Nullable
+	private volatile Class<?> operandType;
+
 
 	public Selection(boolean nullSafe, int variant, int startPos, int endPos, SpelNodeImpl expression) {
 		super(startPos, endPos, expression);
@@ -99,6 +108,7 @@ public class Selection extends SpelNodeImpl {
 		SpelNodeImpl selectionCriteria = this.children[0];
 
 		if (operand instanceof Map<?, ?> mapdata) {
+			setOperandType(Map.class, "Ljava/util/Map");
 			Map<Object, Object> result = new HashMap<>();
 			Object lastKey = null;
 
@@ -145,6 +155,12 @@ public class Selection extends SpelNodeImpl {
 		if (operand instanceof Iterable || ObjectUtils.isArray(operand)) {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ? iterable :
 					Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			if (this.variant != ALL) {
+				setOperandType(operand instanceof Iterable ? Iterable.class : Object[].class, "Ljava/lang/Object");
+			}
+			else if (operand instanceof Iterable) {
+				setOperandType(Iterable.class, "Ljava/util/List");
+			}
 
 			List<Object> result = new ArrayList<>();
 			for (Object element : data) {
@@ -192,6 +208,12 @@ public class Selection extends SpelNodeImpl {
 				}
 			}
 			Assert.state(elementType != null, "Unresolvable element type");
+			if (Modifier.isPublic(elementType.getModifiers())) {
+				setOperandType(Object[].class, "[" + CodeFlow.toDescriptor(elementType));
+			}
+			else {
+				setOperandType(null, null);
+			}
 
 			Object resultArray = Array.newInstance(elementType, result.size());
 			System.arraycopy(result.toArray(), 0, resultArray, 0, result.size());
@@ -214,6 +236,160 @@ public class Selection extends SpelNodeImpl {
 		return prefix() + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		return (this.operandType != null && this.exitTypeDescriptor != null && selectionCriteria.isCompilable() &&
+				CodeFlow.isBooleanCompatible(selectionCriteria.exitTypeDescriptor));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		Class<?> operandType = this.operandType;
+		String exitTypeDescriptor = this.exitTypeDescriptor;
+		Assert.state(operandType != null && exitTypeDescriptor != null, "Selection not compilable");
+		boolean isMap = (operandType == Map.class);
+		if (cf.lastDescriptor() == null) {
+			// Stack is empty, should use context object
+			cf.loadTarget(mv);
+		}
+
+		Label skipIfNull = null;
+		if (this.nullSafe) {
+			mv.visitInsn(DUP);
+			skipIfNull = new Label();
+			Label continueLabel = new Label();
+			mv.visitJumpInsn(IFNONNULL, continueLabel);
+			CodeFlow.insertCheckCast(mv, exitTypeDescriptor);
+			mv.visitJumpInsn(GOTO, skipIfNull);
+			mv.visitLabel(continueLabel);
+		}
+
+		int iteratorVariable = AstUtils.generateIteratorCode(mv, cf, operandType);
+		int elementVariable = cf.nextFreeVariableId();
+		// The result collection for ALL, or the last selected element for LAST
+		int resultVariable = cf.nextFreeVariableId();
+		if (this.variant == ALL) {
+			String resultType = (isMap ? "java/util/HashMap" : "java/util/ArrayList");
+			mv.visitTypeInsn(NEW, resultType);
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, resultType, "<init>", "()V", false);
+			mv.visitVarInsn(ASTORE, resultVariable);
+		}
+		else if (this.variant == LAST) {
+			mv.visitInsn(ACONST_NULL);
+			mv.visitVarInsn(ASTORE, resultVariable);
+		}
+
+		Label loop = new Label();
+		Label end = new Label();
+		Label done = new Label();
+		mv.visitLabel(loop);
+		AstUtils.generateNextElementCode(mv, iteratorVariable, elementVariable, end);
+		String criteriaDescriptor = AstUtils.generateElementCode(mv, cf, this.children[0], elementVariable);
+		Assert.state(criteriaDescriptor != null, "No descriptor for selection criteria");
+		if (!CodeFlow.isPrimitive(criteriaDescriptor)) {
+			CodeFlow.insertUnboxInsns(mv, 'Z', criteriaDescriptor);
+		}
+		mv.visitJumpInsn(IFEQ, loop);
+		if (this.variant == FIRST) {
+			if (isMap) {
+				generateSingleEntryMapCode(mv, elementVariable);
+			}
+			else {
+				mv.visitVarInsn(ALOAD, elementVariable);
+			}
+			mv.visitJumpInsn(GOTO, done);
+		}
+		else if (this.variant == LAST) {
+			mv.visitVarInsn(ALOAD, elementVariable);
+			mv.visitVarInsn(ASTORE, resultVariable);
+		}
+		else if (isMap) {
+			mv.visitVarInsn(ALOAD, resultVariable);
+			mv.visitTypeInsn(CHECKCAST, "java/util/Map");
+			generateEntryCode(mv, elementVariable);
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+		else {
+			mv.visitVarInsn(ALOAD, resultVariable);
+			mv.visitTypeInsn(CHECKCAST, "java/util/List");
+			mv.visitVarInsn(ALOAD, elementVariable);
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+			mv.visitInsn(POP);
+		}
+		mv.visitJumpInsn(GOTO, loop);
+
+		mv.visitLabel(end);
+		if (this.variant == FIRST) {
+			mv.visitInsn(ACONST_NULL);
+		}
+		else if (this.variant == LAST && isMap) {
+			Label found = new Label();
+			mv.visitVarInsn(ALOAD, resultVariable);
+			mv.visitJumpInsn(IFNONNULL, found);
+			mv.visitInsn(ACONST_NULL);
+			mv.visitJumpInsn(GOTO, done);
+			mv.visitLabel(found);
+			generateSingleEntryMapCode(mv, resultVariable);
+		}
+		else {
+			mv.visitVarInsn(ALOAD, resultVariable);
+			if (this.variant == ALL && operandType.isArray()) {
+				// Convert the selected elements into an array of the original element type
+				String elementDescriptor = exitTypeDescriptor.substring(1);
+				mv.visitTypeInsn(CHECKCAST, "java/util/List");
+				mv.visitInsn(ICONST_0);
+				mv.visitTypeInsn(ANEWARRAY, (elementDescriptor.charAt(0) != '[' ? elementDescriptor.substring(1) :
+						CodeFlow.isPrimitiveArray(elementDescriptor) ? elementDescriptor : elementDescriptor + ";"));
+				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "toArray",
+						"([Ljava/lang/Object;)[Ljava/lang/Object;", true);
+			}
+		}
+		mv.visitLabel(done);
+		CodeFlow.insertCheckCast(mv, exitTypeDescriptor);
+
+		if (skipIfNull != null) {
+			mv.visitLabel(skipIfNull);
+		}
+		cf.pushDescriptor(exitTypeDescriptor);
+	}
+
+	private void setOperandType(@Nullable Class<?> operandType, @Nullable String exitTypeDescriptor) {
+		this.operandType = operandType;
+		this.exitTypeDescriptor = exitTypeDescriptor;
+	}
+
+	/**
+	 * Generate code that loads the key and the value of the map entry held in
+	 * the given local variable.
+	 */
+	private static void generateEntryCode(MethodVisitor mv, int entryVariable) {
+		mv.visitVarInsn(ALOAD, entryVariable);
+		mv.visitTypeInsn(CHECKCAST, "java/util/Map$Entry");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map$Entry", "getKey", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ALOAD, entryVariable);
+		mv.visitTypeInsn(CHECKCAST, "java/util/Map$Entry");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map$Entry", "getValue", "()Ljava/lang/Object;", true);
+	}
+
+	/**
+	 * Generate code that creates a map with the single entry held in the
+	 * given local variable.
+	 */
+	private static void generateSingleEntryMapCode(MethodVisitor mv, int entryVariable) {
+		mv.visitTypeInsn(NEW, "java/util/HashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/HashMap", "<init>", "()V", false);
+		mv.visitInsn(DUP);
+		generateEntryCode(mv, entryVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+				"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+		mv.visitInsn(POP);
+	}
+
 	private String prefix() {
 		return switch (this.variant) {
 			case ALL -> "?[";
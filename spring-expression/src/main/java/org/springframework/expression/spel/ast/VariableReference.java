@@ -73,11 +73,11 @@ public class VariableReference extends SpelNodeImpl {
 		TypedValue result;
 		if (THIS.equals(this.name)) {
 			result = state.getActiveContextObject();
-			// If the active context object (#this) is not the root context object (#root),
-			// that means that #this is being evaluated within a nested scope (for example,
-			// collection selection or collection project), which is not a compilable
-			// expression, so we return the result without setting the exit type descriptor.
-			if (result != state.getRootContextObject()) {
+			// If the active context object (#this) is not the root object of the current
+			// scope (#root or, for example, the current element of a collection selection
+			// or projection), compiled code would not be able to load it, so we return the
+			// result without setting the exit type descriptor.
+			if (result != state.getScopeRootContextObject()) {
 				return result;
 			}
 		}
@@ -139,7 +139,10 @@ public class VariableReference extends SpelNodeImpl {
 
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow cf) {
-		if (THIS.equals(this.name) || ROOT.equals(this.name)) {
+		if (THIS.equals(this.name)) {
+			cf.loadTarget(mv);
+		}
+		else if (ROOT.equals(this.name)) {
 			mv.visitVarInsn(ALOAD, 1);
 		}
 		else {
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.standard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.CustomizableThreadCreator;
+
+/**
+ * Bounded cache of parsed SpEL expressions, keyed by expression string,
+ * template delimiters and {@link SpelParserConfiguration} settings, for
+ * sharing parsed expressions across expression consumers such as cache
+ * and event listener conditions or bean definition values.
+ *
+ * <p>Expressions parsed in {@link SpelCompilerMode#MIXED MIXED} mode are
+ * promoted to their compiled form once they have been retrieved
+ * {@link #setCompilationThreshold compilationThreshold} times, with the
+ * compilation performed by the {@link #setCompilationExecutor compilation
+ * executor} rather than by the thread evaluating the expression. Expressions
+ * parsed in {@link SpelCompilerMode#OFF OFF} mode are cached but not compiled.
+ * Expressions parsed in {@link SpelCompilerMode#IMMEDIATE IMMEDIATE} mode are
+ * not cached at all: they get compiled for the types of their first evaluation,
+ * failing for other types rather than falling back to interpretation, so they
+ * must not be shared between consumers.
+ *
+ * <p>Exposes basic statistics: see {@link #getHitCount()},
+ * {@link #getMissCount()} and {@link #getCompilationCount()}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see SpelExpression#compileExpression()
+ */
+public class ExpressionCache {
+
+	/**
+	 * The default maximum number of cached expressions.
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 1024;
+
+	/**
+	 * The default number of retrievals after which an expression gets compiled.
+	 */
+	public static final int DEFAULT_COMPILATION_THRESHOLD = 10;
+
+
+	private static final int MAX_COMPILATION_ATTEMPTS = 8;
+
+	private static final Log logger = LogFactory.getLog(ExpressionCache.class);
+
+	private final ConcurrentLruCache<CacheKey, CachedExpression> cache;
+
+	private int compilationThreshold = DEFAULT_COMPILATION_THRESHOLD;
+
+	@Nullable
+	private Executor compilationExecutor;
+
+	private final AtomicLong lookupCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong compilationCount = new AtomicLong();
+
+
+	/**
+	 * Create a new {@code ExpressionCache} with the default cache limit.
+	 * @see #DEFAULT_CACHE_LIMIT
+	 */
+	public ExpressionCache() {
+		this(DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Create a new {@code ExpressionCache} with the given cache limit.
+	 * @param cacheLimit the maximum number of cached expressions
+	 */
+	public ExpressionCache(int cacheLimit) {
+		this.cache = new ConcurrentLruCache<>(cacheLimit, this::parseExpression);
+		this.compilationExecutor = createDefaultCompilationExecutor();
+	}
+
+
+	/**
+	 * Create a single daemon thread executor which lets its thread terminate when idle.
+	 */
+	private static Executor createDefaultCompilationExecutor() {
+		CustomizableThreadCreator threadCreator = new CustomizableThreadCreator("expression-compiler-");
+		threadCreator.setDaemon(true);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), threadCreator::createThread);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+
+	/**
+	 * Set the number of retrievals after which an expression parsed in
+	 * {@link SpelCompilerMode#MIXED MIXED} mode gets compiled.
+	 * <p>Default is {@value #DEFAULT_COMPILATION_THRESHOLD}.
+	 */
+	public void setCompilationThreshold(int compilationThreshold) {
+		Assert.isTrue(compilationThreshold > 0, "Compilation threshold must be greater than 0");
+		this.compilationThreshold = compilationThreshold;
+	}
+
+	/**
+	 * Return the number of retrievals after which an expression gets compiled.
+	 */
+	public int getCompilationThreshold() {
+		return this.compilationThreshold;
+	}
+
+	/**
+	 * Set the executor to compile expressions with, or {@code null} to not
+	 * compile expressions at all, leaving it up to the expressions themselves.
+	 * <p>Default is an executor with a single daemon thread which compiles
+	 * expressions one at a time and terminates after 60 seconds of inactivity.
+	 */
+	public void setCompilationExecutor(@Nullable Executor compilationExecutor) {
+		this.compilationExecutor = compilationExecutor;
+	}
+
+
+	/**
+	 * Return the parsed expression for the given expression string.
+	 * @param parser the parser whose configuration to parse the expression with
+	 * @param expressionString the raw expression string
+	 * @return the shared parsed expression
+	 */
+	public Expression getExpression(SpelExpressionParser parser, String expressionString) {
+		return getExpression(parser, expressionString, null);
+	}
+
+	/**
+	 * Return the parsed expression for the given expression string.
+	 * @param parser the parser whose configuration to parse the expression with
+	 * @param expressionString the raw expression string
+	 * @param context the context for parsing the expression, if any
+	 * @return the shared parsed expression, or a newly parsed expression
+	 * if the parser is in {@link SpelCompilerMode#IMMEDIATE IMMEDIATE} mode
+	 */
+	public Expression getExpression(SpelExpressionParser parser, String expressionString,
+			@Nullable ParserContext context) {
+
+		if (!isShareable(parser)) {
+			return parser.parseExpression(expressionString, context);
+		}
+		String prefix = null;
+		String suffix = null;
+		if (context != null && context.isTemplate()) {
+			prefix = context.getExpressionPrefix();
+			suffix = context.getExpressionSuffix();
+		}
+		CacheKey key = new CacheKey(expressionString, prefix, suffix, new ConfigurationKey(parser.getConfiguration()));
+		CachedExpression cachedExpression = this.cache.get(key);
+		this.lookupCount.incrementAndGet();
+		if (!cachedExpression.compilableExpressions.isEmpty()) {
+			int lookups = cachedExpression.lookupCount.incrementAndGet();
+			int attempts = cachedExpression.compilationAttempts.get();
+			// Compile after threshold retrievals, retrying after twice as many on failure
+			if (attempts < MAX_COMPILATION_ATTEMPTS && lookups == ((long) this.compilationThreshold << attempts) &&
+					cachedExpression.compilationAttempts.compareAndSet(attempts, attempts + 1)) {
+				compile(cachedExpression);
+			}
+		}
+		return cachedExpression.expression;
+	}
+
+	/**
+	 * Determine whether the expressions of the given parser can be shared
+	 * through this cache, which is not the case in
+	 * {@link SpelCompilerMode#IMMEDIATE IMMEDIATE} mode since such expressions
+	 * get compiled for the types of their first evaluation.
+	 * @param parser the parser to check
+	 */
+	public boolean isShareable(SpelExpressionParser parser) {
+		return (parser.getConfiguration().getCompilerMode() != SpelCompilerMode.IMMEDIATE);
+	}
+
+	private CachedExpression parseExpression(CacheKey key) {
+		this.missCount.incrementAndGet();
+		Expression expression = new SpelExpressionParser(key.configuration().toConfiguration())
+				.parseExpression(key.expressionString(), key.context());
+		List<SpelExpression> compilableExpressions = new ArrayList<>(1);
+		if (key.configuration().compilerMode() == SpelCompilerMode.MIXED) {
+			if (expression instanceof SpelExpression spelExpression) {
+				compilableExpressions.add(spelExpression);
+			}
+			else if (expression instanceof CompositeStringExpression compositeExpression) {
+				for (Expression part : compositeExpression.getExpressions()) {
+					if (part instanceof SpelExpression spelExpression) {
+						compilableExpressions.add(spelExpression);
+					}
+				}
+			}
+		}
+		return new CachedExpression(expression, compilableExpressions);
+	}
+
+	private void compile(CachedExpression cachedExpression) {
+		Executor executor = this.compilationExecutor;
+		if (executor == null) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				boolean compiled = true;
+				for (SpelExpression expression : cachedExpression.compilableExpressions) {
+					compiled &= expression.compileExpression();
+				}
+				if (compiled) {
+					cachedExpression.compilationAttempts.set(MAX_COMPILATION_ATTEMPTS);
+					this.compilationCount.incrementAndGet();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to schedule compilation of expression [" +
+						cachedExpression.expression.getExpressionString() + "]", ex);
+			}
+		}
+	}
+
+
+	/**
+	 * Return the number of cached expressions.
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Return the number of retrievals that found an already parsed expression.
+	 */
+	public long getHitCount() {
+		return this.lookupCount.get() - this.missCount.get();
+	}
+
+	/**
+	 * Return the number of retrievals that required parsing an expression.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Return the number of expressions compiled by this cache.
+	 */
+	public long getCompilationCount() {
+		return this.compilationCount.get();
+	}
+
+	/**
+	 * Remove all cached expressions, keeping the statistics.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+
+	/**
+	 * Key for a parsed expression, with the template delimiters if parsed as a template.
+	 */
+	private record CacheKey(String expressionString, @Nullable String prefix, @Nullable String suffix,
+			ConfigurationKey configuration) {
+
+		@Nullable
+		ParserContext context() {
+			return (this.prefix != null && this.suffix != null ?
+					new TemplateParserContext(this.prefix, this.suffix) : null);
+		}
+	}
+
+
+	/**
+	 * The settings of a {@link SpelParserConfiguration} that affect parsing and compilation.
+	 */
+	private record ConfigurationKey(SpelCompilerMode compilerMode, @Nullable ClassLoader compilerClassLoader,
+			boolean autoGrowNullReferences, boolean autoGrowCollections,
+			int maximumAutoGrowSize, int maximumExpressionLength) {
+
+		ConfigurationKey(SpelParserConfiguration configuration) {
+			this(configuration.getCompilerMode(), configuration.getCompilerClassLoader(),
+					configuration.isAutoGrowNullReferences(), configuration.isAutoGrowCollections(),
+					configuration.getMaximumAutoGrowSize(), configuration.getMaximumExpressionLength());
+		}
+
+		SpelParserConfiguration toConfiguration() {
+			return new SpelParserConfiguration(this.compilerMode, this.compilerClassLoader,
+					this.autoGrowNullReferences, this.autoGrowCollections,
+					this.maximumAutoGrowSize, this.maximumExpressionLength);
+		}
+	}
+
+
+	private static final class CachedExpression {
+
+		final Expression expression;
+
+		// The SpelExpressions to compile, if in MIXED mode
+		final List<SpelExpression> compilableExpressions;
+
+		final AtomicInteger lookupCount = new AtomicInteger();
+
+		final AtomicInteger compilationAttempts = new AtomicInteger();
+
+		CachedExpression(Expression expression, List<SpelExpression> compilableExpressions) {
+			this.expression = expression;
+			this.compilableExpressions = compilableExpressions;
+		}
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -1278,6 +1279,141 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		}
 	}
 
+	@Nested
+	class SelectionAndProjectionTests {
+
+		private final List<String> strings = List.of("a", "bb", "ccc");
+
+		private final Map<String, Integer> map = new LinkedHashMap<>();
+
+		{
+			this.map.put("a", 1);
+			this.map.put("b", 2);
+			this.map.put("c", 3);
+		}
+
+		@Test
+		void projectionOverList() {
+			expression = parser.parseExpression("#root.![length()]");
+			assertThat(expression.getValue(strings)).isEqualTo(List.of(1, 2, 3));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(strings)).isEqualTo(List.of(1, 2, 3));
+			assertThat(expression.getValue(List.of("dddd"))).isEqualTo(List.of(4));
+			assertThat(expression.getValue(List.of())).isEqualTo(List.of());
+		}
+
+		@Test
+		void projectionOverMap() {
+			expression = parser.parseExpression("#root.![key]");
+			assertThat(expression.getValue(map)).isEqualTo(List.of("a", "b", "c"));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(map)).isEqualTo(List.of("a", "b", "c"));
+
+			expression = parser.parseExpression("#root.![value > 1]");
+			assertThat(expression.getValue(map)).isEqualTo(List.of(false, true, true));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(map)).isEqualTo(List.of(false, true, true));
+		}
+
+		@Test
+		void projectionOverArrayCannotBeCompiled() {
+			expression = parser.parseExpression("#root.![length()]");
+			assertThat(expression.getValue(new String[] {"a", "bb"})).isEqualTo(new Integer[] {1, 2});
+			assertCannotCompile(expression);
+		}
+
+		@Test
+		void nestedProjection() {
+			List<List<Integer>> lists = List.of(List.of(1, 2), List.of(3));
+			expression = parser.parseExpression("#root.![#this.![#this * 10]]");
+			assertThat(expression.getValue(lists)).isEqualTo(List.of(List.of(10, 20), List.of(30)));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(lists)).isEqualTo(List.of(List.of(10, 20), List.of(30)));
+		}
+
+		@Test
+		void nullSafeProjection() {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("list", strings);
+			expression = parser.parseExpression("#list?.![length()]");
+			assertThat(expression.getValue(context)).isEqualTo(List.of(1, 2, 3));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(context)).isEqualTo(List.of(1, 2, 3));
+			context.setVariable("list", null);
+			assertThat(expression.getValue(context)).isNull();
+		}
+
+		@Test
+		void selectionOverList() {
+			expression = parser.parseExpression("#root.?[length() > 1]");
+			assertThat(expression.getValue(strings)).isEqualTo(List.of("bb", "ccc"));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(strings)).isEqualTo(List.of("bb", "ccc"));
+
+			expression = parser.parseExpression("#root.^[length() > 1]");
+			assertThat(expression.getValue(strings)).isEqualTo("bb");
+			assertCanCompile(expression);
+			assertThat(expression.getValue(strings)).isEqualTo("bb");
+			assertThat(expression.getValue(List.of("a"))).isNull();
+
+			expression = parser.parseExpression("#root.$[length() > 1]");
+			assertThat(expression.getValue(strings)).isEqualTo("ccc");
+			assertCanCompile(expression);
+			assertThat(expression.getValue(strings)).isEqualTo("ccc");
+			assertThat(expression.getValue(List.of("a"))).isNull();
+		}
+
+		@Test
+		void selectionOverMap() {
+			expression = parser.parseExpression("#root.?[value > 1]");
+			assertThat(expression.getValue(map)).isEqualTo(Map.of("b", 2, "c", 3));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(map)).isEqualTo(Map.of("b", 2, "c", 3));
+
+			expression = parser.parseExpression("#root.^[value > 1]");
+			assertThat(expression.getValue(map)).isEqualTo(Map.of("b", 2));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(map)).isEqualTo(Map.of("b", 2));
+
+			expression = parser.parseExpression("#root.$[value > 1]");
+			assertThat(expression.getValue(map)).isEqualTo(Map.of("c", 3));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(map)).isEqualTo(Map.of("c", 3));
+			assertThat(expression.getValue(new LinkedHashMap<>(Map.of("a", 1)))).isNull();
+		}
+
+		@Test
+		void selectionOverArray() {
+			expression = parser.parseExpression("#root.?[#this < 3]");
+			assertThat(expression.getValue(new int[] {1, 2, 3})).isEqualTo(new Integer[] {1, 2});
+			assertCanCompile(expression);
+			assertThat(expression.getValue(new int[] {1, 2, 3})).isEqualTo(new Integer[] {1, 2});
+
+			expression = parser.parseExpression("#root.?[length() > 1]");
+			assertThat(expression.getValue(new String[] {"a", "bb"})).isEqualTo(new String[] {"bb"});
+			assertCanCompile(expression);
+			assertThat(expression.getValue(new String[] {"a", "bb"})).isEqualTo(new String[] {"bb"});
+		}
+
+		@Test
+		void selectionWithinProjection() {
+			List<List<Integer>> lists = List.of(List.of(1, 2), List.of(3));
+			expression = parser.parseExpression("#root.![#this.?[#this > 1]]");
+			assertThat(expression.getValue(lists)).isEqualTo(List.of(List.of(2), List.of(3)));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(lists)).isEqualTo(List.of(List.of(2), List.of(3)));
+		}
+
+		@Test
+		void indexWithinProjectionEvaluatedAgainstRoot() {
+			List<List<Integer>> lists = List.of(List.of(1, 2, 3), List.of(4, 5, 6));
+			expression = parser.parseExpression("#root.![#this[size() - 1]]");
+			assertThat(expression.getValue(lists)).isEqualTo(List.of(2, 5));
+			assertCanCompile(expression);
+			assertThat(expression.getValue(lists)).isEqualTo(List.of(2, 5));
+		}
+	}
+
 	@Nested
 	class PropertyVisibilityTests {
 
@@ -2522,8 +2658,8 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 
 		expression = parser.parseExpression("#negate(#ints.?[#this<2][0])");
 		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
-		// Selection isn't compilable.
-		assertThat(((SpelNodeImpl)((SpelExpression) expression).getAST()).isCompilable()).isFalse();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
 	}
 
 	@Test
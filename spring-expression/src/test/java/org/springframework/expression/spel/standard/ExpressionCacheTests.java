@@ -0,0 +1,179 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.standard;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ExpressionCache}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class ExpressionCacheTests {
+
+	private final ExpressionCache cache = new ExpressionCache();
+
+	private final SpelExpressionParser mixedParser =
+			new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+
+
+	@Test
+	void sameExpressionForSameStringAndConfiguration() {
+		Expression expression = this.cache.getExpression(new SpelExpressionParser(), "1 + 2");
+		assertThat(this.cache.getExpression(new SpelExpressionParser(), "1 + 2")).isSameAs(expression);
+		assertThat(expression.getValue()).isEqualTo(3);
+		assertThat(this.cache.size()).isEqualTo(1);
+		assertThat(this.cache.getMissCount()).isEqualTo(1);
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void differentExpressionForDifferentConfiguration() {
+		Expression expression = this.cache.getExpression(new SpelExpressionParser(), "1 + 2");
+		assertThat(this.cache.getExpression(this.mixedParser, "1 + 2")).isNotSameAs(expression);
+		assertThat(this.cache.getExpression(new SpelExpressionParser(
+				new SpelParserConfiguration(true, true)), "1 + 2")).isNotSameAs(expression);
+		assertThat(this.cache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void differentExpressionForTemplate() {
+		SpelExpressionParser parser = new SpelExpressionParser();
+		Expression expression = this.cache.getExpression(parser, "#{1 + 2}");
+		Expression template = this.cache.getExpression(parser, "#{1 + 2}", ParserContext.TEMPLATE_EXPRESSION);
+		assertThat(template).isNotSameAs(expression);
+		assertThat(template.getValue()).isEqualTo(3);
+		assertThat(this.cache.getExpression(parser, "#{1 + 2}", ParserContext.TEMPLATE_EXPRESSION)).isSameAs(template);
+	}
+
+	@Test
+	void boundedNumberOfExpressions() {
+		ExpressionCache cache = new ExpressionCache(2);
+		SpelExpressionParser parser = new SpelExpressionParser();
+		Expression expression = cache.getExpression(parser, "1");
+		cache.getExpression(parser, "2");
+		cache.getExpression(parser, "3");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getExpression(parser, "1")).isNotSameAs(expression);
+		assertThat(cache.getMissCount()).isEqualTo(4);
+	}
+
+	@Test
+	void compileHotExpressionInMixedMode() throws Exception {
+		this.cache.setCompilationExecutor(new SyncTaskExecutor());
+		this.cache.setCompilationThreshold(3);
+
+		Expression expression = this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		assertThat(expression.getValue()).isEqualTo(3);
+		this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		assertThat(isCompiled(expression)).isFalse();
+		this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		SpelExpressionTestUtils.assertIsCompiled(expression);
+		assertThat(expression.getValue()).isEqualTo(3);
+		assertThat(this.cache.getCompilationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void retryCompilationOfExpressionNotEvaluatedYet() throws Exception {
+		this.cache.setCompilationExecutor(new SyncTaskExecutor());
+		this.cache.setCompilationThreshold(1);
+
+		// Not compilable before the first evaluation determined its types
+		Expression expression = this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		assertThat(isCompiled(expression)).isFalse();
+		assertThat(expression.getValue()).isEqualTo(3);
+		this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		SpelExpressionTestUtils.assertIsCompiled(expression);
+		assertThat(this.cache.getCompilationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void compileHotTemplateExpressionInMixedMode() {
+		this.cache.setCompilationExecutor(new SyncTaskExecutor());
+		this.cache.setCompilationThreshold(2);
+
+		Expression expression = this.cache.getExpression(
+				this.mixedParser, "#{'abc'.length()}-#{1 + 2}", ParserContext.TEMPLATE_EXPRESSION);
+		assertThat(expression.getValue()).isEqualTo("3-3");
+		this.cache.getExpression(this.mixedParser, "#{'abc'.length()}-#{1 + 2}", ParserContext.TEMPLATE_EXPRESSION);
+		assertThat(expression).isInstanceOf(CompositeStringExpression.class);
+		for (Expression part : ((CompositeStringExpression) expression).getExpressions()) {
+			if (part instanceof SpelExpression) {
+				SpelExpressionTestUtils.assertIsCompiled(part);
+			}
+		}
+		assertThat(expression.getValue()).isEqualTo("3-3");
+	}
+
+	@Test
+	void noCompilationInOffMode() throws Exception {
+		this.cache.setCompilationExecutor(new SyncTaskExecutor());
+		this.cache.setCompilationThreshold(1);
+
+		Expression expression = this.cache.getExpression(new SpelExpressionParser(), "'abc'.length()");
+		assertThat(expression.getValue()).isEqualTo(3);
+		this.cache.getExpression(new SpelExpressionParser(), "'abc'.length()");
+		assertThat(isCompiled(expression)).isFalse();
+		assertThat(this.cache.getCompilationCount()).isZero();
+	}
+
+	@Test
+	void noCompilationWithoutExecutor() throws Exception {
+		this.cache.setCompilationExecutor(null);
+		this.cache.setCompilationThreshold(1);
+
+		Expression expression = this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		assertThat(expression.getValue()).isEqualTo(3);
+		this.cache.getExpression(this.mixedParser, "'abc'.length()");
+		assertThat(isCompiled(expression)).isFalse();
+		assertThat(this.cache.getCompilationCount()).isZero();
+	}
+
+	@Test
+	void invalidCompilationThreshold() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cache.setCompilationThreshold(0));
+	}
+
+	@Test
+	void clear() {
+		this.cache.getExpression(new SpelExpressionParser(), "1");
+		this.cache.clear();
+		assertThat(this.cache.size()).isZero();
+		assertThat(this.cache.getMissCount()).isEqualTo(1);
+	}
+
+
+	private static boolean isCompiled(Expression expression) throws Exception {
+		Field field = SpelExpression.class.getDeclaredField("compiledAst");
+		field.setAccessible(true);
+		return (field.get(expression) != null);
+	}
+
+}
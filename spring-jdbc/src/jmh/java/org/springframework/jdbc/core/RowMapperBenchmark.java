@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Benchmark for mapping rows of an in-memory H2 database to bean and record
+ * instances, comparing {@link BeanPropertyRowMapper}, {@link DataClassRowMapper}
+ * and {@link DirectPropertyRowMapper} against a hand-written {@link RowMapper}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RowMapperBenchmark {
+
+	private static final String QUERY = "select name, age, birth_date, balance from person";
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"1", "100", "1000"})
+		public int rowCount;
+
+		public EmbeddedDatabase database;
+
+		public JdbcTemplate jdbcTemplate;
+
+		@Setup
+		public void setup() {
+			this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+			this.jdbcTemplate = new JdbcTemplate(this.database);
+			this.jdbcTemplate.execute("create table person (name varchar(50), age bigint, " +
+					"birth_date timestamp, balance decimal(10,2))");
+			for (int i = 0; i < this.rowCount; i++) {
+				this.jdbcTemplate.update("insert into person values (?, ?, ?, ?)",
+						"name" + i, i, new Timestamp(1221222L), new BigDecimal("1234.56"));
+			}
+		}
+
+		@TearDown
+		public void teardown() {
+			this.database.shutdown();
+		}
+	}
+
+
+	@Benchmark
+	public List<Person> handWrittenRowMapper(BenchmarkState state) {
+		return state.jdbcTemplate.query(QUERY, (rs, rowNum) -> {
+			Person person = new Person();
+			person.setName(rs.getString(1));
+			person.setAge(rs.getLong(2));
+			person.setBirthDate(rs.getTimestamp(3));
+			person.setBalance(rs.getBigDecimal(4));
+			return person;
+		});
+	}
+
+	@Benchmark
+	public List<Person> beanPropertyRowMapper(BenchmarkState state) {
+		return state.jdbcTemplate.query(QUERY, new BeanPropertyRowMapper<>(Person.class));
+	}
+
+	@Benchmark
+	public List<Person> directPropertyRowMapper(BenchmarkState state) {
+		return state.jdbcTemplate.query(QUERY, new DirectPropertyRowMapper<>(Person.class));
+	}
+
+	@Benchmark
+	public List<RecordPerson> dataClassRowMapper(BenchmarkState state) {
+		return state.jdbcTemplate.query(QUERY, new DataClassRowMapper<>(RecordPerson.class));
+	}
+
+	@Benchmark
+	public List<RecordPerson> directPropertyRowMapperWithRecord(BenchmarkState state) {
+		return state.jdbcTemplate.query(QUERY, new DirectPropertyRowMapper<>(RecordPerson.class));
+	}
+
+
+	public static class Person {
+
+		private String name;
+
+		private long age;
+
+		private Date birthDate;
+
+		private BigDecimal balance;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getAge() {
+			return this.age;
+		}
+
+		public void setAge(long age) {
+			this.age = age;
+		}
+
+		public Date getBirthDate() {
+			return this.birthDate;
+		}
+
+		public void setBirthDate(Date birthDate) {
+			this.birthDate = birthDate;
+		}
+
+		public BigDecimal getBalance() {
+			return this.balance;
+		}
+
+		public void setBalance(BigDecimal balance) {
+			this.balance = balance;
+		}
+	}
+
+
+	public record RecordPerson(String name, long age, Date birthDate, BigDecimal balance) {
+	}
+
+}
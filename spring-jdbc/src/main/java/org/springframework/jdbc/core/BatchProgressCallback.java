@@ -0,0 +1,48 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.sql.SQLException;
+
+/**
+ * Callback interface used by the streaming batch update methods of
+ * {@link JdbcTemplate}, notified after each batch has been sent to the
+ * database.
+ *
+ * <p>Allows for tracking the progress of long-running batch updates, and for
+ * processing the update counts of each batch as they become available rather
+ * than collecting them for the entire input.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see JdbcTemplate#batchUpdate(String, java.util.stream.Stream, int, ParameterizedPreparedStatementSetter, BatchProgressCallback)
+ */
+@FunctionalInterface
+public interface BatchProgressCallback {
+
+	/**
+	 * Called after a batch has been executed.
+	 * @param rowsAffected the numbers of rows affected by each update in the batch
+	 * (may also contain special JDBC-defined negative values for affected rows such as
+	 * {@link java.sql.Statement#SUCCESS_NO_INFO}/{@link java.sql.Statement#EXECUTE_FAILED})
+	 * @param itemCount the total number of items processed so far, including
+	 * the items of the given batch
+	 * @throws SQLException if an SQLException is encountered (i.e. there is no need to catch SQLException)
+	 */
+	void batchExecuted(int[] rowsAffected, long itemCount) throws SQLException;
+
+}
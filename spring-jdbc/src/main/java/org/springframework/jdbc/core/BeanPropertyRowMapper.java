@@ -79,7 +79,8 @@ import org.springframework.util.StringUtils;
  *
  * <p>Please note that this class is designed to provide convenience rather than
  * high performance. For best performance, consider using a custom {@code RowMapper}
- * implementation.
+ * implementation or a {@link DirectPropertyRowMapper} which resolves the mapping
+ * for a given column layout only once.
  *
  * @author Thomas Risberg
  * @author Juergen Hoeller
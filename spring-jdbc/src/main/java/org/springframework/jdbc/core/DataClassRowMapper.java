@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,7 +51,8 @@ import org.springframework.util.Assert;
  *
  * <p>Please note that this class is designed to provide convenience rather than
  * high performance. For best performance, consider using a custom {@code RowMapper}
- * implementation.
+ * implementation or a {@link DirectPropertyRowMapper} which resolves the mapping
+ * for a given column layout only once.
  *
  * @author Juergen Hoeller
  * @author Sam Brannen
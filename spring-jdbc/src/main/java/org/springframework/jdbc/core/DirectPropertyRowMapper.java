@@ -0,0 +1,418 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link RowMapper} implementation that converts a row into a new instance
+ * of the specified mapped target class, resolving the column-to-property
+ * mapping only once for a given column layout rather than for every row.
+ *
+ * <p>Like {@link DataClassRowMapper}, the mapped target class may expose a
+ * <em>data class</em> constructor with named parameters corresponding to column
+ * names and/or bean property setter methods with property names corresponding
+ * to column names. Constructor arguments take precedence over setter methods.
+ * Names are matched in the same way as in {@link BeanPropertyRowMapper}: either
+ * directly or by transforming a name separating the parts with underscores to
+ * the same name using "camel" case.
+ *
+ * <p>For each result set, the column labels are read from the
+ * {@link ResultSetMetaData} once and turned into a mapping plan which holds, for each
+ * mapped column, its index, a typed {@code ResultSet} accessor for the target
+ * type, and the constructor parameter or setter method to pass the value to.
+ * All rows of that result set are mapped by index through that plan, without any name
+ * lookups, meta-data access, or per-row {@link org.springframework.beans.BeanWrapper}.
+ * The {@link ConversionService} is only consulted for values which are not
+ * assignable to the target type already.
+ *
+ * <p>Mapping plans are cached per column layout, so a mapper instance may be
+ * shared across queries with different column layouts, including concurrent use.
+ * A plan is only reused for the {@code ResultSet} it has been resolved for or
+ * for another {@code ResultSet} with the same column labels.
+ *
+ * <p>In contrast to {@link BeanPropertyRowMapper}, this class does not offer
+ * customization hooks for subclasses and does not validate that all properties
+ * of the target class have been populated.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @param <T> the result type
+ * @see BeanPropertyRowMapper
+ * @see DataClassRowMapper
+ */
+public class DirectPropertyRowMapper<T> implements RowMapper<T> {
+
+	private static final Log logger = LogFactory.getLog(DirectPropertyRowMapper.class);
+
+	private final Class<T> mappedClass;
+
+	@Nullable
+	private final ConversionService conversionService;
+
+	private final Constructor<T> mappedConstructor;
+
+	private final String[] constructorParameterNames;
+
+	private final TypeDescriptor[] constructorParameterTypes;
+
+	private final Map<String, MethodParameter> mappedProperties = new HashMap<>();
+
+	private boolean primitivesDefaultedForNullValue = false;
+
+	private final ConcurrentLruCache<List<String>, MappingPlan> mappingPlanCache =
+			new ConcurrentLruCache<>(32, this::createMappingPlan);
+
+	@Nullable
+	private volatile ResultSetMappingPlan currentMappingPlan;
+
+
+	/**
+	 * Create a new {@code DirectPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 */
+	public DirectPropertyRowMapper(Class<T> mappedClass) {
+		this(mappedClass, DefaultConversionService.getSharedInstance());
+	}
+
+	/**
+	 * Create a new {@code DirectPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 * @param conversionService a {@link ConversionService} for binding
+	 * JDBC values to bean properties, or {@code null} for none
+	 */
+	public DirectPropertyRowMapper(Class<T> mappedClass, @Nullable ConversionService conversionService) {
+		Assert.notNull(mappedClass, "Mapped Class must not be null");
+		this.mappedClass = mappedClass;
+		this.conversionService = conversionService;
+
+		this.mappedConstructor = BeanUtils.getResolvableConstructor(mappedClass);
+		int paramCount = this.mappedConstructor.getParameterCount();
+		this.constructorParameterNames = (paramCount > 0 ?
+				BeanUtils.getParameterNames(this.mappedConstructor) : new String[0]);
+		this.constructorParameterTypes = new TypeDescriptor[paramCount];
+		for (int i = 0; i < paramCount; i++) {
+			this.constructorParameterTypes[i] = new TypeDescriptor(new MethodParameter(this.mappedConstructor, i));
+		}
+
+		Set<String> constructorNames = new HashSet<>();
+		for (String name : this.constructorParameterNames) {
+			constructorNames.add(lowerCaseName(name));
+			constructorNames.add(JdbcUtils.convertPropertyNameToUnderscoreName(name));
+		}
+		for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
+			Method writeMethod = pd.getWriteMethod();
+			if (writeMethod != null) {
+				ReflectionUtils.makeAccessible(writeMethod);
+				MethodParameter mp = BeanUtils.getWriteMethodParameter(pd);
+				for (String name : new String[] {lowerCaseName(pd.getName()),
+						JdbcUtils.convertPropertyNameToUnderscoreName(pd.getName())}) {
+					if (!constructorNames.contains(name)) {
+						this.mappedProperties.put(name, mp);
+					}
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Set whether a {@code NULL} database column value should be ignored when
+	 * mapping to a corresponding primitive property in the target class.
+	 * <p>Default is {@code false}, throwing a {@link TypeMismatchException}
+	 * when trying to map a {@code NULL} value to a primitive setter method.
+	 * Note that primitive constructor arguments always receive their default
+	 * value for a {@code NULL} column value.
+	 * @see BeanPropertyRowMapper#setPrimitivesDefaultedForNullValue
+	 */
+	public void setPrimitivesDefaultedForNullValue(boolean primitivesDefaultedForNullValue) {
+		this.primitivesDefaultedForNullValue = primitivesDefaultedForNullValue;
+	}
+
+	/**
+	 * Get the value of the {@code primitivesDefaultedForNullValue} flag.
+	 */
+	public boolean isPrimitivesDefaultedForNullValue() {
+		return this.primitivesDefaultedForNullValue;
+	}
+
+
+	@Override
+	public T mapRow(ResultSet rs, int rowNumber) throws SQLException {
+		MappingPlan plan = obtainMappingPlan(rs);
+
+		ColumnMapping[] arguments = plan.arguments;
+		Object[] args = new Object[arguments.length];
+		for (int i = 0; i < arguments.length; i++) {
+			ColumnMapping argument = arguments[i];
+			args[i] = convertIfNecessary(argument.read(rs), argument.targetType);
+		}
+		T mappedObject = BeanUtils.instantiateClass(this.mappedConstructor, args);
+
+		for (ColumnMapping property : plan.properties) {
+			Object value = property.read(rs);
+			Method writeMethod = property.writeMethod;
+			Assert.state(writeMethod != null, "No write method");
+			if (value == null && property.targetType.isPrimitive()) {
+				if (isPrimitivesDefaultedForNullValue()) {
+					continue;
+				}
+				throw new TypeMismatchException(value, property.targetType.getType());
+			}
+			ReflectionUtils.invokeMethod(writeMethod, mappedObject,
+					convertIfNecessary(value, property.targetType));
+		}
+
+		return mappedObject;
+	}
+
+	private MappingPlan obtainMappingPlan(ResultSet rs) throws SQLException {
+		ResultSetMappingPlan current = this.currentMappingPlan;
+		if (current != null && current.resultSet().get() == rs) {
+			return current.plan();
+		}
+
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		String[] columns = new String[columnCount];
+		for (int index = 1; index <= columnCount; index++) {
+			columns[index - 1] = JdbcUtils.lookupColumnName(rsmd, index);
+		}
+
+		MappingPlan plan = this.mappingPlanCache.get(Arrays.asList(columns));
+		this.currentMappingPlan = new ResultSetMappingPlan(new WeakReference<>(rs), plan);
+		return plan;
+	}
+
+	private MappingPlan createMappingPlan(List<String> columnLabels) {
+		String[] columns = columnLabels.toArray(new String[0]);
+		Map<String, Integer> columnIndexes = new HashMap<>(columns.length * 2);
+		for (int i = columns.length - 1; i >= 0; i--) {
+			columnIndexes.put(lowerCaseName(StringUtils.delete(columns[i], " ")), i + 1);
+		}
+
+		ColumnMapping[] arguments = new ColumnMapping[this.constructorParameterNames.length];
+		Set<Integer> usedIndexes = new HashSet<>();
+		for (int i = 0; i < arguments.length; i++) {
+			String name = this.constructorParameterNames[i];
+			Integer index = columnIndexes.get(lowerCaseName(name));
+			if (index == null) {
+				index = columnIndexes.get(JdbcUtils.convertPropertyNameToUnderscoreName(name));
+			}
+			if (index == null) {
+				throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain a column for " +
+						"constructor parameter '" + name + "' of " + this.mappedClass + ": " + Arrays.toString(columns));
+			}
+			arguments[i] = new ColumnMapping(index, this.constructorParameterTypes[i], null);
+			usedIndexes.add(index);
+		}
+
+		List<ColumnMapping> properties = new ArrayList<>();
+		for (int index = 1; index <= columns.length; index++) {
+			if (!usedIndexes.contains(index)) {
+				String column = columns[index - 1];
+				MethodParameter mp = this.mappedProperties.get(lowerCaseName(StringUtils.delete(column, " ")));
+				if (mp != null) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Mapping column '" + column + "' to property '" + mp.getMethod().getName() +
+								"' of type '" + ClassUtils.getQualifiedName(mp.getParameterType()) + "'");
+					}
+					properties.add(new ColumnMapping(index, new TypeDescriptor(mp), mp.getMethod()));
+				}
+			}
+		}
+
+		return new MappingPlan(arguments, properties.toArray(new ColumnMapping[0]));
+	}
+
+	@Nullable
+	private Object convertIfNecessary(@Nullable Object value, TypeDescriptor targetType) {
+		if (value == null || ClassUtils.isAssignableValue(targetType.getType(), value)) {
+			return value;
+		}
+		if (this.conversionService == null) {
+			throw new TypeMismatchException(value, targetType.getType());
+		}
+		return this.conversionService.convert(value, TypeDescriptor.forObject(value), targetType);
+	}
+
+	private static String lowerCaseName(String name) {
+		return name.toLowerCase(Locale.US);
+	}
+
+
+	/**
+	 * Static factory method to create a new {@code DirectPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 * @see #newInstance(Class, ConversionService)
+	 */
+	public static <T> DirectPropertyRowMapper<T> newInstance(Class<T> mappedClass) {
+		return new DirectPropertyRowMapper<>(mappedClass);
+	}
+
+	/**
+	 * Static factory method to create a new {@code DirectPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 * @param conversionService the {@link ConversionService} for binding
+	 * JDBC values to bean properties, or {@code null} for none
+	 * @see #newInstance(Class)
+	 */
+	public static <T> DirectPropertyRowMapper<T> newInstance(
+			Class<T> mappedClass, @Nullable ConversionService conversionService) {
+
+		return new DirectPropertyRowMapper<>(mappedClass, conversionService);
+	}
+
+
+	/**
+	 * The resolved mapping for a specific column layout.
+	 */
+	private record MappingPlan(ColumnMapping[] arguments, ColumnMapping[] properties) {
+	}
+
+
+	/**
+	 * The mapping plan for the {@code ResultSet} currently being mapped,
+	 * not preventing the {@code ResultSet} from being garbage-collected.
+	 */
+	private record ResultSetMappingPlan(WeakReference<ResultSet> resultSet, MappingPlan plan) {
+	}
+
+
+	/**
+	 * Typed access to a single column value.
+	 */
+	@FunctionalInterface
+	private interface ColumnReader {
+
+		@Nullable
+		Object read(ResultSet rs, int index) throws SQLException;
+	}
+
+
+	/**
+	 * The mapping of a column index to a constructor argument or setter method,
+	 * with the {@link ColumnReader} for the target type determined upfront.
+	 */
+	private static final class ColumnMapping {
+
+		final int index;
+
+		final TypeDescriptor targetType;
+
+		@Nullable
+		final Method writeMethod;
+
+		private final ColumnReader reader;
+
+		ColumnMapping(int index, TypeDescriptor targetType, @Nullable Method writeMethod) {
+			this.index = index;
+			this.targetType = targetType;
+			this.writeMethod = writeMethod;
+			this.reader = columnReader(targetType.getType());
+		}
+
+		@Nullable
+		Object read(ResultSet rs) throws SQLException {
+			return this.reader.read(rs, this.index);
+		}
+
+		/**
+		 * Select the {@code ResultSet} accessor for the given type, following
+		 * {@link JdbcUtils#getResultSetValue(ResultSet, int, Class)} which
+		 * remains the fallback for all other types.
+		 */
+		private static ColumnReader columnReader(Class<?> type) {
+			if (String.class == type) {
+				return ResultSet::getString;
+			}
+			else if (long.class == type || Long.class == type) {
+				return (rs, index) -> {
+					long value = rs.getLong(index);
+					return (rs.wasNull() ? null : value);
+				};
+			}
+			else if (int.class == type || Integer.class == type) {
+				return (rs, index) -> {
+					int value = rs.getInt(index);
+					return (rs.wasNull() ? null : value);
+				};
+			}
+			else if (boolean.class == type || Boolean.class == type) {
+				return (rs, index) -> {
+					boolean value = rs.getBoolean(index);
+					return (rs.wasNull() ? null : value);
+				};
+			}
+			else if (double.class == type || Double.class == type) {
+				return (rs, index) -> {
+					double value = rs.getDouble(index);
+					return (rs.wasNull() ? null : value);
+				};
+			}
+			else if (BigDecimal.class == type) {
+				return ResultSet::getBigDecimal;
+			}
+			else if (java.sql.Timestamp.class == type || java.util.Date.class == type) {
+				return ResultSet::getTimestamp;
+			}
+			else if (java.sql.Date.class == type) {
+				return ResultSet::getDate;
+			}
+			else if (byte[].class == type) {
+				return ResultSet::getBytes;
+			}
+			else {
+				return (rs, index) -> JdbcUtils.getResultSetValue(rs, index, type);
+			}
+		}
+	}
+
+}
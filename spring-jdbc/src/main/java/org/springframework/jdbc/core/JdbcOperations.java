@@ -1063,6 +1063,48 @@ public interface JdbcOperations {
 	<T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
 			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the stream of
+	 * supplied arguments. The arguments' values will be set using the
+	 * ParameterizedPreparedStatementSetter, and a batch is sent to the database
+	 * whenever 'batchSize' arguments have been set, as well as for the remaining
+	 * arguments at the end of the stream.
+	 * <p>As opposed to {@link #batchUpdate(String, Collection, int, ParameterizedPreparedStatementSetter)},
+	 * the arguments are consumed from the stream as the batches are executed,
+	 * and the update counts are not collected, so that arbitrarily large inputs
+	 * can be processed with the memory needed for a single batch. The stream
+	 * is not closed by this method.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the stream of arguments for the query
+	 * @param batchSize the maximum number of arguments per batch
+	 * @param pss the ParameterizedPreparedStatementSetter to use
+	 * @return the total number of arguments processed
+	 * @throws DataAccessException if there is any problem issuing the update
+	 * @since 6.2
+	 * @see #batchUpdate(String, Stream, int, ParameterizedPreparedStatementSetter, BatchProgressCallback)
+	 */
+	<T> long batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
+
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the stream of
+	 * supplied arguments, notifying the given callback after each batch.
+	 * See {@link #batchUpdate(String, Stream, int, ParameterizedPreparedStatementSetter)}
+	 * for details.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the stream of arguments for the query
+	 * @param batchSize the maximum number of arguments per batch
+	 * @param pss the ParameterizedPreparedStatementSetter to use
+	 * @param callback the callback to notify with the numbers of rows affected
+	 * by each batch (may be {@code null})
+	 * @return the total number of arguments processed
+	 * @throws DataAccessException if there is any problem issuing the update
+	 * @since 6.2
+	 */
+	<T> long batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss, @Nullable BatchProgressCallback callback)
+			throws DataAccessException;
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
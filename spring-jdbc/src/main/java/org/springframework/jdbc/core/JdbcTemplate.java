@@ -29,8 +29,10 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -1141,6 +1143,66 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		return result;
 	}
 
+	@Override
+	public <T> long batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+
+		return batchUpdate(sql, batchArgs, batchSize, pss, null);
+	}
+
+	@Override
+	public <T> long batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss, @Nullable BatchProgressCallback callback)
+			throws DataAccessException {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing streaming SQL batch update [" + sql + "] with a batch size of " + batchSize);
+		}
+		Long result = execute(sql, (PreparedStatementCallback<Long>) ps -> {
+			try {
+				boolean batchSupported = JdbcUtils.supportsBatchUpdates(ps.getConnection());
+				int[] updateCounts = (batchSupported ? null : new int[batchSize]);
+				Iterator<T> iterator = batchArgs.iterator();
+				long itemCount = 0;
+				int batchCount = 0;
+				int pending = 0;
+				while (iterator.hasNext()) {
+					pss.setValues(ps, iterator.next());
+					itemCount++;
+					if (updateCounts != null) {
+						updateCounts[pending] = ps.executeUpdate();
+					}
+					else {
+						ps.addBatch();
+					}
+					pending++;
+					if (pending == batchSize || !iterator.hasNext()) {
+						batchCount++;
+						if (logger.isTraceEnabled()) {
+							logger.trace("Sending SQL batch update #" + batchCount + " with " + pending + " items");
+						}
+						int[] rowsAffected = (updateCounts != null ?
+								Arrays.copyOf(updateCounts, pending) : ps.executeBatch());
+						if (callback != null) {
+							callback.batchExecuted(rowsAffected, itemCount);
+						}
+						pending = 0;
+					}
+				}
+				return itemCount;
+			}
+			finally {
+				if (pss instanceof ParameterDisposer parameterDisposer) {
+					parameterDisposer.cleanupParameters();
+				}
+			}
+		});
+
+		Assert.state(result != null, "No result count");
+		return result;
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
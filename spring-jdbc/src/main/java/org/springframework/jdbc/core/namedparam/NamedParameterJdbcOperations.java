@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchProgressCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -557,6 +558,29 @@ public interface NamedParameterJdbcOperations {
 	 */
 	int[] batchUpdate(String sql, Map<String, ?>[] batchValues);
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the stream
+	 * of supplied arguments, sending a batch to the database whenever 'batchSize'
+	 * arguments have been set, as well as for the remaining arguments at the end
+	 * of the stream.
+	 * <p>The arguments are consumed from the stream as the batches are executed,
+	 * and the update counts are not collected, so that arbitrarily large inputs
+	 * can be processed with the memory needed for a single batch. The stream
+	 * is not closed by this method.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the stream of {@link SqlParameterSource} containing the
+	 * arguments for the query
+	 * @param batchSize the maximum number of arguments per batch
+	 * @param callback the callback to notify with the numbers of rows affected
+	 * by each batch (may be {@code null})
+	 * @return the total number of arguments processed
+	 * @throws DataAccessException if there is any problem issuing the update
+	 * @since 6.2
+	 * @see JdbcOperations#batchUpdate(String, Stream, int, org.springframework.jdbc.core.ParameterizedPreparedStatementSetter, BatchProgressCallback)
+	 */
+	long batchUpdate(String sql, Stream<? extends SqlParameterSource> batchArgs, int batchSize,
+			@Nullable BatchProgressCallback callback) throws DataAccessException;
+
 	/**
 	 * Execute a batch using the supplied SQL statement with the batch of supplied
 	 * arguments, returning generated keys.
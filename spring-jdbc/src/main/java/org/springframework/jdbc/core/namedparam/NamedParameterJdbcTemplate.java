@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,16 +18,21 @@ package org.springframework.jdbc.core.namedparam;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchProgressCallback;
 import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -394,6 +399,28 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 		return batchUpdate(sql, SqlParameterSourceUtils.createBatch(batchValues));
 	}
 
+	@Override
+	public long batchUpdate(String sql, Stream<? extends SqlParameterSource> batchArgs, int batchSize,
+			@Nullable BatchProgressCallback callback) {
+
+		Iterator<? extends SqlParameterSource> iterator = batchArgs.iterator();
+		if (!iterator.hasNext()) {
+			return 0;
+		}
+
+		// Derive the SQL statement from the first arguments, as for array-based batches
+		SqlParameterSource firstArgs = iterator.next();
+		ParsedSql parsedSql = getParsedSql(sql);
+		PreparedStatementCreatorFactory pscf = getPreparedStatementCreatorFactory(parsedSql, firstArgs);
+		Stream<SqlParameterSource> args = Stream.concat(Stream.of(firstArgs),
+				StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false));
+
+		return getJdbcOperations().batchUpdate(pscf.getSql(), args, batchSize, (ps, paramSource) -> {
+			Object[] values = NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+			pscf.newPreparedStatementSetter(values).setValues(ps);
+		}, callback);
+	}
+
 	@Override
 	public int[] batchUpdate(String sql, SqlParameterSource[] batchArgs, KeyHolder generatedKeyHolder) {
 		return batchUpdate(sql, batchArgs, generatedKeyHolder, null);
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.test.ConcretePerson;
+import org.springframework.jdbc.core.test.ConstructorPerson;
+import org.springframework.jdbc.core.test.ConstructorPersonWithGenerics;
+import org.springframework.jdbc.core.test.ConstructorPersonWithSetters;
+import org.springframework.jdbc.core.test.EmailPerson;
+import org.springframework.jdbc.core.test.Person;
+import org.springframework.jdbc.core.test.SpacePerson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link DirectPropertyRowMapper}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class DirectPropertyRowMapperTests extends AbstractRowMapperTests {
+
+	@Test
+	void staticQueryWithPlainSetters() throws Exception {
+		Mock mock = new Mock();
+		Person person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(Person.class));
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingWithInheritance() throws Exception {
+		Mock mock = new Mock();
+		ConcretePerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(ConcretePerson.class));
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataClass() throws Exception {
+		Mock mock = new Mock();
+		ConstructorPerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(ConstructorPerson.class));
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataClassAndGenerics() throws Exception {
+		Mock mock = new Mock();
+		ConstructorPersonWithGenerics person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(ConstructorPersonWithGenerics.class));
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birthDate()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).containsExactly(new BigDecimal("1234.56"));
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataClassAndSetters() throws Exception {
+		Mock mock = new Mock(MockType.FOUR);
+		ConstructorPersonWithSetters person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birthdate, balance from people",
+				new DirectPropertyRowMapper<>(ConstructorPersonWithSetters.class));
+		assertThat(person.name()).isEqualTo("BUBBA");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birthDate()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataRecord() throws Exception {
+		Mock mock = new Mock();
+		RecordPerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(RecordPerson.class));
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void queryWithSpaceInColumnNameAndLocalDateTime() throws Exception {
+		Mock mock = new Mock(MockType.THREE);
+		SpacePerson person = mock.getJdbcTemplate().queryForObject(
+				"select last_name as \"Last Name\", age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(SpacePerson.class));
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void queryWithUnderscoreInColumnNameAndPersonWithMultipleAdjacentUppercaseLettersInPropertyName() throws Exception {
+		Mock mock = new Mock();
+		EmailPerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance, e_mail from people",
+				new DirectPropertyRowMapper<>(EmailPerson.class));
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingPlanAdaptedToColumnLayout() throws Exception {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		Mock mock = new Mock(MockType.THREE);
+		Person person = mock.getJdbcTemplate().queryForObject(
+				"select last_name as \"Last Name\", age, birth_date, balance from people", mapper);
+		assertThat(person.getName()).isNull();
+		assertThat(person.getAge()).isEqualTo(22L);
+
+		mock = new Mock();
+		person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people", mapper);
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingPlanPerResultSetWithConcurrentColumnLayouts() throws Exception {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		ResultSet nameFirst = mockResultSet("name", "age");
+		given(nameFirst.getString(1)).willReturn("Bubba");
+		given(nameFirst.getLong(2)).willReturn(22L);
+		ResultSet ageFirst = mockResultSet("age", "name");
+		given(ageFirst.getLong(1)).willReturn(33L);
+		given(ageFirst.getString(2)).willReturn("Jimmy");
+
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+				mapRows(mapper, nameFirst, barrier, "Bubba", 22L));
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+				mapRows(mapper, ageFirst, barrier, "Jimmy", 33L));
+		CompletableFuture.allOf(first, second).join();
+	}
+
+	@Test
+	void mappingWithMissingConstructorArgument() throws Exception {
+		Mock mock = new Mock(MockType.THREE);
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() ->
+				mock.getJdbcTemplate().query("select last_name as \"Last Name\", age, birth_date, balance from people",
+						new DirectPropertyRowMapper<>(ConstructorPerson.class)));
+	}
+
+	@Test
+	void mappingNullValue() throws Exception {
+		Mock mock = new Mock(MockType.TWO);
+		assertThatExceptionOfType(TypeMismatchException.class).isThrownBy(() ->
+				mock.getJdbcTemplate().query("select null as age from people",
+						new DirectPropertyRowMapper<>(Person.class)));
+	}
+
+	@Test
+	void mappingNullValueWithPrimitivesDefaultedForNullValue() throws Exception {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		mapper.setPrimitivesDefaultedForNullValue(true);
+		Mock mock = new Mock(MockType.TWO);
+		Person person = mock.getJdbcTemplate().queryForObject("select null as age from people", mapper);
+		assertThat(person).extracting(Person::getAge).isEqualTo(42L);
+		mock.verifyClosed();
+	}
+
+
+	private static ResultSet mockResultSet(String... columns) throws SQLException {
+		ResultSetMetaData metaData = mock();
+		given(metaData.getColumnCount()).willReturn(columns.length);
+		for (int i = 0; i < columns.length; i++) {
+			given(metaData.getColumnLabel(i + 1)).willReturn(columns[i]);
+		}
+		ResultSet resultSet = mock();
+		given(resultSet.getMetaData()).willReturn(metaData);
+		return resultSet;
+	}
+
+	private static void mapRows(DirectPropertyRowMapper<Person> mapper, ResultSet rs,
+			CyclicBarrier barrier, String name, long age) {
+
+		try {
+			for (int rowNumber = 0; rowNumber < 100; rowNumber++) {
+				barrier.await(10, TimeUnit.SECONDS);
+				Person person = mapper.mapRow(rs, rowNumber);
+				assertThat(person.getName()).isEqualTo(name);
+				assertThat(person.getAge()).isEqualTo(age);
+			}
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	protected void verifyPerson(RecordPerson person) {
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birth_date()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+		verifyPersonViaBeanWrapper(person);
+	}
+
+
+	record RecordPerson(String name, long age, Date birth_date, BigDecimal balance) {
+	}
+
+}
@@ -32,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -799,6 +800,74 @@ class JdbcTemplateTests {
 		verify(this.connection, atLeastOnce()).close();
 	}
 
+	@Test
+	void testBatchUpdateWithStreamOfObjects() throws Exception {
+		final String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		final List<Integer> ids = Arrays.asList(100, 200, 300);
+		final int[] rowsAffected1 = new int[] {1, 2};
+		final int[] rowsAffected2 = new int[] {3};
+
+		given(this.preparedStatement.executeBatch()).willReturn(rowsAffected1, rowsAffected2);
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		List<int[]> actualRowsAffected = new ArrayList<>();
+		List<Long> itemCounts = new ArrayList<>();
+		long count = template.batchUpdate(sql, ids.stream(), 2, setter, (rowsAffected, itemCount) -> {
+			actualRowsAffected.add(rowsAffected);
+			itemCounts.add(itemCount);
+		});
+		assertThat(count).isEqualTo(3);
+		assertThat(actualRowsAffected).containsExactly(rowsAffected1, rowsAffected2);
+		assertThat(itemCounts).containsExactly(2L, 3L);
+
+		verify(this.preparedStatement, times(3)).addBatch();
+		verify(this.preparedStatement, times(2)).executeBatch();
+		verify(this.preparedStatement).setInt(1, ids.get(0));
+		verify(this.preparedStatement).setInt(1, ids.get(1));
+		verify(this.preparedStatement).setInt(1, ids.get(2));
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
+	@Test
+	void testBatchUpdateWithStreamOfObjectsAndNoBatchSupport() throws Exception {
+		final String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		final List<Integer> ids = Arrays.asList(100, 200, 300);
+
+		given(this.preparedStatement.executeUpdate()).willReturn(1, 2, 3);
+		mockDatabaseMetaData(false);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		List<int[]> actualRowsAffected = new ArrayList<>();
+		long count = template.batchUpdate(sql, ids.stream(), 2, setter,
+				(rowsAffected, itemCount) -> actualRowsAffected.add(rowsAffected));
+		assertThat(count).isEqualTo(3);
+		assertThat(actualRowsAffected).containsExactly(new int[] {1, 2}, new int[] {3});
+
+		verify(this.preparedStatement, never()).addBatch();
+		verify(this.preparedStatement, times(3)).executeUpdate();
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
+	@Test
+	void testBatchUpdateWithEmptyStream() throws Exception {
+		mockDatabaseMetaData(true);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		long count = template.batchUpdate("UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?",
+				Stream.<Integer>empty(), 2, (ps, argument) -> ps.setInt(1, argument));
+		assertThat(count).isZero();
+
+		verify(this.preparedStatement, never()).executeBatch();
+		verify(this.preparedStatement).close();
+	}
+
 	@Test
 	void testCouldNotGetConnectionForOperationOrExceptionTranslator() throws SQLException {
 		SQLException sqlException = new SQLException("foo", "07xxx");
@@ -513,6 +513,42 @@ class NamedParameterJdbcTemplateTests {
 		verify(connection, atLeastOnce()).close();
 	}
 
+	@Test
+	void testBatchUpdateWithStreamOfSqlParameterSource() throws Exception {
+		Stream<SqlParameterSource> ids = Stream.of(
+				new MapSqlParameterSource("id", 100),
+				new MapSqlParameterSource("id", 200),
+				new MapSqlParameterSource("id", 300));
+		final int[] rowsAffected1 = new int[] {1, 2};
+		final int[] rowsAffected2 = new int[] {3};
+
+		given(preparedStatement.executeBatch()).willReturn(rowsAffected1, rowsAffected2);
+		given(connection.getMetaData()).willReturn(databaseMetaData);
+		namedParameterTemplate = new NamedParameterJdbcTemplate(new JdbcTemplate(dataSource, false));
+
+		List<int[]> actualRowsAffected = new ArrayList<>();
+		long count = namedParameterTemplate.batchUpdate(
+				"UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = :id", ids, 2,
+				(rowsAffected, itemCount) -> actualRowsAffected.add(rowsAffected));
+		assertThat(count).isEqualTo(3);
+		assertThat(actualRowsAffected).containsExactly(rowsAffected1, rowsAffected2);
+		verify(connection).prepareStatement("UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?");
+		verify(preparedStatement).setObject(1, 100);
+		verify(preparedStatement).setObject(1, 200);
+		verify(preparedStatement).setObject(1, 300);
+		verify(preparedStatement, times(3)).addBatch();
+		verify(preparedStatement, times(2)).executeBatch();
+		verify(preparedStatement, atLeastOnce()).close();
+		verify(connection, atLeastOnce()).close();
+	}
+
+	@Test
+	void testBatchUpdateWithEmptyStream() {
+		long count = namedParameterTemplate.batchUpdate(
+				"UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = :id", Stream.empty(), 2, null);
+		assertThat(count).isZero();
+	}
+
 	@Test
 	void testBatchUpdateWithInClause() throws Exception {
 		@SuppressWarnings("unchecked")
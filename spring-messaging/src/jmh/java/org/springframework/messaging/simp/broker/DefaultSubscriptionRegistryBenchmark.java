@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,7 +40,7 @@ public class DefaultSubscriptionRegistryBenchmark {
 
 	@State(Scope.Benchmark)
 	public static class ServerState {
-		@Param("1000")
+		@Param({"1000", "20000"})
 		public int sessions;
 
 		@Param("10")
@@ -52,7 +52,10 @@ public class DefaultSubscriptionRegistryBenchmark {
 		@Param({"none", "patternSubscriptions", "selectorHeaders"})
 		String specialization;
 
-		public DefaultSubscriptionRegistry registry;
+		@Param({"default", "trie"})
+		String registryType;
+
+		public AbstractSubscriptionRegistry registry;
 
 		public String[] destinationIds;
 
@@ -67,9 +70,18 @@ public class DefaultSubscriptionRegistryBenchmark {
 			this.findMessage = MessageBuilder.createMessage("", SimpMessageHeaderAccessor.create().getMessageHeaders());
 			this.uniqueIdGenerator = new AtomicInteger();
 
-			this.registry = new DefaultSubscriptionRegistry();
-			this.registry.setCacheLimit(this.cacheSizeLimit);
-			this.registry.setSelectorHeaderName("selectorHeaders".equals(this.specialization) ? "someSelector" : null);
+			String selectorHeaderName = ("selectorHeaders".equals(this.specialization) ? "someSelector" : null);
+			if ("trie".equals(this.registryType)) {
+				TrieSubscriptionRegistry registry = new TrieSubscriptionRegistry();
+				registry.setSelectorHeaderName(selectorHeaderName);
+				this.registry = registry;
+			}
+			else {
+				DefaultSubscriptionRegistry registry = new DefaultSubscriptionRegistry();
+				registry.setCacheLimit(this.cacheSizeLimit);
+				registry.setSelectorHeaderName(selectorHeaderName);
+				this.registry = registry;
+			}
 
 			this.destinationIds = IntStream.range(0, this.destinations)
 					.mapToObj(i -> "/some/destination/" + i)
@@ -135,6 +147,33 @@ public class DefaultSubscriptionRegistryBenchmark {
 		}
 	}
 
+	@State(Scope.Thread)
+	public static class ChurnRequest {
+		@Param({"1", "10"})
+		int subscriptionsPerSession;
+
+		public String session;
+
+		public Message<?>[] subscribes;
+
+		public String findDestination;
+
+		@Setup(Level.Trial)
+		public void doSetup(ServerState serverState) {
+			int uniqueNumber = serverState.uniqueIdGenerator.incrementAndGet();
+			this.session = "churningSessionId_" + uniqueNumber;
+			this.findDestination = serverState.destinationIds[uniqueNumber % serverState.destinationIds.length];
+			this.subscribes = new Message<?>[this.subscriptionsPerSession];
+			for (int i = 0; i < this.subscriptionsPerSession; i++) {
+				String destination = serverState.destinationIds[(uniqueNumber + i) % serverState.destinationIds.length];
+				if ("patternSubscriptions".equals(serverState.specialization)) {
+					destination = "/**/" + destination;
+				}
+				this.subscribes[i] = subscribeMessage(this.session, String.valueOf(i), destination);
+			}
+		}
+	}
+
 	@State(Scope.Thread)
 	public static class FindRequest {
 		@Param({"none", "noSubscribers", "sameDestination"})
@@ -165,6 +204,15 @@ public class DefaultSubscriptionRegistryBenchmark {
 		blackhole.consume(serverState.registry.findSubscriptionsInternal(request.findDestination, serverState.findMessage));
 	}
 
+	@Benchmark
+	public void connectSubscribeDisconnect(ServerState serverState, ChurnRequest request, Blackhole blackhole) {
+		for (Message<?> subscribe : request.subscribes) {
+			serverState.registry.registerSubscription(subscribe);
+		}
+		blackhole.consume(serverState.registry.findSubscriptionsInternal(request.findDestination, serverState.findMessage));
+		serverState.registry.unregisterAllSubscriptions(request.session);
+	}
+
 	@Benchmark
 	public MultiValueMap<String, String> find(ServerState serverState, FindRequest request) {
 		return serverState.registry.findSubscriptionsInternal(request.destination, serverState.findMessage);
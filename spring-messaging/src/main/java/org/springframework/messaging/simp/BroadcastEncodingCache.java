@@ -0,0 +1,78 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache shared by the copies of a message that a broker sends to each of
+ * its subscribers, allowing protocol encoders to encode the parts of the
+ * message that are common to all subscribers only once per broadcast.
+ *
+ * <p>Exposed through a message header of each copy, see {@link #setCache}
+ * and {@link #getCache}. Encoders are expected to verify that a cached
+ * encoding still applies to the message at hand, since channel interceptors
+ * may have modified individual copies.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler
+ * @see org.springframework.messaging.simp.stomp.StompEncoder
+ */
+public final class BroadcastEncodingCache {
+
+	private static final String BROADCAST_ENCODING_CACHE_HEADER = "simpBroadcastEncodingCache";
+
+
+	private final Map<Class<?>, Object> encodings = new ConcurrentHashMap<>(2);
+
+
+	/**
+	 * Return the encoding of the given type, creating it through the given
+	 * supplier for the first subscriber.
+	 * @param encodingType the type of encoding, typically specific to the encoder
+	 * @param encodingSupplier the supplier for the encoding, if not cached yet
+	 * @return the shared encoding
+	 */
+	public <T> T getEncoding(Class<T> encodingType, Supplier<T> encodingSupplier) {
+		return encodingType.cast(this.encodings.computeIfAbsent(encodingType, type -> encodingSupplier.get()));
+	}
+
+
+	/**
+	 * Expose the given cache through the headers of a copy of a broadcast message.
+	 * @param accessor the headers of the message
+	 * @param cache the cache shared by all copies of the message
+	 */
+	public static void setCache(SimpMessageHeaderAccessor accessor, BroadcastEncodingCache cache) {
+		accessor.setHeader(BROADCAST_ENCODING_CACHE_HEADER, cache);
+	}
+
+	/**
+	 * Obtain the cache shared with the other copies of a broadcast message, if any.
+	 * @param headers the headers of the message
+	 */
+	@Nullable
+	public static BroadcastEncodingCache getCache(Map<String, Object> headers) {
+		return (headers.get(BROADCAST_ENCODING_CACHE_HEADER) instanceof BroadcastEncodingCache cache ? cache : null);
+	}
+
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.broker;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadCreator;
+
+/**
+ * {@link Executor} for {@link org.springframework.messaging.support.ExecutorSubscribableChannel
+ * ExecutorSubscribableChannel} that processes the messages of each session in
+ * the order they were sent, as an alternative to
+ * {@link OrderedMessageChannelDecorator} on top of a thread pool.
+ *
+ * <p>Tasks for a {@link MessageHandlingRunnable} with a
+ * {@linkplain SimpMessageHeaderAccessor#getSessionId session id} are appended
+ * to a queue for that session, and each session is hashed onto one of a fixed
+ * number of worker lanes. A session with pending tasks is owned by exactly one
+ * lane at a time, which drains up to {@link #setMaxBatchSize maxBatchSize}
+ * of its tasks in a row before moving on to the next ready session. Idle lanes
+ * steal ready sessions from busy lanes, so a few hot sessions do not hold up
+ * others that happen to share their lane. All state is kept in concurrent
+ * queues and per-session flags, with no lock shared across sessions.
+ *
+ * <p>Tasks without a session id are executed in no particular order.
+ *
+ * <p>May be registered for a channel through
+ * {@link org.springframework.messaging.simp.config.ChannelRegistration#executor
+ * ChannelRegistration#executor}. Note that this executor needs to be
+ * {@linkplain #initialize() initialized} before use, which happens
+ * automatically when it is declared as a bean.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see OrderedMessageChannelDecorator
+ */
+public class OrderedSessionExecutor implements Executor, InitializingBean, DisposableBean {
+
+	/**
+	 * The default maximum number of tasks to process for a session in a row.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+
+	private static final Log logger = LogFactory.getLog(OrderedSessionExecutor.class);
+
+	private final CustomizableThreadCreator threadCreator = new CustomizableThreadCreator("session-lane-");
+
+	private int laneCount = Runtime.getRuntime().availableProcessors();
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	// sessionId -> pending tasks for that session
+	private final ConcurrentMap<String, TaskQueue> sessionQueues = new ConcurrentHashMap<>();
+
+	@Nullable
+	private volatile Lane[] lanes;
+
+	private volatile boolean shutdown;
+
+
+	/**
+	 * Set the number of worker lanes, each backed by a dedicated thread.
+	 * <p>Default is the number of available processors.
+	 */
+	public void setLaneCount(int laneCount) {
+		Assert.isTrue(laneCount > 0, "Lane count must be greater than 0");
+		this.laneCount = laneCount;
+	}
+
+	/**
+	 * Return the configured number of worker lanes.
+	 */
+	public int getLaneCount() {
+		return this.laneCount;
+	}
+
+	/**
+	 * Set the maximum number of tasks to process for a session before
+	 * moving on to other ready sessions on the same lane.
+	 * <p>Default is {@value #DEFAULT_MAX_BATCH_SIZE}.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Return the configured maximum number of tasks per session in a row.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Set the prefix to use for the names of lane threads.
+	 * <p>Default is "session-lane-".
+	 */
+	public void setThreadNamePrefix(@Nullable String threadNamePrefix) {
+		this.threadCreator.setThreadNamePrefix(threadNamePrefix);
+	}
+
+	/**
+	 * Set whether lane threads should be daemon threads.
+	 * <p>Default is "false".
+	 */
+	public void setDaemon(boolean daemon) {
+		this.threadCreator.setDaemon(daemon);
+	}
+
+
+	/**
+	 * Calls {@code initialize()} after the container applied all property values.
+	 * @see #initialize()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		initialize();
+	}
+
+	/**
+	 * Start the lane threads.
+	 */
+	public synchronized void initialize() {
+		Assert.state(this.lanes == null, "OrderedSessionExecutor already initialized");
+		Lane[] lanes = new Lane[this.laneCount];
+		for (int i = 0; i < lanes.length; i++) {
+			lanes[i] = new Lane(i);
+		}
+		this.lanes = lanes;
+		for (Lane lane : lanes) {
+			lane.thread.start();
+		}
+	}
+
+	/**
+	 * Calls {@code shutdown} when the BeanFactory destroys the executor instance.
+	 * @see #shutdown()
+	 */
+	@Override
+	public void destroy() {
+		shutdown();
+	}
+
+	/**
+	 * Stop accepting new tasks, and let the lane threads terminate once
+	 * they have processed all pending tasks.
+	 */
+	public void shutdown() {
+		this.shutdown = true;
+		Lane[] lanes = this.lanes;
+		if (lanes != null) {
+			for (Lane lane : lanes) {
+				LockSupport.unpark(lane.thread);
+			}
+		}
+	}
+
+
+	@Override
+	public void execute(Runnable task) {
+		Lane[] lanes = this.lanes;
+		Assert.state(lanes != null, "OrderedSessionExecutor not initialized");
+		if (this.shutdown) {
+			throw new RejectedExecutionException("OrderedSessionExecutor has been shut down");
+		}
+		String sessionId = getSessionId(task);
+		if (sessionId == null) {
+			TaskQueue queue = new TaskQueue(null, lanes[ThreadLocalRandom.current().nextInt(lanes.length)]);
+			queue.tasks.add(task);
+			queue.scheduled.set(true);
+			schedule(queue, queue.homeLane);
+			return;
+		}
+		TaskQueue queue = this.sessionQueues.compute(sessionId, (id, existing) -> {
+			TaskQueue queueToUse = (existing != null ? existing :
+					new TaskQueue(id, lanes[Math.floorMod(id.hashCode(), lanes.length)]));
+			queueToUse.tasks.add(task);
+			return queueToUse;
+		});
+		if (queue.scheduled.compareAndSet(false, true)) {
+			schedule(queue, queue.homeLane);
+		}
+	}
+
+	/**
+	 * Return the number of sessions with tasks pending or in progress.
+	 */
+	public int getActiveSessionCount() {
+		return this.sessionQueues.size();
+	}
+
+	@Nullable
+	private String getSessionId(Runnable task) {
+		return (task instanceof MessageHandlingRunnable runnable ?
+				SimpMessageHeaderAccessor.getSessionId(runnable.getMessage().getHeaders()) : null);
+	}
+
+	/**
+	 * Make the given queue ready on the given lane, and wake up either that
+	 * lane or, if it is busy, an idle lane that may steal the queue.
+	 */
+	private void schedule(TaskQueue queue, Lane lane) {
+		lane.ready.addLast(queue);
+		if (lane.parked) {
+			LockSupport.unpark(lane.thread);
+			return;
+		}
+		Lane[] lanes = this.lanes;
+		if (lanes != null) {
+			for (Lane other : lanes) {
+				if (other.parked) {
+					LockSupport.unpark(other.thread);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Run up to {@code maxBatchSize} tasks of the given queue, then either
+	 * reschedule the queue on the current lane or release it.
+	 */
+	private void process(TaskQueue queue, Lane lane) {
+		for (int i = 0; i < this.maxBatchSize; i++) {
+			Runnable task = queue.tasks.poll();
+			if (task == null) {
+				break;
+			}
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				logger.error("Unexpected error while processing " + task, ex);
+			}
+		}
+		if (!queue.tasks.isEmpty()) {
+			schedule(queue, lane);
+			return;
+		}
+		queue.scheduled.set(false);
+		if (!queue.tasks.isEmpty()) {
+			// Tasks added concurrently: reclaim the queue unless another thread did already
+			if (queue.scheduled.compareAndSet(false, true)) {
+				schedule(queue, lane);
+			}
+			return;
+		}
+		if (queue.sessionId != null) {
+			this.sessionQueues.computeIfPresent(queue.sessionId, (id, existing) ->
+					(existing == queue && existing.tasks.isEmpty() && !existing.scheduled.get() ? null : existing));
+		}
+	}
+
+
+	/**
+	 * Pending tasks for a session, processed by one lane at a time.
+	 */
+	private static final class TaskQueue {
+
+		@Nullable
+		private final String sessionId;
+
+		private final Lane homeLane;
+
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		TaskQueue(@Nullable String sessionId, Lane homeLane) {
+			this.sessionId = sessionId;
+			this.homeLane = homeLane;
+		}
+	}
+
+
+	/**
+	 * Worker lane with its own thread and deque of ready sessions.
+	 */
+	private final class Lane implements Runnable {
+
+		private final int index;
+
+		private final ConcurrentLinkedDeque<TaskQueue> ready = new ConcurrentLinkedDeque<>();
+
+		private final Thread thread;
+
+		private volatile boolean parked;
+
+		Lane(int index) {
+			this.index = index;
+			this.thread = threadCreator.createThread(this);
+		}
+
+		@Override
+		public void run() {
+			for (;;) {
+				TaskQueue queue = this.ready.pollFirst();
+				if (queue == null) {
+					queue = steal();
+				}
+				if (queue != null) {
+					process(queue, this);
+					continue;
+				}
+				if (shutdown) {
+					return;
+				}
+				this.parked = true;
+				try {
+					if (!hasReadyQueues()) {
+						LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+					}
+				}
+				finally {
+					this.parked = false;
+				}
+			}
+		}
+
+		@Nullable
+		private TaskQueue steal() {
+			Lane[] lanes = OrderedSessionExecutor.this.lanes;
+			if (lanes != null) {
+				for (int i = 1; i < lanes.length; i++) {
+					TaskQueue queue = lanes[(this.index + i) % lanes.length].ready.pollLast();
+					if (queue != null) {
+						return queue;
+					}
+				}
+			}
+			return null;
+		}
+
+		private boolean hasReadyQueues() {
+			Lane[] lanes = OrderedSessionExecutor.this.lanes;
+			if (lanes != null) {
+				for (Lane lane : lanes) {
+					if (!lane.ready.isEmpty()) {
+						return true;
+					}
+				}
+			}
+			return shutdown;
+		}
+	}
+
+}
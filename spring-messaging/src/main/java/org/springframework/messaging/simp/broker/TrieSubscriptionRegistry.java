@@ -0,0 +1,498 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.broker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Implementation of {@link SubscriptionRegistry} that indexes subscriptions
+ * by destination segments, as an alternative to {@link DefaultSubscriptionRegistry}
+ * for large numbers of subscriptions with frequent subscribe and unsubscribe
+ * operations.
+ *
+ * <p>Subscriptions to plain destinations are kept in a hash map keyed by
+ * destination, whereas pattern subscriptions are kept in a trie of their
+ * destination segments, with dedicated branches for {@code "*"} and
+ * {@code "**"} wildcards. Finding the subscriptions for a destination therefore
+ * takes a single hash lookup plus a trie traversal proportional to the depth of
+ * the destination, rather than a scan of all pattern subscriptions. Subscribing
+ * and unsubscribing only touch the affected destination entry or trie branch,
+ * with no resolved destination cache to maintain. Lookups are lock-free, while
+ * updates lock individual entries and branches only.
+ *
+ * <p>Destinations are matched with {@link AntPathMatcher} semantics, using the
+ * configured {@linkplain #setPathSeparator path separator}. Patterns found
+ * in the trie are verified against the full destination before being
+ * included in a result.
+ *
+ * <p>Like {@link DefaultSubscriptionRegistry}, this class supports an optional
+ * {@linkplain #setSelectorHeaderName selector header} with SpEL expressions to
+ * filter messages matched to a subscription.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see DefaultSubscriptionRegistry
+ */
+public class TrieSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+	private static final MultiValueMap<String, String> EMPTY_MAP =
+			CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+	private static final String SINGLE_WILDCARD = "*";
+
+	private static final String MULTI_WILDCARD = "**";
+
+
+	private String pathSeparator = AntPathMatcher.DEFAULT_PATH_SEPARATOR;
+
+	private AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	@Nullable
+	private String selectorHeaderName;
+
+	private volatile boolean selectorHeaderInUse;
+
+	private final ExpressionParser expressionParser = new SpelExpressionParser();
+
+	// destination -> subscriptions to exactly that destination
+	private final ConcurrentMap<String, SubscriptionSet> destinationSubscriptions = new ConcurrentHashMap<>(1024);
+
+	// root of the destination segment trie for pattern subscriptions
+	private final TrieNode patternRoot = new TrieNode();
+
+	// sessionId -> [subscriptionId -> Subscription]
+	private final ConcurrentMap<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Set the path separator to use for matching destinations, e.g. {@code "."}
+	 * for dot-separated STOMP destinations. Default is {@code "/"}.
+	 * <p>Needs to be set before any subscriptions are registered.
+	 */
+	public void setPathSeparator(String pathSeparator) {
+		Assert.hasLength(pathSeparator, "Path separator must not be empty");
+		Assert.state(this.sessions.isEmpty(), "Cannot change path separator with subscriptions registered");
+		this.pathSeparator = pathSeparator;
+		this.pathMatcher = new AntPathMatcher(pathSeparator);
+	}
+
+	/**
+	 * Return the configured path separator.
+	 */
+	public String getPathSeparator() {
+		return this.pathSeparator;
+	}
+
+	/**
+	 * Configure the name of a header that a subscription message can have for
+	 * the purpose of filtering messages matched to the subscription.
+	 * <p>By default the selector header name is set to {@code null} which
+	 * disables this feature.
+	 * @param selectorHeaderName the name to use for a selector header, or {@code null}
+	 * or blank to disable selector header support
+	 * @see DefaultSubscriptionRegistry#setSelectorHeaderName
+	 */
+	public void setSelectorHeaderName(@Nullable String selectorHeaderName) {
+		this.selectorHeaderName = (StringUtils.hasText(selectorHeaderName) ? selectorHeaderName : null);
+	}
+
+	/**
+	 * Return the name of the selector header.
+	 * @see #setSelectorHeaderName(String)
+	 */
+	@Nullable
+	public String getSelectorHeaderName() {
+		return this.selectorHeaderName;
+	}
+
+
+	@Override
+	protected void addSubscriptionInternal(
+			String sessionId, String subscriptionId, String destination, Message<?> message) {
+
+		boolean isPattern = this.pathMatcher.isPattern(destination);
+		Expression expression = getSelectorExpression(message.getHeaders());
+		Subscription subscription = new Subscription(sessionId, subscriptionId, destination, isPattern, expression);
+
+		Map<String, Subscription> subscriptions =
+				this.sessions.computeIfAbsent(sessionId, _sessionId -> new ConcurrentHashMap<>(4));
+		if (subscriptions.putIfAbsent(subscriptionId, subscription) != null) {
+			return;
+		}
+		if (isPattern) {
+			this.patternRoot.add(tokenize(destination), 0, subscription);
+		}
+		else {
+			this.destinationSubscriptions.compute(destination, (_destination, set) -> {
+				set = (set != null ? set : new SubscriptionSet());
+				set.add(subscription);
+				return set;
+			});
+		}
+	}
+
+	@Nullable
+	private Expression getSelectorExpression(MessageHeaders headers) {
+		if (getSelectorHeaderName() == null) {
+			return null;
+		}
+		String selector = NativeMessageHeaderAccessor.getFirstNativeHeader(getSelectorHeaderName(), headers);
+		if (selector == null) {
+			return null;
+		}
+		Expression expression = null;
+		try {
+			expression = this.expressionParser.parseExpression(selector);
+			this.selectorHeaderInUse = true;
+			if (logger.isTraceEnabled()) {
+				logger.trace("Subscription selector: [" + selector + "]");
+			}
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to parse selector: " + selector, ex);
+			}
+		}
+		return expression;
+	}
+
+	@Override
+	protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+		Map<String, Subscription> subscriptions = this.sessions.get(sessionId);
+		if (subscriptions != null) {
+			Subscription subscription = subscriptions.remove(subscriptionId);
+			if (subscription != null) {
+				removeFromIndex(subscription);
+			}
+		}
+	}
+
+	@Override
+	public void unregisterAllSubscriptions(String sessionId) {
+		Map<String, Subscription> subscriptions = this.sessions.remove(sessionId);
+		if (subscriptions != null) {
+			for (Subscription subscription : subscriptions.values()) {
+				removeFromIndex(subscription);
+			}
+		}
+	}
+
+	private void removeFromIndex(Subscription subscription) {
+		if (subscription.isPattern()) {
+			this.patternRoot.remove(tokenize(subscription.getDestination()), 0, subscription);
+		}
+		else {
+			this.destinationSubscriptions.computeIfPresent(subscription.getDestination(), (_destination, set) -> {
+				set.remove(subscription);
+				return (set.isEmpty() ? null : set);
+			});
+		}
+	}
+
+	@Override
+	protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+		SubscriptionSet exactMatches = this.destinationSubscriptions.get(destination);
+		List<Subscription> patternMatches = null;
+		if (!this.patternRoot.isEmpty()) {
+			List<TrieNode> nodes = new ArrayList<>(4);
+			this.patternRoot.collect(tokenize(destination), 0, nodes);
+			for (TrieNode node : nodes) {
+				for (Subscription subscription : node.subscriptions.getSubscriptions()) {
+					if (this.pathMatcher.match(subscription.getDestination(), destination)) {
+						if (patternMatches == null) {
+							patternMatches = new ArrayList<>();
+						}
+						patternMatches.add(subscription);
+					}
+				}
+			}
+		}
+
+		if (patternMatches == null && !this.selectorHeaderInUse) {
+			return (exactMatches != null ? exactMatches.getSessionSubscriptionIds() : EMPTY_MAP);
+		}
+		LinkedMultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+		if (exactMatches != null) {
+			addMatches(exactMatches.getSubscriptions(), message, result);
+		}
+		if (patternMatches != null) {
+			addMatches(patternMatches, message, result);
+		}
+		return result;
+	}
+
+	private void addMatches(
+			Collection<Subscription> subscriptions, Message<?> message, MultiValueMap<String, String> result) {
+
+		for (Subscription subscription : subscriptions) {
+			if (evaluateExpression(subscription.getSelector(), message)) {
+				result.add(subscription.getSessionId(), subscription.getId());
+			}
+		}
+	}
+
+	private boolean evaluateExpression(@Nullable Expression expression, Message<?> message) {
+		if (expression == null) {
+			return true;
+		}
+		try {
+			Boolean result = expression.getValue(DefaultSubscriptionRegistry.messageEvalContext, message, Boolean.class);
+			if (Boolean.TRUE.equals(result)) {
+				return true;
+			}
+		}
+		catch (SpelEvaluationException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to evaluate selector: " + ex.getMessage());
+			}
+		}
+		catch (Throwable ex) {
+			logger.debug("Failed to evaluate selector", ex);
+		}
+		return false;
+	}
+
+	private String[] tokenize(String destination) {
+		return StringUtils.tokenizeToStringArray(destination, this.pathSeparator, false, true);
+	}
+
+	private static boolean isPatternSegment(String segment) {
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (c == '*' || c == '?' || c == '{' || c == '}') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Node in the destination segment trie, holding the pattern subscriptions
+	 * that end with the segment leading to it. Child nodes for plain segments
+	 * as well as {@code "*"} and {@code "**"} wildcards are looked up by
+	 * segment, whereas other pattern segments (e.g. {@code "user-*"} or
+	 * {@code "{id}"}) are visited for every destination segment and left to
+	 * the final verification against the full destination.
+	 */
+	private static final class TrieNode {
+
+		private final ConcurrentMap<String, TrieNode> children = new ConcurrentHashMap<>(4);
+
+		private final ConcurrentMap<String, TrieNode> patternChildren = new ConcurrentHashMap<>(4);
+
+		private final SubscriptionSet subscriptions = new SubscriptionSet();
+
+		public boolean isEmpty() {
+			return (this.subscriptions.isEmpty() && this.children.isEmpty() && this.patternChildren.isEmpty());
+		}
+
+		public void add(String[] segments, int index, Subscription subscription) {
+			if (index == segments.length) {
+				this.subscriptions.add(subscription);
+				return;
+			}
+			String segment = segments[index];
+			getChildren(segment).compute(segment, (_segment, child) -> {
+				child = (child != null ? child : new TrieNode());
+				child.add(segments, index + 1, subscription);
+				return child;
+			});
+		}
+
+		public void remove(String[] segments, int index, Subscription subscription) {
+			if (index == segments.length) {
+				this.subscriptions.remove(subscription);
+				return;
+			}
+			String segment = segments[index];
+			getChildren(segment).computeIfPresent(segment, (_segment, child) -> {
+				child.remove(segments, index + 1, subscription);
+				return (child.isEmpty() ? null : child);
+			});
+		}
+
+		private ConcurrentMap<String, TrieNode> getChildren(String segment) {
+			return (!SINGLE_WILDCARD.equals(segment) && !MULTI_WILDCARD.equals(segment) &&
+					isPatternSegment(segment) ? this.patternChildren : this.children);
+		}
+
+		/**
+		 * Collect the nodes whose subscriptions potentially match the given
+		 * destination segments, starting from the given index.
+		 */
+		public void collect(String[] segments, int index, List<TrieNode> result) {
+			TrieNode multiWildcard = this.children.get(MULTI_WILDCARD);
+			if (index == segments.length) {
+				if (!this.subscriptions.isEmpty() && !result.contains(this)) {
+					result.add(this);
+				}
+				if (multiWildcard != null) {
+					multiWildcard.collect(segments, index, result);
+				}
+				return;
+			}
+			String segment = segments[index];
+			if (!SINGLE_WILDCARD.equals(segment) && !MULTI_WILDCARD.equals(segment)) {
+				TrieNode child = this.children.get(segment);
+				if (child != null) {
+					child.collect(segments, index + 1, result);
+				}
+			}
+			TrieNode singleWildcard = this.children.get(SINGLE_WILDCARD);
+			if (singleWildcard != null) {
+				singleWildcard.collect(segments, index + 1, result);
+			}
+			for (TrieNode child : this.patternChildren.values()) {
+				child.collect(segments, index + 1, result);
+			}
+			if (multiWildcard != null) {
+				for (int i = index; i <= segments.length; i++) {
+					multiWildcard.collect(segments, i, result);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Set of subscriptions for a destination or trie node, with a lazily
+	 * built, version-checked snapshot of session and subscription ids.
+	 */
+	private static final class SubscriptionSet {
+
+		private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet(2);
+
+		private final AtomicInteger version = new AtomicInteger();
+
+		@Nullable
+		private volatile Snapshot snapshot;
+
+		public void add(Subscription subscription) {
+			this.subscriptions.add(subscription);
+			this.version.incrementAndGet();
+		}
+
+		public void remove(Subscription subscription) {
+			this.subscriptions.remove(subscription);
+			this.version.incrementAndGet();
+		}
+
+		public boolean isEmpty() {
+			return this.subscriptions.isEmpty();
+		}
+
+		public Collection<Subscription> getSubscriptions() {
+			return this.subscriptions;
+		}
+
+		public MultiValueMap<String, String> getSessionSubscriptionIds() {
+			int currentVersion = this.version.get();
+			Snapshot snapshot = this.snapshot;
+			if (snapshot != null && snapshot.version() == currentVersion) {
+				return snapshot.sessionSubscriptionIds();
+			}
+			LinkedMultiValueMap<String, String> sessionSubscriptionIds = new LinkedMultiValueMap<>();
+			for (Subscription subscription : this.subscriptions) {
+				sessionSubscriptionIds.add(subscription.getSessionId(), subscription.getId());
+			}
+			MultiValueMap<String, String> result = CollectionUtils.unmodifiableMultiValueMap(sessionSubscriptionIds);
+			this.snapshot = new Snapshot(currentVersion, result);
+			return result;
+		}
+
+		private record Snapshot(int version, MultiValueMap<String, String> sessionSubscriptionIds) {
+		}
+	}
+
+
+	/**
+	 * Represents a subscription.
+	 */
+	private static final class Subscription {
+
+		private final String sessionId;
+
+		private final String id;
+
+		private final String destination;
+
+		private final boolean isPattern;
+
+		@Nullable
+		private final Expression selector;
+
+		public Subscription(String sessionId, String id, String destination, boolean isPattern,
+				@Nullable Expression selector) {
+
+			this.sessionId = sessionId;
+			this.id = id;
+			this.destination = destination;
+			this.isPattern = isPattern;
+			this.selector = selector;
+		}
+
+		public String getSessionId() {
+			return this.sessionId;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+
+		public String getDestination() {
+			return this.destination;
+		}
+
+		public boolean isPattern() {
+			return this.isPattern;
+		}
+
+		@Nullable
+		public Expression getSelector() {
+			return this.selector;
+		}
+
+		@Override
+		public String toString() {
+			return "subscription(id=" + this.id + ")";
+		}
+	}
+
+}
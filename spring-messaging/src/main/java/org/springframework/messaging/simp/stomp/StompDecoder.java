@@ -16,10 +16,10 @@
 
 package org.springframework.messaging.simp.stomp;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -32,7 +32,6 @@ import org.springframework.messaging.support.MessageHeaderInitializer;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.StreamUtils;
 
 /**
  * Decodes one or more STOMP frames contained in a {@link ByteBuffer}.
@@ -51,6 +50,25 @@ public class StompDecoder {
 
 	static final byte[] HEARTBEAT_PAYLOAD = new byte[] {'\n'};
 
+	// Well-known header names, decoded to shared instances and pre-encoded by StompEncoder
+	static final String[] HEADER_NAMES = {
+			StompHeaderAccessor.STOMP_DESTINATION_HEADER, StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER,
+			StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER, StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER,
+			StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER, StompHeaderAccessor.STOMP_ID_HEADER,
+			StompHeaderAccessor.STOMP_RECEIPT_HEADER, StompHeaderAccessor.STOMP_RECEIPT_ID_HEADER,
+			StompHeaderAccessor.STOMP_ACK_HEADER, StompHeaderAccessor.STOMP_NACK_HEADER,
+			StompHeaderAccessor.STOMP_HOST_HEADER, StompHeaderAccessor.STOMP_ACCEPT_VERSION_HEADER,
+			StompHeaderAccessor.STOMP_VERSION_HEADER, StompHeaderAccessor.STOMP_HEARTBEAT_HEADER,
+			StompHeaderAccessor.STOMP_LOGIN_HEADER, StompHeaderAccessor.STOMP_PASSCODE_HEADER,
+			StompHeaderAccessor.STOMP_MESSAGE_HEADER};
+
+	static final byte[][] HEADER_NAME_BYTES = toBytes(HEADER_NAMES);
+
+	private static final StompCommand[] COMMANDS = StompCommand.values();
+
+	private static final byte[][] COMMAND_BYTES =
+			toBytes(Arrays.stream(COMMANDS).map(StompCommand::name).toArray(String[]::new));
+
 	private static final Log logger = SimpLogging.forLogName(StompDecoder.class);
 
 	@Nullable
@@ -136,12 +154,12 @@ public class StompDecoder {
 		skipEol(byteBuffer);
 		byteBuffer.mark();
 
-		String command = readCommand(byteBuffer);
-		if (command.length() > 0) {
+		int commandStart = byteBuffer.position();
+		StompCommand stompCommand = readCommand(byteBuffer);
+		if (byteBuffer.position() > commandStart) {
 			StompHeaderAccessor headerAccessor = null;
 			byte[] payload = null;
-			if (byteBuffer.remaining() > 0) {
-				StompCommand stompCommand = StompCommand.valueOf(command);
+			if (stompCommand != null) {
 				headerAccessor = StompHeaderAccessor.create(stompCommand);
 				initHeaders(headerAccessor);
 				readHeaders(byteBuffer, headerAccessor, stompCommand);
@@ -149,8 +167,7 @@ public class StompDecoder {
 			}
 			if (payload != null) {
 				if (payload.length > 0) {
-					StompCommand stompCommand = headerAccessor.getCommand();
-					if (stompCommand != null && !stompCommand.isBodyAllowed()) {
+					if (!stompCommand.isBodyAllowed()) {
 						throw new StompConversionException(stompCommand +
 								" shouldn't have a payload: length=" + payload.length + ", headers=" + headers);
 					}
@@ -208,12 +225,24 @@ public class StompDecoder {
 		}
 	}
 
-	private String readCommand(ByteBuffer byteBuffer) {
-		ByteArrayOutputStream command = new ByteArrayOutputStream(256);
-		while (byteBuffer.remaining() > 0 && !tryConsumeEndOfLine(byteBuffer)) {
-			command.write(byteBuffer.get());
+	/**
+	 * Read the command line, returning the matching {@link StompCommand},
+	 * or {@code null} for an empty line or an incomplete command at the end
+	 * of the buffer.
+	 */
+	@Nullable
+	private StompCommand readCommand(ByteBuffer byteBuffer) {
+		int start = byteBuffer.position();
+		int end = readLine(byteBuffer);
+		if (end == start || !byteBuffer.hasRemaining()) {
+			return null;
+		}
+		for (int i = 0; i < COMMANDS.length; i++) {
+			if (matches(byteBuffer, start, end, COMMAND_BYTES[i])) {
+				return COMMANDS[i];
+			}
 		}
-		return StreamUtils.copyToString(command, StandardCharsets.UTF_8);
+		return StompCommand.valueOf(decodeString(byteBuffer, start, end));
 	}
 
 	private void readHeaders(ByteBuffer byteBuffer, StompHeaderAccessor headerAccessor, StompCommand command) {
@@ -223,27 +252,24 @@ public class StompDecoder {
 				command != StompCommand.STOMP);
 
 		while (true) {
-			ByteArrayOutputStream headerStream = new ByteArrayOutputStream(256);
-			boolean headerComplete = false;
-			while (byteBuffer.hasRemaining()) {
-				if (tryConsumeEndOfLine(byteBuffer)) {
-					headerComplete = true;
-					break;
-				}
-				headerStream.write(byteBuffer.get());
-			}
-			if (headerStream.size() > 0 && headerComplete) {
-				String header = StreamUtils.copyToString(headerStream, StandardCharsets.UTF_8);
-				int colonIndex = header.indexOf(':');
-				if (colonIndex <= 0) {
+			int start = byteBuffer.position();
+			int end = readLine(byteBuffer);
+			boolean headerComplete = (end < byteBuffer.position());
+			if (end > start && headerComplete) {
+				int colonIndex = indexOf(byteBuffer, (byte) ':', start, end);
+				if (colonIndex <= start) {
 					if (byteBuffer.remaining() > 0) {
-						throw new StompConversionException("Illegal header: '" + header +
+						throw new StompConversionException("Illegal header: '" + decodeString(byteBuffer, start, end) +
 								"'. A header must be of the form <name>:[<value>].");
 					}
 				}
 				else {
-					String headerName = shouldUnescape ? unescape(header.substring(0, colonIndex)) : header.substring(0, colonIndex);
-					String headerValue = shouldUnescape ? unescape(header.substring(colonIndex + 1)) : header.substring(colonIndex + 1);
+					String headerName = decodeHeaderName(byteBuffer, start, colonIndex);
+					String headerValue = decodeString(byteBuffer, colonIndex + 1, end);
+					if (shouldUnescape) {
+						headerName = unescape(headerName);
+						headerValue = unescape(headerValue);
+					}
 					try {
 						headerAccessor.addNativeHeader(headerName, headerValue);
 					}
@@ -260,6 +286,70 @@ public class StompDecoder {
 		}
 	}
 
+	/**
+	 * Advance the buffer position to the end of the current line, consuming
+	 * the EOL if present.
+	 * @return the end index of the line content, i.e. the index of the EOL,
+	 * or the buffer position if the buffer ended before an EOL
+	 */
+	private int readLine(ByteBuffer byteBuffer) {
+		while (byteBuffer.remaining() > 0) {
+			int position = byteBuffer.position();
+			if (tryConsumeEndOfLine(byteBuffer)) {
+				return position;
+			}
+			byteBuffer.position(position + 1);
+		}
+		return byteBuffer.position();
+	}
+
+	/**
+	 * Decode a header name, using a shared {@code String} instance for
+	 * well-known STOMP header names.
+	 */
+	private static String decodeHeaderName(ByteBuffer byteBuffer, int start, int end) {
+		for (int i = 0; i < HEADER_NAMES.length; i++) {
+			if (matches(byteBuffer, start, end, HEADER_NAME_BYTES[i])) {
+				return HEADER_NAMES[i];
+			}
+		}
+		return decodeString(byteBuffer, start, end);
+	}
+
+	private static boolean matches(ByteBuffer byteBuffer, int start, int end, byte[] bytes) {
+		if (end - start != bytes.length) {
+			return false;
+		}
+		for (int i = 0; i < bytes.length; i++) {
+			if (byteBuffer.get(start + i) != bytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(ByteBuffer byteBuffer, byte b, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (byteBuffer.get(i) == b) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Decode the given range of the buffer as UTF-8, reading directly from
+	 * the backing array if available.
+	 */
+	private static String decodeString(ByteBuffer byteBuffer, int start, int end) {
+		if (byteBuffer.hasArray()) {
+			return new String(byteBuffer.array(), byteBuffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[end - start];
+		byteBuffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
 	/**
 	 * See STOMP Spec 1.2:
 	 * <a href="https://stomp.github.io/stomp-specification-1.2.html#Value_Encoding">"Value Encoding"</a>.
@@ -329,16 +419,14 @@ public class StompDecoder {
 			}
 		}
 		else {
-			ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
-			while (byteBuffer.remaining() > 0) {
-				byte b = byteBuffer.get();
-				if (b == 0) {
-					return payload.toByteArray();
-				}
-				else {
-					payload.write(b);
-				}
+			int end = indexOf(byteBuffer, (byte) 0, byteBuffer.position(), byteBuffer.limit());
+			if (end != -1) {
+				byte[] payload = new byte[end - byteBuffer.position()];
+				byteBuffer.get(payload);
+				byteBuffer.get();
+				return payload;
 			}
+			byteBuffer.position(byteBuffer.limit());
 		}
 		return null;
 	}
@@ -366,4 +454,12 @@ public class StompDecoder {
 		return false;
 	}
 
+	private static byte[][] toBytes(String[] values) {
+		byte[][] result = new byte[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = values[i].getBytes(StandardCharsets.UTF_8);
+		}
+		return result;
+	}
+
 }
@@ -19,6 +19,8 @@ package org.springframework.messaging.simp.stomp;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,7 @@ import org.apache.commons.logging.Log;
 
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.BroadcastEncodingCache;
 import org.springframework.messaging.simp.SimpLogging;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
@@ -53,6 +56,26 @@ public class StompEncoder {
 
 	private static final int HEADER_KEY_CACHE_LIMIT = 32;
 
+	private static final Map<StompCommand, byte[]> COMMAND_BYTES = new EnumMap<>(StompCommand.class);
+
+	private static final Map<String, byte[]> HEADER_KEY_BYTES = new HashMap<>(StompDecoder.HEADER_NAMES.length * 2);
+
+	// Headers that differ between the copies of a broadcast message
+	private static final String[] SUBSCRIBER_HEADERS = {
+			StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER, StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER};
+
+	private static final byte[] CONTENT_LENGTH_BYTES =
+			(StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER + ":").getBytes(StandardCharsets.UTF_8);
+
+	static {
+		for (StompCommand command : StompCommand.values()) {
+			COMMAND_BYTES.put(command, command.name().getBytes(StandardCharsets.UTF_8));
+		}
+		for (int i = 0; i < StompDecoder.HEADER_NAMES.length; i++) {
+			HEADER_KEY_BYTES.put(StompDecoder.HEADER_NAMES[i], StompDecoder.HEADER_NAME_BYTES[i]);
+		}
+	}
+
 
 	private final Map<String, byte[]> headerKeyAccessCache = new ConcurrentHashMap<>(HEADER_KEY_CACHE_LIMIT);
 
@@ -101,8 +124,18 @@ public class StompEncoder {
 			throw new IllegalStateException("Missing STOMP command: " + headers);
 		}
 
+		if (command == StompCommand.MESSAGE) {
+			BroadcastEncodingCache encodingCache = BroadcastEncodingCache.getCache(headers);
+			if (encodingCache != null) {
+				byte[] frame = encodeBroadcastMessage(headers, payload, encodingCache);
+				if (frame != null) {
+					return frame;
+				}
+			}
+		}
+
 		Result result = new DefaultResult();
-		result.add(command.toString().getBytes(StandardCharsets.UTF_8));
+		result.add(COMMAND_BYTES.get(command));
 		result.add(LINE_FEED_BYTE);
 		writeHeaders(command, headers, payload, result);
 		result.add(LINE_FEED_BYTE);
@@ -114,9 +147,7 @@ public class StompEncoder {
 	private void writeHeaders(
 			StompCommand command, Map<String, Object> headers, byte[] payload, Result result) {
 
-		@SuppressWarnings("unchecked")
-		Map<String,List<String>> nativeHeaders =
-				(Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+		Map<String, List<String>> nativeHeaders = getNativeHeaders(headers);
 
 		if (logger.isTraceEnabled()) {
 			logger.trace("Encoding STOMP " + command + ", headers=" + nativeHeaders);
@@ -140,24 +171,108 @@ public class StompEncoder {
 				values = Collections.singletonList(StompHeaderAccessor.getPasscode(headers));
 			}
 
-			byte[] encodedKey = encodeHeaderKey(entry.getKey(), shouldEscape);
-			for (String value : values) {
-				result.add(encodedKey);
-				result.add(COLON_BYTE);
-				result.add(encodeHeaderValue(value, shouldEscape));
-				result.add(LINE_FEED_BYTE);
-			}
+			writeHeader(entry.getKey(), values, shouldEscape, result);
 		}
 
 		if (command.requiresContentLength()) {
-			int contentLength = payload.length;
-			result.add("content-length:".getBytes(StandardCharsets.UTF_8));
-			result.add(Integer.toString(contentLength).getBytes(StandardCharsets.UTF_8));
+			writeContentLength(payload, result);
+		}
+	}
+
+	private void writeHeader(String name, List<String> values, boolean escape, Result result) {
+		byte[] encodedKey = encodeHeaderKey(name, escape);
+		for (String value : values) {
+			result.add(encodedKey);
+			result.add(COLON_BYTE);
+			result.add(encodeHeaderValue(value, escape));
 			result.add(LINE_FEED_BYTE);
 		}
 	}
 
+	private void writeContentLength(byte[] payload, Result result) {
+		result.add(CONTENT_LENGTH_BYTES);
+		result.add(Integer.toString(payload.length).getBytes(StandardCharsets.UTF_8));
+		result.add(LINE_FEED_BYTE);
+	}
+
+	/**
+	 * Encode a MESSAGE frame that is broadcast to several subscribers, writing
+	 * the subscriber-specific headers and appending the remaining headers and
+	 * the payload as encoded once for all subscribers.
+	 * @return the encoded frame, or {@code null} if the given message does not
+	 * match the shared encoding (e.g. after modifications by an interceptor)
+	 */
+	@Nullable
+	private byte[] encodeBroadcastMessage(
+			Map<String, Object> headers, byte[] payload, BroadcastEncodingCache encodingCache) {
+
+		Map<String, List<String>> nativeHeaders = getNativeHeaders(headers);
+		SharedMessageFrame sharedFrame = encodingCache.getEncoding(SharedMessageFrame.class,
+				() -> new SharedMessageFrame(nativeHeaders, payload, encodeSharedPart(nativeHeaders, payload)));
+		if (!sharedFrame.matches(nativeHeaders, payload)) {
+			return null;
+		}
+
+		if (logger.isTraceEnabled()) {
+			logger.trace("Encoding STOMP MESSAGE with shared headers and payload, headers=" + nativeHeaders);
+		}
+
+		Result result = new DefaultResult();
+		result.add(COMMAND_BYTES.get(StompCommand.MESSAGE));
+		result.add(LINE_FEED_BYTE);
+		if (nativeHeaders != null) {
+			for (String name : SUBSCRIBER_HEADERS) {
+				List<String> values = nativeHeaders.get(name);
+				if (values != null) {
+					writeHeader(name, values, true, result);
+				}
+			}
+		}
+		result.add(sharedFrame.encoded);
+		return result.toByteArray();
+	}
+
+	private byte[] encodeSharedPart(@Nullable Map<String, List<String>> nativeHeaders, byte[] payload) {
+		Result result = new DefaultResult();
+		if (nativeHeaders != null) {
+			for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+				if (isSharedHeader(entry.getKey())) {
+					writeHeader(entry.getKey(), entry.getValue(), true, result);
+				}
+			}
+		}
+		writeContentLength(payload, result);
+		result.add(LINE_FEED_BYTE);
+		result.add(payload);
+		result.add((byte) 0);
+		return result.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private static Map<String, List<String>> getNativeHeaders(Map<String, Object> headers) {
+		return (Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+	}
+
+	/**
+	 * Whether the given header is encoded once for all copies of a broadcast
+	 * message, i.e. neither subscriber-specific nor computed from the payload.
+	 */
+	private static boolean isSharedHeader(String name) {
+		for (String subscriberHeader : SUBSCRIBER_HEADERS) {
+			if (subscriberHeader.equals(name)) {
+				return false;
+			}
+		}
+		return !StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER.equals(name);
+	}
+
 	private byte[] encodeHeaderKey(String input, boolean escape) {
+		byte[] knownBytes = HEADER_KEY_BYTES.get(input);
+		if (knownBytes != null) {
+			// Well-known header names have nothing to escape
+			return knownBytes;
+		}
 		String inputToUse = (escape ? escape(input) : input);
 		if (this.headerKeyAccessCache.containsKey(inputToUse)) {
 			return this.headerKeyAccessCache.get(inputToUse);
@@ -218,6 +333,50 @@ public class StompEncoder {
 	}
 
 
+	/**
+	 * Encoded headers and payload shared by the copies of a broadcast MESSAGE,
+	 * along with the native headers and payload they were encoded from.
+	 */
+	private static final class SharedMessageFrame {
+
+		private final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+		private final byte[] payload;
+
+		private final byte[] encoded;
+
+		SharedMessageFrame(@Nullable Map<String, List<String>> nativeHeaders, byte[] payload, byte[] encoded) {
+			if (nativeHeaders != null) {
+				nativeHeaders.forEach((name, values) -> {
+					if (isSharedHeader(name)) {
+						this.headers.put(name, new ArrayList<>(values));
+					}
+				});
+			}
+			this.payload = payload;
+			this.encoded = encoded;
+		}
+
+		public boolean matches(@Nullable Map<String, List<String>> nativeHeaders, byte[] payload) {
+			if (payload != this.payload) {
+				return false;
+			}
+			int count = 0;
+			if (nativeHeaders != null) {
+				for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+					if (isSharedHeader(entry.getKey())) {
+						if (!entry.getValue().equals(this.headers.get(entry.getKey()))) {
+							return false;
+						}
+						count++;
+					}
+				}
+			}
+			return (count == this.headers.size());
+		}
+	}
+
+
 	/**
 	 * Accumulates byte content and returns an aggregated byte[] at the end.
 	 */
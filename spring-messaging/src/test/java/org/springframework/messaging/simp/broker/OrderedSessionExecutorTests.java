@@ -0,0 +1,189 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.broker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link OrderedSessionExecutor}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class OrderedSessionExecutorTests {
+
+	private final OrderedSessionExecutor executor = new OrderedSessionExecutor();
+
+
+	@BeforeEach
+	void setup() {
+		this.executor.setLaneCount(4);
+		this.executor.setMaxBatchSize(8);
+		this.executor.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdown();
+	}
+
+
+	@Test
+	void messagesProcessedInOrderPerSession() throws Exception {
+		int sessionCount = 20;
+		int messageCount = 500;
+		Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+		CountDownLatch latch = new CountDownLatch(sessionCount * messageCount * 2);
+
+		ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(this.executor);
+		MessageHandler handler = message -> {
+			String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+			received.computeIfAbsent(sessionId, id -> new ArrayList<>()).add((Integer) message.getPayload());
+			latch.countDown();
+		};
+		channel.subscribe(handler);
+		channel.subscribe(message -> latch.countDown());
+
+		List<Thread> publishers = new ArrayList<>();
+		for (int i = 0; i < sessionCount; i++) {
+			String sessionId = "sess" + i;
+			publishers.add(new Thread(() -> {
+				for (int j = 0; j < messageCount; j++) {
+					channel.send(createMessage(sessionId, j));
+				}
+			}));
+		}
+		publishers.forEach(Thread::start);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).hasSize(sessionCount);
+		assertThat(received.values()).allSatisfy(list -> assertThat(list).hasSize(messageCount).isSorted());
+		Awaitility.await()
+					.atMost(5, TimeUnit.SECONDS)
+					.pollInterval(10, TimeUnit.MILLISECONDS)
+					.until(() -> this.executor.getActiveSessionCount() == 0);
+	}
+
+	@Test
+	void slowSessionDoesNotHoldUpOtherSessions() throws Exception {
+		this.executor.shutdown();
+		OrderedSessionExecutor executor = new OrderedSessionExecutor();
+		executor.setLaneCount(2);
+		executor.afterPropertiesSet();
+		try {
+			CountDownLatch blocked = new CountDownLatch(1);
+			CountDownLatch processed = new CountDownLatch(10);
+			ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+			channel.subscribe(message -> {
+				if ("slow".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+					try {
+						blocked.await();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				else {
+					processed.countDown();
+				}
+			});
+
+			channel.send(createMessage("slow", 0));
+			for (int i = 0; i < 10; i++) {
+				channel.send(createMessage("fast" + i, i));
+			}
+			assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+			blocked.countDown();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void taskFailureDoesNotStopSession() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(this.executor);
+		channel.subscribe(message -> {
+			if ((Integer) message.getPayload() == 0) {
+				throw new IllegalStateException("failure");
+			}
+			latch.countDown();
+		});
+
+		channel.send(createMessage("sess", 0));
+		channel.send(createMessage("sess", 1));
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void tasksWithoutSession() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(100);
+		for (int i = 0; i < 100; i++) {
+			this.executor.execute(() -> {
+				count.incrementAndGet();
+				latch.countDown();
+			});
+		}
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(count.get()).isEqualTo(100);
+		assertThat(this.executor.getActiveSessionCount()).isZero();
+	}
+
+	@Test
+	void executeBeforeInitialize() {
+		assertThatIllegalStateException().isThrownBy(() -> new OrderedSessionExecutor().execute(() -> {}));
+	}
+
+	@Test
+	void executeAfterShutdown() {
+		this.executor.shutdown();
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> this.executor.execute(() -> {}));
+	}
+
+
+	private static Message<?> createMessage(String sessionId, int payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+
+}
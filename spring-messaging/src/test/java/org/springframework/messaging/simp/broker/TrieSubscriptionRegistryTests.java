@@ -0,0 +1,265 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.broker;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TrieSubscriptionRegistry}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class TrieSubscriptionRegistryTests {
+
+	private final TrieSubscriptionRegistry registry = new TrieSubscriptionRegistry();
+
+
+	@Test
+	void registerSubscriptionInvalidInput() {
+		this.registry.registerSubscription(subscribeMessage(null, "subs01", "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess01", null, "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", null));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).isEmpty();
+	}
+
+	@Test
+	void registerSubscriptionMultipleSessions() {
+		List<String> sessIds = List.of("sess01", "sess02", "sess03");
+		List<String> subscriptionIds = List.of("subs01", "subs02", "subs03");
+
+		for (String sessId : sessIds) {
+			for (String subsId : subscriptionIds) {
+				this.registry.registerSubscription(subscribeMessage(sessId, subsId, "/foo"));
+			}
+		}
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/foo"));
+		assertThat(actual).hasSize(3);
+		for (String sessId : sessIds) {
+			assertThat(actual.get(sessId)).containsExactlyInAnyOrderElementsOf(subscriptionIds);
+		}
+		assertThat(this.registry.findSubscriptions(createMessage("/foo/bar"))).isEmpty();
+	}
+
+	@Test
+	void registerSameSubscriptionTwice() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/foo"));
+		assertThat(this.registry.findSubscriptions(createMessage("/foo")).get("sess01")).containsExactly("subs01");
+
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/foo"));
+		assertThat(this.registry.findSubscriptions(createMessage("/foo")).get("sess01")).containsExactly("subs01");
+	}
+
+	@Test
+	void registerSubscriptionWithDestinationPattern() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/topic/*/price"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "/topic/**"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/topic/**/price"));
+		this.registry.registerSubscription(subscribeMessage("sess03", "subs01", "/**/ibm/*"));
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/topic/ibm/price"));
+		assertThat(actual).hasSize(3);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+		assertThat(actual.get("sess02")).containsExactly("subs01");
+		assertThat(actual.get("sess03")).containsExactly("subs01");
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/price"));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactly("subs02");
+		assertThat(actual.get("sess02")).containsExactly("subs01");
+
+		actual = this.registry.findSubscriptions(createMessage("/topic"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactly("subs02");
+
+		actual = this.registry.findSubscriptions(createMessage("/queue/ibm/price"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess03")).containsExactly("subs01");
+	}
+
+	@Test
+	void registerSubscriptionWithPatternSegments() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/user-*/queue"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "/user/{id:\\d+}/queue"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs03", "/user/?/queue"));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/user-123/queue")).get("sess01"))
+				.containsExactly("subs01");
+		assertThat(this.registry.findSubscriptions(createMessage("/user/123/queue")).get("sess01"))
+				.containsExactly("subs02");
+		assertThat(this.registry.findSubscriptions(createMessage("/user/1/queue")).get("sess01"))
+				.containsExactlyInAnyOrder("subs02", "subs03");
+		assertThat(this.registry.findSubscriptions(createMessage("/user/abc/queue"))).isEmpty();
+	}
+
+	@Test
+	void registerSubscriptionsWithSimpleAndPatternDestinations() {
+		String destNasdaqIbm = "PRICE.STOCK.NASDAQ.IBM";
+		this.registry.setPathSeparator(".");
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", destNasdaqIbm));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "PRICE.STOCK.*.IBM"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", destNasdaqIbm));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs02", "PRICE.STOCK.NYSE.IBM"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs03", "PRICE.STOCK.NASDAQ.*"));
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage(destNasdaqIbm));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+		assertThat(actual.get("sess02")).containsExactlyInAnyOrder("subs01", "subs03");
+
+		this.registry.unregisterAllSubscriptions("sess01");
+		this.registry.unregisterSubscription(unsubscribeMessage("sess02", "subs03"));
+
+		actual = this.registry.findSubscriptions(createMessage(destNasdaqIbm));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess02")).containsExactly("subs01");
+
+		this.registry.unregisterSubscription(unsubscribeMessage("sess02", "subs01"));
+		assertThat(this.registry.findSubscriptions(createMessage(destNasdaqIbm))).isEmpty();
+	}
+
+	@Test
+	void registerSubscriptionWithSelectorHeaderEnabled() {
+		this.registry.setSelectorHeaderName("selector");
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/foo", "headers.foo == 'bar'"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/*", "headers.foo == 'enigma'"));
+		this.registry.registerSubscription(subscribeMessage("sess03", "subs01", "/foo", null));
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+		accessor.setDestination("/foo");
+		accessor.setNativeHeader("foo", "bar");
+		Message<?> message = MessageBuilder.createMessage("", accessor.getMessageHeaders());
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(message);
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactly("subs01");
+		assertThat(actual.get("sess03")).containsExactly("subs01");
+
+		actual = this.registry.findSubscriptions(createMessage("/foo"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess03")).containsExactly("subs01");
+	}
+
+	@Test
+	void registerSubscriptionWithSelectorHeaderDisabledByDefault() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/foo", "headers.foo == 'bar'"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/foo", null));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).hasSize(2);
+	}
+
+	@Test
+	void unregisterPatternSubscriptions() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/topic/**"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "/topic/*/price"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/topic/*/price"));
+
+		this.registry.unregisterSubscription(unsubscribeMessage("sess01", "subs02"));
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/topic/ibm/price"));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactly("subs01");
+		assertThat(actual.get("sess02")).containsExactly("subs01");
+
+		this.registry.unregisterAllSubscriptions("sess01");
+		this.registry.unregisterAllSubscriptions("sess02");
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/ibm/price"))).isEmpty();
+
+		// Re-register after the trie branches have been pruned
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/topic/*/price"));
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/ibm/price")).get("sess01"))
+				.containsExactly("subs01");
+	}
+
+	@Test
+	void unregisterAllSubscriptionsNoMatch() {
+		this.registry.unregisterAllSubscriptions("bogus");
+		// no exceptions
+	}
+
+	@Test
+	void findSubscriptionsReturnsMapSafeToIterate() {
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess2", "1", "/foo"));
+
+		MultiValueMap<String, String> subscriptions = this.registry.findSubscriptions(createMessage("/foo"));
+		assertThat(subscriptions).hasSize(2);
+
+		Iterator<Map.Entry<String, List<String>>> iterator = subscriptions.entrySet().iterator();
+		iterator.next();
+
+		this.registry.registerSubscription(subscribeMessage("sess3", "1", "/foo"));
+
+		iterator.next();
+		// no ConcurrentModificationException
+
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).hasSize(3);
+	}
+
+	@Test
+	void setPathSeparatorWithSubscriptionsRegistered() {
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "/foo"));
+		assertThatIllegalStateException().isThrownBy(() -> this.registry.setPathSeparator("."));
+	}
+
+
+	private Message<?> createMessage(String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage("", accessor.getMessageHeaders());
+	}
+
+	private Message<?> subscribeMessage(String sessionId, String subscriptionId, String destination) {
+		return subscribeMessage(sessionId, subscriptionId, destination, null);
+	}
+
+	private Message<?> subscribeMessage(String sessionId, String subscriptionId, String dest, String selector) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		if (dest != null) {
+			accessor.setDestination(dest);
+		}
+		if (selector != null) {
+			accessor.setNativeHeader("selector", selector);
+		}
+		return MessageBuilder.createMessage("", accessor.getMessageHeaders());
+	}
+
+	private Message<?> unsubscribeMessage(String sessionId, String subscriptionId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		return MessageBuilder.createMessage("", accessor.getMessageHeaders());
+	}
+
+}
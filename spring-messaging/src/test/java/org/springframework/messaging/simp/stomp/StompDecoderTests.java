@@ -17,6 +17,7 @@
 package org.springframework.messaging.simp.stomp;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import org.springframework.util.InvalidMimeTypeException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * Test fixture for {@link StompDecoder}.
@@ -104,6 +106,25 @@ class StompDecoderTests {
 		assertThat(bodyText).isEqualTo("The body of the message");
 	}
 
+	@Test
+	void decodeFrameFromDirectBuffer() {
+		byte[] bytes = "SEND\ndestination:test\ncustom:v\u00e4lue\n\nThe body\0".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+		Message<byte[]> frame = decode(buffer);
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(headers.getDestination()).isEqualTo("test");
+		assertThat(headers.getFirstNativeHeader("custom")).isEqualTo("v\u00e4lue");
+		assertThat(new String(frame.getPayload())).isEqualTo("The body");
+		assertThat(buffer.hasRemaining()).isFalse();
+	}
+
+	@Test
+	void decodeFrameWithUnknownCommand() {
+		assertThatIllegalArgumentException().isThrownBy(() -> decode("BOGUS\n\n\0"));
+	}
+
 	// SPR-11528
 
 	@Test
@@ -19,6 +19,9 @@ package org.springframework.messaging.simp.stomp;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.BroadcastEncodingCache;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,6 +76,30 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\na:alpha\ncontent-length:12\n\nMessage body\0");
 	}
 
+	@Test
+	void encodeBroadcastMessageFramesWithSharedEncoding() {
+		byte[] payload = "Message body".getBytes();
+		BroadcastEncodingCache cache = new BroadcastEncodingCache();
+
+		assertThat(new String(encoder.encode(createBroadcastMessage(cache, "sub1", "alpha:bravo", payload))))
+				.isEqualTo("MESSAGE\nsubscription:sub1\nmessage-id:sess-sub1\na:alpha\\cbravo\n" +
+						"destination:/topic/foo\ncontent-length:12\n\nMessage body\0");
+		assertThat(new String(encoder.encode(createBroadcastMessage(cache, "sub2", "alpha:bravo", payload))))
+				.isEqualTo("MESSAGE\nsubscription:sub2\nmessage-id:sess-sub2\na:alpha\\cbravo\n" +
+						"destination:/topic/foo\ncontent-length:12\n\nMessage body\0");
+	}
+
+	@Test
+	void encodeBroadcastMessageFrameWithModifiedHeaders() {
+		byte[] payload = "Message body".getBytes();
+		BroadcastEncodingCache cache = new BroadcastEncodingCache();
+		encoder.encode(createBroadcastMessage(cache, "sub1", "alpha", payload));
+
+		assertThat(new String(encoder.encode(createBroadcastMessage(cache, "sub2", "bravo", payload))))
+				.isEqualTo("MESSAGE\na:bravo\ndestination:/topic/foo\nsubscription:sub2\n" +
+						"message-id:sess-sub2\ncontent-length:12\n\nMessage body\0");
+	}
+
 	@Test
 	void encodeFrameWithContentLengthPresent() {
 		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
@@ -83,4 +110,21 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ncontent-length:12\n\nMessage body\0");
 	}
 
+
+	private static Message<byte[]> createBroadcastMessage(
+			BroadcastEncodingCache cache, String subscriptionId, String value, byte[] payload) {
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		BroadcastEncodingCache.setCache(accessor, cache);
+		accessor.setSessionId("sess");
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination("/topic/foo");
+		accessor.setNativeHeader("a", value);
+		Message<byte[]> message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(message);
+		headers.updateStompCommandAsServerMessage();
+		headers.setMessageId("sess-" + subscriptionId);
+		return MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+	}
+
 }
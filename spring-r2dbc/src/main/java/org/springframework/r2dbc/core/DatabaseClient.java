@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -210,6 +210,30 @@ public interface DatabaseClient extends ConnectionAccessor {
 		 */
 		GenericExecuteSpec bindProperties(Object source);
 
+		/**
+		 * Bind each of the given parameter sets in turn and enter the batch
+		 * execution stage, executing the statement once per parameter set.
+		 * <p>Parameter sets are requested from the given publisher as needed and
+		 * grouped into batches of {@link BatchExecuteSpec#batchSize batchSize}
+		 * bindings, each of which is sent to the database as a single
+		 * {@link Statement} through {@link Statement#add()}. Any parameters bound
+		 * on this spec apply to all parameter sets.
+		 * <p>For example:
+		 * <pre class="code">
+		 * Flux&lt;Map&lt;String, Object&gt;&gt; books = …;
+		 * client.sql("INSERT INTO book (id, title) VALUES (:id, :title)")
+		 *     .bindAll(books)
+		 *     .batchSize(100)
+		 *     .rowsUpdated();
+		 * </pre>
+		 * @param parameterSets the parameter sets, with keys as names and each
+		 * value either a scalar value or a {@link io.r2dbc.spi.Parameter}
+		 * @return a {@link BatchExecuteSpec} for configuring the batch execution
+		 * @since 6.2
+		 * @see #bindValues
+		 */
+		BatchExecuteSpec bindAll(Publisher<? extends Map<String, ?>> parameterSets);
+
 		/**
 		 * Add the given filter to the end of the filter chain.
 		 * <p>Filter functions are typically used to invoke methods on the Statement
@@ -300,4 +324,43 @@ public interface DatabaseClient extends ConnectionAccessor {
 		Mono<Void> then();
 	}
 
+
+	/**
+	 * Contract for executing a statement for a stream of parameter sets.
+	 * @since 6.2
+	 * @see GenericExecuteSpec#bindAll
+	 */
+	interface BatchExecuteSpec {
+
+		/**
+		 * The default number of parameter sets per batch.
+		 */
+		int DEFAULT_BATCH_SIZE = 256;
+
+		/**
+		 * Specify the maximum number of parameter sets to send to the database
+		 * as a single batch.
+		 * <p>Default is {@value #DEFAULT_BATCH_SIZE}.
+		 * @param batchSize the maximum number of parameter sets per batch
+		 */
+		BatchExecuteSpec batchSize(int batchSize);
+
+		/**
+		 * Perform the SQL call for all parameter sets and return the number of
+		 * updated rows per batch, in the order in which the batches were executed.
+		 * <p>All batches are executed on the same connection, participating in a
+		 * transaction if any, one batch after the other, with parameter sets
+		 * requested from the publisher as the batches get executed.
+		 * @return a {@link Flux} that emits the number of updated rows per batch
+		 */
+		Flux<Long> rowsUpdated();
+
+		/**
+		 * Perform the SQL call for all parameter sets and return a {@link Mono}
+		 * that completes without result once all batches have been executed.
+		 * @return a {@link Mono} ignoring its payload (actively dropping)
+		 */
+		Mono<Void> then();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -309,7 +310,7 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		}
 
 		@Override
-		public GenericExecuteSpec bindValues(Map<String, ?> source) {
+		public DefaultGenericExecuteSpec bindValues(Map<String, ?> source) {
 			assertNotPreparedOperation();
 			Assert.notNull(source, "Parameter source must not be null");
 
@@ -336,6 +337,13 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
 		}
 
+		@Override
+		public BatchExecuteSpec bindAll(Publisher<? extends Map<String, ?>> parameterSets) {
+			assertNotPreparedOperation();
+			Assert.notNull(parameterSets, "Parameter sets must not be null");
+			return new DefaultBatchExecuteSpec(this, parameterSets, BatchExecuteSpec.DEFAULT_BATCH_SIZE);
+		}
+
 		@Override
 		public DefaultGenericExecuteSpec filter(StatementFilterFunction filter) {
 			Assert.notNull(filter, "StatementFilterFunction must not be null");
@@ -388,50 +396,79 @@ final class DefaultDatabaseClient implements DatabaseClient {
 				if (logger.isDebugEnabled()) {
 					logger.debug("Executing SQL statement [" + sql + "]");
 				}
-				if (sqlSupplier instanceof PreparedOperation<?> preparedOperation) {
-					Statement statement = connection.createStatement(sql);
-					BindTarget bindTarget = new StatementWrapper(statement);
-					preparedOperation.bindTo(bindTarget);
-					return statement;
-				}
+				StatementBinding binding = getStatementBinding(sql);
+				Statement statement = connection.createStatement(binding.sql());
+				binding.binder().accept(statement);
+				return statement;
+			};
 
-				if (DefaultDatabaseClient.this.namedParameterExpander != null) {
-					Map<String, Parameter> remainderByName = new LinkedHashMap<>(this.byName);
-					Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(this.byIndex);
+			return new ResultFunction(sqlSupplier, statementFunction, this.filterFunction,
+					DefaultDatabaseClient.this.executeFunction);
+		}
 
-					List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
-					MapBindParameterSource namedBindings = retrieveParameters(
-							sql, parameterNames, remainderByName, remainderByIndex);
+		/**
+		 * Determine the SQL to create the statement with, along with a callback
+		 * binding the parameters of this spec to the created statement.
+		 */
+		private StatementBinding getStatementBinding(String sql) {
+			if (this.sqlSupplier instanceof PreparedOperation<?> preparedOperation) {
+				return new StatementBinding(sql, statement -> preparedOperation.bindTo(new StatementWrapper(statement)));
+			}
 
-					PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
-							sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
+			if (DefaultDatabaseClient.this.namedParameterExpander != null) {
+				Map<String, Parameter> remainderByName = new LinkedHashMap<>(this.byName);
+				Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(this.byIndex);
 
-					String expanded = getRequiredSql(operation);
-					if (logger.isTraceEnabled()) {
-						logger.trace("Expanded SQL [" + expanded + "]");
-					}
+				List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
+				MapBindParameterSource namedBindings = retrieveParameters(
+						sql, parameterNames, remainderByName, remainderByIndex);
 
-					Statement statement = connection.createStatement(expanded);
-					BindTarget bindTarget = new StatementWrapper(statement);
+				PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
+						sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
 
-					operation.bindTo(bindTarget);
+				String expanded = getRequiredSql(operation);
+				if (logger.isTraceEnabled()) {
+					logger.trace("Expanded SQL [" + expanded + "]");
+				}
 
+				return new StatementBinding(expanded, statement -> {
+					operation.bindTo(new StatementWrapper(statement));
 					bindByName(statement, remainderByName);
 					bindByIndex(statement, remainderByIndex);
+				});
+			}
 
-					return statement;
-				}
-
-				Statement statement = connection.createStatement(sql);
-
+			return new StatementBinding(sql, statement -> {
 				bindByIndex(statement, this.byIndex);
 				bindByName(statement, this.byName);
+			});
+		}
 
-				return statement;
-			};
-
-			return new ResultFunction(sqlSupplier, statementFunction, this.filterFunction,
-					DefaultDatabaseClient.this.executeFunction);
+		/**
+		 * Create a statement for the given batch of parameter sets, adding
+		 * a binding to the statement for each parameter set.
+		 */
+		Statement createBatchStatement(Connection connection, String sql, List<? extends Map<String, ?>> parameterSets) {
+			Statement statement = null;
+			String batchSql = null;
+			for (Map<String, ?> parameterSet : parameterSets) {
+				StatementBinding binding = bindValues(parameterSet).getStatementBinding(sql);
+				if (statement == null) {
+					batchSql = binding.sql();
+					statement = connection.createStatement(batchSql);
+				}
+				else {
+					if (!batchSql.equals(binding.sql())) {
+						throw new InvalidDataAccessApiUsageException(String.format(
+								"Parameter sets in a batch must expand to the same SQL: [%s] versus [%s]",
+								batchSql, binding.sql()));
+					}
+					statement.add();
+				}
+				binding.binder().accept(statement);
+			}
+			Assert.state(statement != null, "No parameter sets in batch");
+			return statement;
 		}
 
 		private <T> FetchSpec<T> execute(Supplier<String> sqlSupplier, Function<Result, Publisher<T>> resultAdapter) {
@@ -502,6 +539,87 @@ final class DefaultDatabaseClient implements DatabaseClient {
 	}
 
 
+	/**
+	 * Default {@link DatabaseClient.BatchExecuteSpec} implementation.
+	 */
+	class DefaultBatchExecuteSpec implements BatchExecuteSpec {
+
+		private final DefaultGenericExecuteSpec executeSpec;
+
+		private final Publisher<? extends Map<String, ?>> parameterSets;
+
+		private final int batchSize;
+
+		DefaultBatchExecuteSpec(DefaultGenericExecuteSpec executeSpec,
+				Publisher<? extends Map<String, ?>> parameterSets, int batchSize) {
+
+			this.executeSpec = executeSpec;
+			this.parameterSets = parameterSets;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public DefaultBatchExecuteSpec batchSize(int batchSize) {
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+			return new DefaultBatchExecuteSpec(this.executeSpec, this.parameterSets, batchSize);
+		}
+
+		@Override
+		public Flux<Long> rowsUpdated() {
+			return inConnectionMany(new BatchFunction());
+		}
+
+		@Override
+		public Mono<Void> then() {
+			return rowsUpdated().then();
+		}
+
+
+		/**
+		 * Function executing the batches on a given connection,
+		 * memoizing the SQL for exception translation.
+		 */
+		private class BatchFunction implements Function<Connection, Flux<Long>>, SqlProvider {
+
+			@Nullable
+			private volatile String resolvedSql;
+
+			@Override
+			public Flux<Long> apply(Connection connection) {
+				DefaultGenericExecuteSpec spec = DefaultBatchExecuteSpec.this.executeSpec;
+				String sql = spec.getRequiredSql(spec.sqlSupplier);
+				this.resolvedSql = sql;
+				return Flux.from(DefaultBatchExecuteSpec.this.parameterSets)
+						.buffer(DefaultBatchExecuteSpec.this.batchSize)
+						.concatMap(batch -> {
+							if (logger.isDebugEnabled()) {
+								logger.debug("Executing SQL batch of " + batch.size() + " parameter sets [" + sql + "]");
+							}
+							Statement statement = spec.createBatchStatement(connection, sql, batch);
+							return Flux.from(spec.filterFunction.filter(statement, DefaultDatabaseClient.this.executeFunction))
+									.flatMap(Result::getRowsUpdated)
+									.cast(Number.class)
+									.collect(Collectors.summingLong(Number::longValue));
+						}, 1)
+						.checkpoint("SQL \"" + sql + "\" [DatabaseClient]");
+			}
+
+			@Override
+			@Nullable
+			public String getSql() {
+				return this.resolvedSql;
+			}
+		}
+	}
+
+
+	/**
+	 * Target SQL for a statement along with the callback for binding its parameters.
+	 */
+	private record StatementBinding(String sql, Consumer<Statement> binder) {
+	}
+
+
 	/**
 	 * Invocation handler that suppresses close calls on R2DBC Connections. Also prepares
 	 * returned Statement (Prepared/CallbackStatement) objects.
@@ -136,6 +136,27 @@ abstract class AbstractDatabaseClientIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void executeBatchInsert() {
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.sql("INSERT INTO legoset (id, name, manual) VALUES(:id, :name, :manual)")
+				.bindNull("manual", Integer.class)
+				.bindAll(Flux.range(1, 5).map(id -> Map.of("id", id, "name", "SET" + id)))
+				.batchSize(2)
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(2L, 2L, 1L)
+				.verifyComplete();
+
+		databaseClient.sql("SELECT id FROM legoset ORDER BY id")
+				.mapValue(Integer.class)
+				.all()
+				.as(StepVerifier::create)
+				.expectNext(1, 2, 3, 4, 5)
+				.verifyComplete();
+	}
+
 	@Test
 	void shouldTranslateDuplicateKeyException() {
 		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
@@ -18,6 +18,7 @@ package org.springframework.r2dbc.core;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.r2dbc.spi.Connection;
@@ -43,6 +44,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 import org.springframework.r2dbc.core.binding.BindTarget;
@@ -253,6 +255,49 @@ class DefaultDatabaseClientTests {
 		verify(statement).bind(0, Parameters.in("foo"));
 	}
 
+	@Test
+	void executeShouldBindAllParameterSetsInBatches() {
+		Result result = mock();
+		when(result.getRowsUpdated()).thenReturn(Mono.just(1L));
+		Statement statement = mockStatementFor("INSERT INTO table VALUES ($1, $2)");
+		doReturn(Flux.just(result, result), Flux.just(result)).when(statement).execute();
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("INSERT INTO table VALUES (:key, :value)")
+				.bind("value", "v")
+				.bindAll(Flux.just(Map.of("key", "a"), Map.of("key", "b"), Map.of("key", "c")))
+				.batchSize(2)
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(2L, 1L)
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(statement);
+		inOrder.verify(statement).bind(0, Parameters.in("a"));
+		inOrder.verify(statement).bind(1, Parameters.in("v"));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in("b"));
+		inOrder.verify(statement).bind(1, Parameters.in("v"));
+		inOrder.verify(statement).execute();
+		inOrder.verify(statement).bind(0, Parameters.in("c"));
+		inOrder.verify(statement).bind(1, Parameters.in("v"));
+		inOrder.verify(statement).execute();
+		verify(connection, times(2)).createStatement("INSERT INTO table VALUES ($1, $2)");
+		verify(connection).close();
+	}
+
+	@Test
+	void executeShouldRejectBatchWithDifferentExpandedSql() {
+		mockStatement();
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("SELECT * FROM table WHERE key IN (:keys)")
+				.bindAll(Flux.just(Map.of("keys", List.of("a")), Map.of("keys", List.of("b", "c"))))
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.verifyError(InvalidDataAccessApiUsageException.class);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void rowsUpdatedShouldEmitSingleValue() {
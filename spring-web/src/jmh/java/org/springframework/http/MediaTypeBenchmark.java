@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,8 @@ import org.springframework.util.MimeTypeUtils;
  * Benchmarks for parsing Media Types using {@link MediaType}.
  * <p>{@code MediaType is using }{@link MimeTypeUtils} has an internal parser only accessible through a package private method.
  * The publicly accessible method is backed by a LRUCache for better performance.
+ * <p>Also measures the typical churn of request headers on {@link HttpHeaders},
+ * populating the headers and accessing them by name.
  *
  * @author Brian Clozel
  * @see MimeTypeUtils
@@ -58,6 +60,21 @@ public class MediaTypeBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void headerChurn(HeadersData data, Blackhole bh) {
+		HttpHeaders headers = new HttpHeaders();
+		for (String[] header : data.requestHeaders) {
+			headers.add(header[0], header[1]);
+		}
+		bh.consume(headers.getContentType());
+		bh.consume(headers.getContentLength());
+		bh.consume(headers.getFirst("x-forwarded-for"));
+		bh.consume(headers.containsKey("authorization"));
+		headers.set(HttpHeaders.CACHE_CONTROL, "no-cache");
+		headers.remove(HttpHeaders.COOKIE);
+		headers.forEach((name, values) -> bh.consume(values));
+	}
+
 	/**
 	 * Benchmark data holding typical raw Media Types.
 	 * A {@code customTypesCount} parameter can be used to pad the list with artificial types.
@@ -118,4 +135,26 @@ public class MediaTypeBenchmark {
 
 	}
 
+	/**
+	 * Benchmark data holding the headers of a typical browser request,
+	 * in the letter case that clients usually send them.
+	 */
+	@State(Scope.Benchmark)
+	public static class HeadersData {
+
+		public List<String[]> requestHeaders = List.of(
+				new String[] {"Host", "example.org"},
+				new String[] {"User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:125.0) Gecko/20100101 Firefox/125.0"},
+				new String[] {"Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"},
+				new String[] {"Accept-Language", "en-US,en;q=0.5"},
+				new String[] {"Accept-Encoding", "gzip, deflate, br"},
+				new String[] {"Content-Type", "application/json"},
+				new String[] {"Content-Length", "348"},
+				new String[] {"Cookie", "JSESSIONID=0123456789ABCDEF"},
+				new String[] {"X-Forwarded-For", "192.168.0.1"},
+				new String[] {"X-Forwarded-Proto", "https"},
+				new String[] {"Connection", "keep-alive"});
+
+	}
+
 }
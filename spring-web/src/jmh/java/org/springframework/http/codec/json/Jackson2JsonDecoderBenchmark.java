@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for decoding a JSON array to a {@code Flux} of POJOs using Jackson,
+ * comparing the decoding of each element individually and in batches.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @see AbstractJackson2Decoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonDecoderBenchmark {
+
+	/**
+	 * Benchmark data holding a JSON array of {@link Project Projects}, split
+	 * into chunks of the given size.
+	 */
+	@State(Scope.Benchmark)
+	public static class DecodeData {
+
+		@Param({"100", "10000"})
+		int elementCount;
+
+		@Param({"8192"})
+		int chunkSize;
+
+		Jackson2JsonDecoder jsonDecoder;
+
+		Jackson2JsonDecoder batchingJsonDecoder;
+
+		ResolvableType resolvableType;
+
+		List<byte[]> chunks;
+
+		@Setup
+		public void setup() throws Exception {
+			ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+			this.jsonDecoder = new Jackson2JsonDecoder(objectMapper);
+			this.jsonDecoder.setMaxInMemorySize(-1);
+			this.batchingJsonDecoder = new Jackson2JsonDecoder(objectMapper);
+			this.batchingJsonDecoder.setMaxInMemorySize(-1);
+			this.batchingJsonDecoder.setBatchArrayElements(true);
+			this.resolvableType = ResolvableType.forClass(Project.class);
+
+			List<Project> projects = new ArrayList<>(this.elementCount);
+			for (int i = 0; i < this.elementCount; i++) {
+				projects.add(new Project("spring" + i));
+			}
+			byte[] content = objectMapper.writeValueAsBytes(projects);
+			this.chunks = new ArrayList<>();
+			for (int i = 0; i < content.length; i += this.chunkSize) {
+				byte[] chunk = new byte[Math.min(this.chunkSize, content.length - i)];
+				System.arraycopy(content, i, chunk, 0, chunk.length);
+				this.chunks.add(chunk);
+			}
+		}
+
+		Flux<DataBuffer> input() {
+			return Flux.fromIterable(this.chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+		}
+	}
+
+	@Benchmark
+	public void decode(Blackhole bh, DecodeData data) {
+		data.jsonDecoder.decode(data.input(), data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+	@Benchmark
+	public void decodeInBatches(Blackhole bh, DecodeData data) {
+		data.batchingJsonDecoder.decode(data.input(), data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+}
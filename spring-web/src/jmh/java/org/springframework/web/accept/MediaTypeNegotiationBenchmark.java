@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.accept;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+/**
+ * Benchmarks for content negotiation with {@link MediaTypeNegotiationCache},
+ * resolving the 'Accept' header of browser and API client requests and
+ * selecting the media type and converter for a return value.
+ * <p>A {@code cacheLimit} of 0 disables the negotiation cache.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+public class MediaTypeNegotiationBenchmark {
+
+	@Benchmark
+	public void negotiate(BenchmarkData data, Blackhole bh) throws Exception {
+		for (ServletWebRequest request : data.requests) {
+			List<MediaType> acceptableTypes = data.strategy.resolveMediaTypes(request);
+			List<MediaType> producibleTypes = data.cache.getProducibleTypes(
+					String.class, String.class, () -> data.producibleTypes);
+			MediaType mediaType = data.cache.negotiate(acceptableTypes, producibleTypes).getSelectedMediaType();
+			if (mediaType != null) {
+				bh.consume(data.cache.getWriter(String.class, String.class, mediaType,
+						() -> data.findConverter(mediaType)));
+			}
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"0", "256"})
+		public int cacheLimit;
+
+		public MediaTypeNegotiationCache cache;
+
+		public HeaderContentNegotiationStrategy strategy = new HeaderContentNegotiationStrategy();
+
+		public List<ServletWebRequest> requests;
+
+		public List<MediaType> producibleTypes = List.of(
+				MediaType.APPLICATION_JSON, new MediaType("application", "*+json"),
+				MediaType.TEXT_PLAIN, MediaType.APPLICATION_XML, new MediaType("text", "xml"));
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.cache = new MediaTypeNegotiationCache(this.cacheLimit);
+			this.requests = new ArrayList<>();
+			for (String accept : List.of(
+					"text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8",
+					"application/json, text/plain, */*",
+					"application/json",
+					"*/*")) {
+				MockHttpServletRequest request = new MockHttpServletRequest();
+				request.addHeader("Accept", accept);
+				this.requests.add(new ServletWebRequest(request));
+			}
+		}
+
+		public String findConverter(MediaType mediaType) {
+			// Simulate a walk through the configured converters
+			for (MediaType producibleType : this.producibleTypes) {
+				if (producibleType.includes(mediaType)) {
+					return producibleType.toString();
+				}
+			}
+			return "none";
+		}
+	}
+
+}
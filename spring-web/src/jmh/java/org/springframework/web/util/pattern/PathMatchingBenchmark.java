@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -142,6 +143,56 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class GeneratedRoutesPatternParser extends PatternParserData {
+
+		@Param({"100", "1000", "10000"})
+		public int routeCount;
+
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.generatedRoutes(this.routeCount));
+			this.patterns.forEach(pattern -> this.index.add(pattern, pattern));
+			// Keep a sample of 100 request paths regardless of the number of routes
+			int step = this.requestPaths.size() / 100;
+			List<PathContainer> sample = new ArrayList<>(100);
+			for (int i = 0; i < this.requestPaths.size(); i += step) {
+				sample.add(this.requestPaths.get(i));
+			}
+			this.requestPaths = sample;
+		}
+	}
+
+	@Benchmark
+	public void matchAndSortGeneratedRoutesWithPathPatternParser(GeneratedRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.patterns) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
+	@Benchmark
+	public void matchAndSortGeneratedRoutesWithPathPatternIndex(GeneratedRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.index.getCandidates(path)) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
 
 	static class PatternParserData {
 
@@ -264,6 +315,24 @@ public class PathMatchingBenchmark {
 			);
 		}
 
+		/**
+		 * Generate API-style routes with literal prefixes and captured variables,
+		 * each with one matching request path.
+		 */
+		static List<Route> generatedRoutes(int count) {
+			List<Route> routes = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				String resource = "resource" + (i / 4);
+				routes.add(switch (i % 4) {
+					case 0 -> new Route("/api/" + resource, "/api/" + resource);
+					case 1 -> new Route("/api/" + resource + "/{id}", "/api/" + resource + "/42");
+					case 2 -> new Route("/api/" + resource + "/{id}/items/{itemId}", "/api/" + resource + "/42/items/7");
+					default -> new Route("/files/" + resource + "/**", "/files/" + resource + "/docs/readme.txt");
+				});
+			}
+			return routes;
+		}
+
 		static List<Route> allRoutes() {
 			List<Route> routes = new ArrayList<>();
 			routes.addAll(staticRoutes());
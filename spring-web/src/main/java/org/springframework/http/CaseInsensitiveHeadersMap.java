@@ -0,0 +1,693 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link MultiValueMap} for HTTP headers, with case-insensitive header names,
+ * retaining the insertion order and the original case of the header names.
+ *
+ * <p>Entries are held in parallel arrays of header names, their case-insensitive
+ * hash codes and their values, indexed by an open-addressed hash table. Lookups
+ * fold the case of the given name on the fly rather than creating a lower-case
+ * copy of it. A single header value is stored as-is. Requesting the values of
+ * such a header as a {@code List}, e.g. through {@link #get} or the
+ * {@link #entrySet() entry set}, returns a view of the current value which only
+ * turns it into a stored {@code List} once modified through that view, with any
+ * changes to a returned {@code List} reflected in this map.
+ *
+ * <p>This map is the default storage of {@link HttpHeaders}. Like the
+ * {@code LinkedCaseInsensitiveMap} that it replaces there, it is not thread-safe
+ * for modifications. Read operations do not modify the map, so an instance that
+ * is not modified anymore may be read concurrently.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @see HttpHeaders#HttpHeaders()
+ */
+@SuppressWarnings("serial")
+final class CaseInsensitiveHeadersMap extends AbstractMap<String, List<String>>
+		implements MultiValueMap<String, String>, Serializable {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+
+	// Header names in insertion order, as first specified
+	private String[] names;
+
+	// Case-insensitive hash codes of the header names
+	private int[] hashes;
+
+	// Header values: a single non-null String, a List of Strings, or null
+	private Object[] values;
+
+	// Open-addressed index into the arrays above: position + 1, or 0 for a free bucket
+	private int[] table;
+
+	private int size;
+
+	@Nullable
+	private transient Set<String> keySet;
+
+	@Nullable
+	private transient Collection<List<String>> valuesCollection;
+
+	@Nullable
+	private transient Set<Entry<String, List<String>>> entrySet;
+
+
+	/**
+	 * Create a new map with the default initial capacity.
+	 */
+	CaseInsensitiveHeadersMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new map for the given number of headers.
+	 * @param expectedSize the expected number of headers
+	 */
+	CaseInsensitiveHeadersMap(int expectedSize) {
+		int capacity = Math.max(expectedSize, 2);
+		this.names = new String[capacity];
+		this.hashes = new int[capacity];
+		this.values = new Object[capacity];
+		this.table = new int[tableSizeFor(capacity)];
+	}
+
+
+	// MultiValueMap implementation
+
+	@Override
+	@Nullable
+	public String getFirst(String key) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		Object value = this.values[index];
+		if (value instanceof String str) {
+			return str;
+		}
+		List<String> list = castList(value);
+		return (list != null && !list.isEmpty() ? list.get(0) : null);
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		int index = indexOf(key);
+		if (index < 0) {
+			append(key, value != null ? value : newList(null));
+		}
+		else if (this.values[index] instanceof String existing) {
+			List<String> list = new ArrayList<>(2);
+			list.add(existing);
+			list.add(value);
+			this.values[index] = list;
+		}
+		else {
+			obtainList(index).add(value);
+		}
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		int index = indexOf(key);
+		if (index < 0) {
+			append(key, new ArrayList<>(values));
+		}
+		else {
+			obtainList(index).addAll(values);
+		}
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		values.forEach(this::addAll);
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		putValue(key, value != null ? value : newList(null));
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		values.forEach(this::set);
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		Map<String, String> singleValueMap = CollectionUtils.newLinkedHashMap(this.size);
+		for (int i = 0; i < this.size; i++) {
+			Object value = this.values[i];
+			if (value instanceof String str) {
+				singleValueMap.put(this.names[i], str);
+			}
+			else {
+				List<String> list = castList(value);
+				if (list != null && !list.isEmpty()) {
+					singleValueMap.put(this.names[i], list.get(0));
+				}
+			}
+		}
+		return singleValueMap;
+	}
+
+
+	// Map implementation
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (key instanceof String name && indexOf(name) >= 0);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < this.size; i++) {
+			if (valueEquals(this.values[i], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		if (key instanceof String name) {
+			int index = indexOf(name);
+			if (index >= 0) {
+				return getList(index);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	@Nullable
+	public List<String> put(String key, @Nullable List<String> value) {
+		return toList(putValue(key, value));
+	}
+
+	@Override
+	@Nullable
+	public List<String> remove(Object key) {
+		if (key instanceof String name) {
+			int index = indexOf(name);
+			if (index >= 0) {
+				Object value = this.values[index];
+				removeAt(index);
+				return toList(value);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		map.forEach(this::put);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.names, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		Arrays.fill(this.table, 0);
+		this.size = 0;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+		for (int i = 0; i < this.size; i++) {
+			action.accept(this.names[i], getList(i));
+		}
+	}
+
+	@Override
+	public Set<String> keySet() {
+		Set<String> keySet = this.keySet;
+		if (keySet == null) {
+			keySet = new KeySet();
+			this.keySet = keySet;
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		Collection<List<String>> values = this.valuesCollection;
+		if (values == null) {
+			values = new Values();
+			this.valuesCollection = values;
+		}
+		return values;
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		Set<Entry<String, List<String>>> entrySet = this.entrySet;
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+			this.entrySet = entrySet;
+		}
+		return entrySet;
+	}
+
+
+	// Internal structure
+
+	/**
+	 * Return the position of the given header name, or -1 if not present.
+	 */
+	private int indexOf(String name) {
+		int hash = hash(name);
+		int mask = this.table.length - 1;
+		for (int bucket = hash & mask; ; bucket = (bucket + 1) & mask) {
+			int index = this.table[bucket] - 1;
+			if (index < 0) {
+				return -1;
+			}
+			if (this.hashes[index] == hash) {
+				String existing = this.names[index];
+				if (existing == name || existing.equalsIgnoreCase(name)) {
+					return index;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Store the given value for the given header name, replacing any existing
+	 * value. A header name in a different case replaces the existing header
+	 * name and moves the header to the end, as with {@code LinkedCaseInsensitiveMap}.
+	 * @return the previous value, if any
+	 */
+	@Nullable
+	private Object putValue(String name, @Nullable Object value) {
+		int index = indexOf(name);
+		if (index < 0) {
+			append(name, value);
+			return null;
+		}
+		Object oldValue = this.values[index];
+		if (this.names[index].equals(name)) {
+			this.values[index] = value;
+		}
+		else {
+			removeAt(index);
+			append(name, value);
+		}
+		return oldValue;
+	}
+
+	private void append(String name, @Nullable Object value) {
+		if (this.size == this.names.length) {
+			int capacity = this.size * 2;
+			this.names = Arrays.copyOf(this.names, capacity);
+			this.hashes = Arrays.copyOf(this.hashes, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+			this.table = new int[tableSizeFor(capacity)];
+			rebuildTable();
+		}
+		int index = this.size++;
+		int hash = hash(name);
+		this.names[index] = name;
+		this.hashes[index] = hash;
+		this.values[index] = value;
+		insertIntoTable(hash, index);
+	}
+
+	private void removeAt(int index) {
+		int moved = this.size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(this.names, index + 1, this.names, index, moved);
+			System.arraycopy(this.hashes, index + 1, this.hashes, index, moved);
+			System.arraycopy(this.values, index + 1, this.values, index, moved);
+		}
+		this.size--;
+		this.names[this.size] = null;
+		this.values[this.size] = null;
+		rebuildTable();
+	}
+
+	private void rebuildTable() {
+		Arrays.fill(this.table, 0);
+		for (int i = 0; i < this.size; i++) {
+			insertIntoTable(this.hashes[i], i);
+		}
+	}
+
+	private void insertIntoTable(int hash, int index) {
+		int mask = this.table.length - 1;
+		int bucket = hash & mask;
+		while (this.table[bucket] != 0) {
+			bucket = (bucket + 1) & mask;
+		}
+		this.table[bucket] = index + 1;
+	}
+
+	/**
+	 * Return the values at the given position as a {@code List}, without
+	 * modifying this map: a single value is exposed through a view.
+	 */
+	@Nullable
+	private List<String> getList(int index) {
+		Object value = this.values[index];
+		return (value instanceof String ? new SingleValueList(this.names[index]) : castList(value));
+	}
+
+	/**
+	 * Return the values at the given position as a stored {@code List}
+	 * for modification, storing a single value as a {@code List} from now on.
+	 */
+	private List<String> obtainList(int index) {
+		Object value = this.values[index];
+		if (value instanceof String str) {
+			List<String> list = newList(str);
+			this.values[index] = list;
+			return list;
+		}
+		List<String> list = castList(value);
+		if (list == null) {
+			list = new ArrayList<>(1);
+			this.values[index] = list;
+		}
+		return list;
+	}
+
+	/**
+	 * Hash code of the given header name, consistent with {@link String#equalsIgnoreCase}.
+	 */
+	private static int hash(String name) {
+		int hash = 0;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c < 128) {
+				if (c >= 'A' && c <= 'Z') {
+					c += ('a' - 'A');
+				}
+			}
+			else {
+				c = Character.toLowerCase(Character.toUpperCase(c));
+			}
+			hash = 31 * hash + c;
+		}
+		// Spread higher bits, as with HashMap
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int tableSizeFor(int capacity) {
+		// Power of two, with a load factor of at most 0.5
+		return Integer.highestOneBit(capacity * 2 - 1) << 1;
+	}
+
+	private static List<String> newList(@Nullable String value) {
+		List<String> list = new ArrayList<>(1);
+		list.add(value);
+		return list;
+	}
+
+	@Nullable
+	private static List<String> toList(@Nullable Object value) {
+		return (value instanceof String str ? newList(str) : castList(value));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private static List<String> castList(@Nullable Object value) {
+		return (List<String>) value;
+	}
+
+	private static boolean valueEquals(@Nullable Object value, @Nullable Object other) {
+		if (value instanceof String str) {
+			return (other instanceof List<?> list && list.size() == 1 && str.equals(list.get(0)));
+		}
+		return Objects.equals(value, other);
+	}
+
+
+	private abstract class HeadersIterator<T> implements Iterator<T> {
+
+		private int cursor;
+
+		private int lastReturned = -1;
+
+		@Override
+		public boolean hasNext() {
+			return (this.cursor < size);
+		}
+
+		int nextIndex() {
+			if (this.cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			this.lastReturned = this.cursor++;
+			return this.lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			removeAt(this.lastReturned);
+			this.cursor = this.lastReturned;
+			this.lastReturned = -1;
+		}
+	}
+
+
+	private class KeySet extends AbstractSet<String> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey(o);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return new HeadersIterator<>() {
+				@Override
+				public String next() {
+					return names[nextIndex()];
+				}
+			};
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (o instanceof String name) {
+				int index = indexOf(name);
+				if (index >= 0) {
+					removeAt(index);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeadersMap.this.clear();
+		}
+	}
+
+
+	private class Values extends AbstractCollection<List<String>> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsValue(o);
+		}
+
+		@Override
+		public Iterator<List<String>> iterator() {
+			return new HeadersIterator<>() {
+				@Override
+				@Nullable
+				public List<String> next() {
+					return getList(nextIndex());
+				}
+			};
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeadersMap.this.clear();
+		}
+	}
+
+
+	private class EntrySet extends AbstractSet<Entry<String, List<String>>> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (o instanceof Map.Entry<?, ?> entry && entry.getKey() instanceof String name) {
+				int index = indexOf(name);
+				return (index >= 0 && valueEquals(values[index], entry.getValue()));
+			}
+			return false;
+		}
+
+		@Override
+		public Iterator<Entry<String, List<String>>> iterator() {
+			return new HeadersIterator<>() {
+				@Override
+				public Entry<String, List<String>> next() {
+					int index = nextIndex();
+					return new HeaderEntry(names[index], getList(index));
+				}
+			};
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (contains(o)) {
+				removeAt(indexOf((String) ((Map.Entry<?, ?>) o).getKey()));
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeadersMap.this.clear();
+		}
+	}
+
+
+	/**
+	 * View of the values of a header with a single value, turning that value
+	 * into a stored {@code List} only once modified through this view.
+	 */
+	private final class SingleValueList extends AbstractList<String> implements RandomAccess {
+
+		private final String name;
+
+		SingleValueList(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String get(int index) {
+			return currentValues().get(index);
+		}
+
+		@Override
+		public int size() {
+			return currentValues().size();
+		}
+
+		@Override
+		public String set(int index, String element) {
+			return modifiableValues().set(index, element);
+		}
+
+		@Override
+		public void add(int index, String element) {
+			modifiableValues().add(index, element);
+		}
+
+		@Override
+		public String remove(int index) {
+			return modifiableValues().remove(index);
+		}
+
+		private List<String> currentValues() {
+			int index = CaseInsensitiveHeadersMap.this.indexOf(this.name);
+			Object value = (index >= 0 ? values[index] : null);
+			if (value instanceof String str) {
+				return Collections.singletonList(str);
+			}
+			List<String> list = castList(value);
+			return (list != null ? list : Collections.emptyList());
+		}
+
+		private List<String> modifiableValues() {
+			int index = CaseInsensitiveHeadersMap.this.indexOf(this.name);
+			if (index < 0) {
+				throw new IllegalStateException("Header '" + this.name + "' has been removed");
+			}
+			return obtainList(index);
+		}
+	}
+
+
+	private class HeaderEntry extends SimpleEntry<String, List<String>> {
+
+		HeaderEntry(String name, @Nullable List<String> value) {
+			super(name, value);
+		}
+
+		@Override
+		public List<String> setValue(List<String> value) {
+			int index = indexOf(getKey());
+			if (index >= 0) {
+				values[index] = value;
+			}
+			return super.setValue(value);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.http.codec.json;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
@@ -61,6 +62,8 @@ final class Jackson2Tokenizer {
 
 	private final boolean tokenizeArrayElements;
 
+	private final boolean batchArrayElements;
+
 	private final boolean forceUseOfBigDecimal;
 
 	private final int maxInMemorySize;
@@ -73,14 +76,23 @@ final class Jackson2Tokenizer {
 
 	private TokenBuffer tokenBuffer;
 
+	// Number of complete elements, and of their tokens, in the current token buffer in batch mode
+	private int batchCount;
+
+	private int batchTokenCount;
+
+	private int tokenCount;
+
 
 	private Jackson2Tokenizer(JsonParser parser, DeserializationContext deserializationContext,
-			boolean tokenizeArrayElements, boolean forceUseOfBigDecimal, int maxInMemorySize) {
+			boolean tokenizeArrayElements, boolean batchArrayElements, boolean forceUseOfBigDecimal,
+			int maxInMemorySize) {
 
 		this.parser = parser;
 		this.deserializationContext = deserializationContext;
 		this.inputFeeder = this.parser.getNonBlockingInputFeeder();
 		this.tokenizeArrayElements = tokenizeArrayElements;
+		this.batchArrayElements = batchArrayElements;
 		this.forceUseOfBigDecimal = forceUseOfBigDecimal;
 		this.maxInMemorySize = maxInMemorySize;
 		this.tokenBuffer = createToken();
@@ -120,6 +132,11 @@ final class Jackson2Tokenizer {
 		}
 	}
 
+	private List<TokenBatch> tokenizeBatch(DataBuffer dataBuffer) {
+		tokenize(dataBuffer);
+		return nextBatch();
+	}
+
 	private Flux<TokenBuffer> endOfInput() {
 		return Flux.defer(() -> {
 			this.inputFeeder.endOfInput();
@@ -137,6 +154,36 @@ final class Jackson2Tokenizer {
 		});
 	}
 
+	private Flux<TokenBatch> endOfBatchInput() {
+		return endOfInput().thenMany(Flux.defer(() -> Flux.fromIterable(nextBatch())));
+	}
+
+	private List<TokenBatch> nextBatch() {
+		if (this.batchCount == 0) {
+			return Collections.emptyList();
+		}
+		TokenBatch batch = new TokenBatch(this.tokenBuffer, this.batchCount);
+		this.tokenBuffer = createToken();
+		this.batchCount = 0;
+		if (this.tokenCount > this.batchTokenCount) {
+			// Carry the tokens of the element in progress over to the next batch
+			try (JsonParser parser = batch.tokens().asParser()) {
+				for (int i = 0; i < this.batchTokenCount; i++) {
+					parser.nextToken();
+				}
+				while (parser.nextToken() != null) {
+					this.tokenBuffer.copyCurrentEvent(parser);
+				}
+			}
+			catch (IOException ex) {
+				throw Exceptions.propagate(ex);
+			}
+		}
+		this.tokenCount -= this.batchTokenCount;
+		this.batchTokenCount = 0;
+		return List.of(batch);
+	}
+
 	private void parseTokens(List<TokenBuffer> tokens) throws IOException {
 		// SPR-16151: Smile data format uses null to separate documents
 		boolean previousNull = false;
@@ -184,12 +231,21 @@ final class Jackson2Tokenizer {
 	private void processTokenArray(JsonToken token, List<TokenBuffer> result) throws IOException {
 		if (!isTopLevelArrayToken(token)) {
 			this.tokenBuffer.copyCurrentEvent(this.parser);
+			if (this.batchArrayElements) {
+				this.tokenCount++;
+			}
 		}
 
 		if (this.objectDepth == 0 && (this.arrayDepth == 0 || this.arrayDepth == 1) &&
 				(token == JsonToken.END_OBJECT || token.isScalarValue())) {
-			result.add(this.tokenBuffer);
-			this.tokenBuffer = createToken();
+			if (this.batchArrayElements) {
+				this.batchCount++;
+				this.batchTokenCount = this.tokenCount;
+			}
+			else {
+				result.add(this.tokenBuffer);
+				this.tokenBuffer = createToken();
+			}
 		}
 	}
 
@@ -206,7 +262,7 @@ final class Jackson2Tokenizer {
 
 	private void assertInMemorySize(int currentBufferSize, List<TokenBuffer> result) {
 		if (this.maxInMemorySize >= 0) {
-			if (!result.isEmpty()) {
+			if (!result.isEmpty() || this.batchCount > 0) {
 				this.byteCount = 0;
 			}
 			else if (currentBufferSize > Integer.MAX_VALUE - this.byteCount) {
@@ -243,21 +299,8 @@ final class Jackson2Tokenizer {
 			ObjectMapper objectMapper, boolean tokenizeArrays, boolean forceUseOfBigDecimal, int maxInMemorySize) {
 
 		try {
-			JsonParser parser;
-			if (jsonFactory.getFormatName().equals(SmileFactory.FORMAT_NAME_SMILE)) {
-				// ByteBufferFeeder is not supported for Smile
-				parser = jsonFactory.createNonBlockingByteArrayParser();
-			}
-			else {
-				parser = jsonFactory.createNonBlockingByteBufferParser();
-			}
-			DeserializationContext context = objectMapper.getDeserializationContext();
-			if (context instanceof DefaultDeserializationContext ddc) {
-				context = ddc.createInstance(objectMapper.getDeserializationConfig(),
-						parser, objectMapper.getInjectableValues());
-			}
-			Jackson2Tokenizer tokenizer =
-					new Jackson2Tokenizer(parser, context, tokenizeArrays, forceUseOfBigDecimal, maxInMemorySize);
+			Jackson2Tokenizer tokenizer = create(jsonFactory, objectMapper,
+					tokenizeArrays, false, forceUseOfBigDecimal, maxInMemorySize);
 			return dataBuffers.concatMapIterable(tokenizer::tokenize).concatWith(tokenizer.endOfInput());
 		}
 		catch (IOException ex) {
@@ -265,4 +308,63 @@ final class Jackson2Tokenizer {
 		}
 	}
 
+	/**
+	 * Tokenize the given {@code Flux<DataBuffer>} into {@code Flux<TokenBatch>},
+	 * where each batch holds the elements of a top-level JSON array (or the
+	 * top-level JSON objects of a stream) that were completed by the same data
+	 * buffer, recorded one after the other in a single token buffer.
+	 * @param dataBuffers the source data buffers
+	 * @param jsonFactory the factory to use
+	 * @param objectMapper the current mapper instance
+	 * @param forceUseOfBigDecimal if {@code true}, any floating point values encountered
+	 * in source will use {@link java.math.BigDecimal}
+	 * @param maxInMemorySize maximum memory size
+	 * @return the resulting token batches
+	 * @since 6.2
+	 */
+	public static Flux<TokenBatch> tokenizeArrayElementBatches(Flux<DataBuffer> dataBuffers,
+			JsonFactory jsonFactory, ObjectMapper objectMapper, boolean forceUseOfBigDecimal, int maxInMemorySize) {
+
+		try {
+			Jackson2Tokenizer tokenizer = create(jsonFactory, objectMapper,
+					true, true, forceUseOfBigDecimal, maxInMemorySize);
+			return dataBuffers.concatMapIterable(tokenizer::tokenizeBatch).concatWith(tokenizer.endOfBatchInput());
+		}
+		catch (IOException ex) {
+			return Flux.error(ex);
+		}
+	}
+
+	private static Jackson2Tokenizer create(JsonFactory jsonFactory, ObjectMapper objectMapper,
+			boolean tokenizeArrays, boolean batchArrays, boolean forceUseOfBigDecimal, int maxInMemorySize)
+			throws IOException {
+
+		JsonParser parser;
+		if (jsonFactory.getFormatName().equals(SmileFactory.FORMAT_NAME_SMILE)) {
+			// ByteBufferFeeder is not supported for Smile
+			parser = jsonFactory.createNonBlockingByteArrayParser();
+		}
+		else {
+			parser = jsonFactory.createNonBlockingByteBufferParser();
+		}
+		DeserializationContext context = objectMapper.getDeserializationContext();
+		if (context instanceof DefaultDeserializationContext ddc) {
+			context = ddc.createInstance(objectMapper.getDeserializationConfig(),
+					parser, objectMapper.getInjectableValues());
+		}
+		return new Jackson2Tokenizer(parser, context,
+				tokenizeArrays, batchArrays, forceUseOfBigDecimal, maxInMemorySize);
+	}
+
+
+	/**
+	 * A batch of complete top-level elements, recorded one after the other.
+	 * @param tokens the tokens of the elements, possibly followed by further
+	 * tokens that are not part of this batch
+	 * @param count the number of elements in the batch
+	 * @since 6.2
+	 */
+	record TokenBatch(TokenBuffer tokens, int count) {
+	}
+
 }
@@ -23,6 +23,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
@@ -31,12 +32,20 @@ import org.springframework.web.context.request.NativeWebRequest;
 /**
  * A {@code ContentNegotiationStrategy} that checks the 'Accept' request header.
  *
+ * <p>As of 6.2, the sorted media types for recently seen 'Accept' header values
+ * are cached for a single header value, with the same unmodifiable list
+ * returned for the same value.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 3.2
  */
 public class HeaderContentNegotiationStrategy implements ContentNegotiationStrategy {
 
+	private static final ConcurrentLruCache<String, List<MediaType>> acceptHeaderCache =
+			new ConcurrentLruCache<>(64, HeaderContentNegotiationStrategy::parseAcceptHeader);
+
+
 	/**
 	 * {@inheritDoc}
 	 * @throws HttpMediaTypeNotAcceptableException if the 'Accept' header cannot be parsed
@@ -52,6 +61,9 @@ public class HeaderContentNegotiationStrategy implements ContentNegotiationStrat
 
 		List<String> headerValues = Arrays.asList(headerValueArray);
 		try {
+			if (headerValueArray.length == 1) {
+				return acceptHeaderCache.get(headerValueArray[0]);
+			}
 			List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValues);
 			MimeTypeUtils.sortBySpecificity(mediaTypes);
 			return !CollectionUtils.isEmpty(mediaTypes) ? mediaTypes : MEDIA_TYPE_ALL_LIST;
@@ -62,4 +74,10 @@ public class HeaderContentNegotiationStrategy implements ContentNegotiationStrat
 		}
 	}
 
+	private static List<MediaType> parseAcceptHeader(String headerValue) {
+		List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValue);
+		MimeTypeUtils.sortBySpecificity(mediaTypes);
+		return (!CollectionUtils.isEmpty(mediaTypes) ? List.copyOf(mediaTypes) : MEDIA_TYPE_ALL_LIST);
+	}
+
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.accept;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Bounded cache for the outcome of content negotiation when writing a return
+ * value: the media type selected for given acceptable and producible media
+ * types, the media types producible for a given type of value, and the
+ * converter or writer to use for a given type of value and media type.
+ *
+ * <p>Shared by the return value handling of Spring MVC and Spring WebFlux,
+ * with one cache per handler since the producible media types and the
+ * selected converter depend on the converters or writers of the handler.
+ * Those are expected to remain unchanged once the handler is in use.
+ *
+ * <p>The suppliers for producible media types and writers are invoked on
+ * first access to a cache entry, at most once per entry. Since concurrent
+ * first accesses may create separate entries for the same key, and since
+ * entries may be evicted or cleared, a supplier may still be invoked more
+ * than once for the same key and is therefore expected to be idempotent.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+public class MediaTypeNegotiationCache {
+
+	/**
+	 * The default maximum number of entries per cached outcome.
+	 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private static final List<MediaType> ALL_APPLICATION_MEDIA_TYPES =
+			List.of(MediaType.ALL, new MediaType("application"));
+
+
+	private final ConcurrentLruCache<NegotiationKey, Negotiation> negotiations;
+
+	private final ConcurrentLruCache<TypeKey, LazyValue> producibleTypes;
+
+	private final ConcurrentLruCache<WriterKey, LazyValue> writers;
+
+
+	/**
+	 * Create a new {@code MediaTypeNegotiationCache} with the default cache limit.
+	 * @see #DEFAULT_CACHE_LIMIT
+	 */
+	public MediaTypeNegotiationCache() {
+		this(DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Create a new {@code MediaTypeNegotiationCache} with the given cache limit.
+	 * @param cacheLimit the maximum number of entries per cached outcome
+	 * (0 indicates no caching, always negotiating anew)
+	 */
+	public MediaTypeNegotiationCache(int cacheLimit) {
+		this.negotiations = new ConcurrentLruCache<>(cacheLimit, MediaTypeNegotiationCache::negotiate);
+		this.producibleTypes = new ConcurrentLruCache<>(cacheLimit, key -> new LazyValue());
+		this.writers = new ConcurrentLruCache<>(cacheLimit, key -> new LazyValue());
+	}
+
+
+	/**
+	 * Negotiate the media type to use for the given acceptable and producible
+	 * media types, returning a previous outcome for the same media types.
+	 * @param acceptableTypes the media types requested by the client
+	 * @param producibleTypes the media types that the server can produce
+	 * @return the outcome of the negotiation
+	 */
+	public Negotiation negotiate(List<MediaType> acceptableTypes, List<MediaType> producibleTypes) {
+		return this.negotiations.get(new NegotiationKey(List.copyOf(acceptableTypes), List.copyOf(producibleTypes)));
+	}
+
+	/**
+	 * Return the media types producible for the given type of value,
+	 * determining them through the given supplier on first access.
+	 * @param valueClass the class of the value to write
+	 * @param targetType the generic type of the value to write, if any
+	 * @param producibleTypesSupplier the supplier for the producible media types
+	 * @return the producible media types (never modifiable)
+	 */
+	public List<MediaType> getProducibleTypes(Class<?> valueClass, @Nullable Type targetType,
+			Supplier<List<MediaType>> producibleTypesSupplier) {
+
+		return getProducibleTypes(new TypeKey(valueClass, targetType), producibleTypesSupplier);
+	}
+
+	/**
+	 * Return the media types producible for the given type of value,
+	 * determining them through the given supplier on first access.
+	 * @param valueType the type of the value to write
+	 * @param producibleTypesSupplier the supplier for the producible media types
+	 * @return the producible media types (never modifiable)
+	 */
+	public List<MediaType> getProducibleTypes(ResolvableType valueType,
+			Supplier<List<MediaType>> producibleTypesSupplier) {
+
+		return getProducibleTypes(new TypeKey(valueType, null), producibleTypesSupplier);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MediaType> getProducibleTypes(TypeKey key, Supplier<List<MediaType>> producibleTypesSupplier) {
+		return (List<MediaType>) this.producibleTypes.get(key).get(() -> List.copyOf(producibleTypesSupplier.get()));
+	}
+
+	/**
+	 * Return the converter or writer for the given type of value and media type,
+	 * determining it through the given supplier on first access.
+	 * @param valueClass the class of the value to write
+	 * @param targetType the generic type of the value to write, if any
+	 * @param mediaType the selected media type
+	 * @param writerSupplier the supplier for the converter or writer to use,
+	 * returning {@code null} if none is able to write the value
+	 * @return the converter or writer, or {@code null} if none
+	 */
+	@Nullable
+	public <W> W getWriter(Class<?> valueClass, @Nullable Type targetType, MediaType mediaType,
+			Supplier<W> writerSupplier) {
+
+		return getWriter(new WriterKey(new TypeKey(valueClass, targetType), mediaType), writerSupplier);
+	}
+
+	/**
+	 * Return the converter or writer for the given type of value and media type,
+	 * determining it through the given supplier on first access.
+	 * @param valueType the type of the value to write
+	 * @param mediaType the selected media type
+	 * @param writerSupplier the supplier for the converter or writer to use,
+	 * returning {@code null} if none is able to write the value
+	 * @return the converter or writer, or {@code null} if none
+	 */
+	@Nullable
+	public <W> W getWriter(ResolvableType valueType, MediaType mediaType, Supplier<W> writerSupplier) {
+		return getWriter(new WriterKey(new TypeKey(valueType, null), mediaType), writerSupplier);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private <W> W getWriter(WriterKey key, Supplier<W> writerSupplier) {
+		return (W) this.writers.get(key).get(writerSupplier);
+	}
+
+	/**
+	 * Remove all cached outcomes, e.g. after a change to the converters.
+	 */
+	public void clear() {
+		this.negotiations.clear();
+		this.producibleTypes.clear();
+		this.writers.clear();
+	}
+
+
+	private static Negotiation negotiate(NegotiationKey key) {
+		Set<MediaType> compatibleMediaTypes = new LinkedHashSet<>();
+		for (MediaType acceptable : key.acceptableTypes()) {
+			for (MediaType producible : key.producibleTypes()) {
+				if (acceptable.isCompatibleWith(producible)) {
+					compatibleMediaTypes.add(getMostSpecificMediaType(acceptable, producible));
+				}
+			}
+		}
+
+		List<MediaType> result = new ArrayList<>(compatibleMediaTypes);
+		MimeTypeUtils.sortBySpecificity(result);
+
+		MediaType selected = null;
+		for (MediaType mediaType : result) {
+			if (mediaType.isConcrete()) {
+				selected = mediaType;
+				break;
+			}
+			else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
+				selected = MediaType.APPLICATION_OCTET_STREAM;
+				break;
+			}
+		}
+
+		return new Negotiation(Collections.unmodifiableList(result),
+				(selected != null ? selected.removeQualityValue() : null));
+	}
+
+	/**
+	 * Return the more specific of the acceptable and the producible media types
+	 * with the q-value of the former.
+	 */
+	private static MediaType getMostSpecificMediaType(MediaType acceptable, MediaType producible) {
+		producible = producible.copyQualityValue(acceptable);
+		return (acceptable.isLessSpecific(producible) ? producible : acceptable);
+	}
+
+
+	/**
+	 * The outcome of negotiating acceptable against producible media types.
+	 */
+	public static final class Negotiation {
+
+		private final List<MediaType> compatibleMediaTypes;
+
+		@Nullable
+		private final MediaType selectedMediaType;
+
+		Negotiation(List<MediaType> compatibleMediaTypes, @Nullable MediaType selectedMediaType) {
+			this.compatibleMediaTypes = compatibleMediaTypes;
+			this.selectedMediaType = selectedMediaType;
+		}
+
+		/**
+		 * Return the media types compatible with both the acceptable and the
+		 * producible media types, sorted by specificity and quality.
+		 */
+		public List<MediaType> getCompatibleMediaTypes() {
+			return this.compatibleMediaTypes;
+		}
+
+		/**
+		 * Return the media type to use without quality value, or {@code null}
+		 * if none of the compatible media types is concrete.
+		 */
+		@Nullable
+		public MediaType getSelectedMediaType() {
+			return this.selectedMediaType;
+		}
+
+		@Override
+		public String toString() {
+			return "Negotiation: compatible " + this.compatibleMediaTypes + ", selected " + this.selectedMediaType;
+		}
+	}
+
+
+	private record NegotiationKey(List<MediaType> acceptableTypes, List<MediaType> producibleTypes) {
+	}
+
+
+	private record TypeKey(Object valueType, @Nullable Type targetType) {
+	}
+
+
+	private record WriterKey(TypeKey typeKey, MediaType mediaType) {
+	}
+
+
+	/**
+	 * Holder for a value determined on first access, possibly {@code null},
+	 * invoking the supplier at most once.
+	 */
+	private static final class LazyValue {
+
+		private static final Object UNRESOLVED = new Object();
+
+		@Nullable
+		private volatile Object value = UNRESOLVED;
+
+		@Nullable
+		Object get(Supplier<?> supplier) {
+			Object value = this.value;
+			if (value == UNRESOLVED) {
+				synchronized (this) {
+					value = this.value;
+					if (value == UNRESOLVED) {
+						value = supplier.get();
+						this.value = value;
+					}
+				}
+			}
+			return value;
+		}
+	}
+
+}
@@ -16,19 +16,27 @@
 
 package org.springframework.web.filter;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
@@ -65,6 +73,11 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 	private boolean writeWeakETag = false;
 
+	@Nullable
+	private Supplier<? extends Checksum> checksumSupplier;
+
+	private int contentCacheLimit = -1;
+
 
 	/**
 	 * Set whether the ETag value written to the response should be weak, as per RFC 7232.
@@ -85,6 +98,36 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		return this.writeWeakETag;
 	}
 
+	/**
+	 * Specify a factory for a {@link Checksum} to generate the ETag value with,
+	 * e.g. {@code CRC32C::new} or an xxHash-based {@code Checksum} adapter.
+	 * <p>The checksum is updated incrementally while the response content is
+	 * being written, so the ETag is available right when the response has been
+	 * rendered, without a further pass over the cached content.
+	 * <p>Default is none, generating an MD5 hash of the cached content through
+	 * {@link #generateETagHeaderValue(InputStream, boolean)}. Note that the
+	 * chosen checksum needs to be collision-resistant enough for clients not
+	 * to miss changes of the content between requests.
+	 * @since 6.2
+	 * @see #generateETagHeaderValue(Checksum, boolean)
+	 */
+	public void setChecksumSupplier(@Nullable Supplier<? extends Checksum> checksumSupplier) {
+		this.checksumSupplier = checksumSupplier;
+	}
+
+	/**
+	 * Specify the maximum number of bytes of response content to cache.
+	 * <p>Once a response exceeds this limit, the cached content is written to
+	 * the response and any further content is written through, without an ETag
+	 * being generated. This bounds the memory held for large responses and lets
+	 * them start streaming to the client right away.
+	 * <p>Default is -1, caching the entire response content.
+	 * @since 6.2
+	 */
+	public void setContentCacheLimit(int contentCacheLimit) {
+		this.contentCacheLimit = contentCacheLimit;
+	}
+
 
 	/**
 	 * The default value is {@code false} so that the filter may delay the generation
@@ -101,7 +144,8 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 		HttpServletResponse responseToUse = response;
 		if (!isAsyncDispatch(request) && !(response instanceof ConditionalContentCachingResponseWrapper)) {
-			responseToUse = new ConditionalContentCachingResponseWrapper(response, request);
+			responseToUse = new ConditionalContentCachingResponseWrapper(response, request,
+					(this.checksumSupplier != null ? this.checksumSupplier.get() : null), this.contentCacheLimit);
 		}
 
 		filterChain.doFilter(request, responseToUse);
@@ -120,7 +164,9 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		if (isEligibleForEtag(request, wrapper, wrapper.getStatus(), wrapper.getContentInputStream())) {
 			String eTag = wrapper.getHeader(HttpHeaders.ETAG);
 			if (!StringUtils.hasText(eTag)) {
-				eTag = generateETagHeaderValue(wrapper.getContentInputStream(), this.writeWeakETag);
+				Checksum checksum = wrapper.getChecksum();
+				eTag = (checksum != null ? generateETagHeaderValue(checksum, this.writeWeakETag) :
+						generateETagHeaderValue(wrapper.getContentInputStream(), this.writeWeakETag));
 				rawResponse.setHeader(HttpHeaders.ETAG, eTag);
 			}
 			if (new ServletWebRequest(request, rawResponse).checkNotModified(eTag)) {
@@ -180,6 +226,27 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		return builder.toString();
 	}
 
+	/**
+	 * Generate the ETag header value from the given checksum of the response body,
+	 * if a {@link #setChecksumSupplier checksum supplier} has been specified.
+	 * <p>The default implementation uses the hex representation of the checksum value.
+	 * @param checksum the checksum, updated with the entire response body
+	 * @param isWeak whether the generated ETag should be weak
+	 * @return the ETag header value
+	 * @since 6.2
+	 */
+	protected String generateETagHeaderValue(Checksum checksum, boolean isWeak) {
+		// length of W/ + " + 0 + 64bits checksum + "
+		StringBuilder builder = new StringBuilder(21);
+		if (isWeak) {
+			builder.append("W/");
+		}
+		builder.append("\"0");
+		builder.append(Long.toHexString(checksum.getValue()));
+		builder.append('"');
+		return builder.toString();
+	}
+
 
 	/**
 	 * This method can be used to suppress the content caching response wrapper
@@ -202,32 +269,240 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 	/**
 	 * Returns the raw OutputStream, instead of the one that does caching,
-	 * if {@link #isContentCachingDisabled}.
+	 * if {@link #isContentCachingDisabled}. Updates the checksum of the content,
+	 * if any, and switches to the raw OutputStream once the content exceeds
+	 * the content cache limit.
 	 */
 	private static class ConditionalContentCachingResponseWrapper extends ContentCachingResponseWrapper {
 
 		private final HttpServletRequest request;
 
-		ConditionalContentCachingResponseWrapper(HttpServletResponse response, HttpServletRequest request) {
+		@Nullable
+		private final Checksum checksum;
+
+		private final int contentCacheLimit;
+
+		@Nullable
+		private ETagOutputStream outputStream;
+
+		@Nullable
+		private PrintWriter writer;
+
+		ConditionalContentCachingResponseWrapper(HttpServletResponse response, HttpServletRequest request,
+				@Nullable Checksum checksum, int contentCacheLimit) {
+
 			super(response);
 			this.request = request;
+			this.checksum = checksum;
+			this.contentCacheLimit = contentCacheLimit;
 		}
 
 		@Override
 		public ServletOutputStream getOutputStream() throws IOException {
-			return (isContentCachingDisabled(this.request) || hasETag() ?
-					getResponse().getOutputStream() : super.getOutputStream());
+			if (isContentCachingDisabled(this.request) || hasETag()) {
+				return getResponse().getOutputStream();
+			}
+			return (isStreamWrappingRequired() ? obtainOutputStream() : super.getOutputStream());
 		}
 
 		@Override
 		public PrintWriter getWriter() throws IOException {
-			return (isContentCachingDisabled(this.request) || hasETag()?
-					getResponse().getWriter() : super.getWriter());
+			if (isContentCachingDisabled(this.request) || hasETag()) {
+				return getResponse().getWriter();
+			}
+			if (!isStreamWrappingRequired()) {
+				return super.getWriter();
+			}
+			if (this.writer == null) {
+				String characterEncoding = getCharacterEncoding();
+				this.writer = new ETagPrintWriter(obtainOutputStream(), (characterEncoding != null ?
+						characterEncoding : WebUtils.DEFAULT_CHARACTER_ENCODING));
+			}
+			return this.writer;
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (this.outputStream != null && this.outputStream.writingThrough) {
+				getResponse().flushBuffer();
+			}
+		}
+
+		@Override
+		public void resetBuffer() {
+			super.resetBuffer();
+			resetChecksum();
+		}
+
+		@Override
+		public void reset() {
+			super.reset();
+			resetChecksum();
+		}
+
+		@Nullable
+		Checksum getChecksum() {
+			return this.checksum;
 		}
 
 		private boolean hasETag() {
 			return StringUtils.hasText(getHeader(HttpHeaders.ETAG));
 		}
+
+		private boolean isStreamWrappingRequired() {
+			return (this.checksum != null || this.contentCacheLimit >= 0);
+		}
+
+		private ETagOutputStream obtainOutputStream() throws IOException {
+			if (this.outputStream == null) {
+				this.outputStream = new ETagOutputStream(super.getOutputStream());
+			}
+			return this.outputStream;
+		}
+
+		private void resetChecksum() {
+			if (this.checksum != null) {
+				this.checksum.reset();
+			}
+		}
+
+		/**
+		 * Switch to writing through to the raw response, after copying the
+		 * content cached so far, and skip ETag generation for this response.
+		 */
+		private ServletOutputStream startWritingThrough() throws IOException {
+			disableContentCaching(this.request);
+			copyBodyToResponse(false);
+			return getResponse().getOutputStream();
+		}
+
+
+		private class ETagOutputStream extends ServletOutputStream {
+
+			private ServletOutputStream os;
+
+			private boolean writingThrough;
+
+			ETagOutputStream(ServletOutputStream os) {
+				this.os = os;
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				if (!this.writingThrough && exceedsContentCacheLimit(1)) {
+					this.os = startWritingThrough();
+					this.writingThrough = true;
+				}
+				this.os.write(b);
+				if (!this.writingThrough && checksum != null) {
+					checksum.update(b);
+				}
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				if (!this.writingThrough && exceedsContentCacheLimit(len)) {
+					this.os = startWritingThrough();
+					this.writingThrough = true;
+				}
+				this.os.write(b, off, len);
+				if (!this.writingThrough && checksum != null) {
+					checksum.update(b, off, len);
+				}
+			}
+
+			@Override
+			public void flush() throws IOException {
+				if (this.writingThrough) {
+					this.os.flush();
+				}
+			}
+
+			@Override
+			public boolean isReady() {
+				return this.os.isReady();
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				this.os.setWriteListener(writeListener);
+			}
+
+			private boolean exceedsContentCacheLimit(int len) {
+				return (contentCacheLimit >= 0 && getContentSize() + len > contentCacheLimit);
+			}
+		}
+
+
+		/**
+		 * Writer that drains its encoder into the given stream on every write,
+		 * without flushing the stream unless explicitly flushed itself.
+		 */
+		private static class ETagPrintWriter extends PrintWriter {
+
+			private final ServletOutputStream outputStream;
+
+			ETagPrintWriter(ServletOutputStream os, String characterEncoding) throws UnsupportedEncodingException {
+				super(new OutputStreamWriter(new NonFlushingOutputStream(os), characterEncoding));
+				this.outputStream = os;
+			}
+
+			@Override
+			public void write(char[] buf, int off, int len) {
+				super.write(buf, off, len);
+				super.flush();
+			}
+
+			@Override
+			public void write(String s, int off, int len) {
+				super.write(s, off, len);
+				super.flush();
+			}
+
+			@Override
+			public void write(int c) {
+				super.write(c);
+				super.flush();
+			}
+
+			@Override
+			public void println() {
+				super.println();
+				super.flush();
+			}
+
+			@Override
+			public void flush() {
+				super.flush();
+				try {
+					this.outputStream.flush();
+				}
+				catch (IOException ex) {
+					setError();
+				}
+			}
+		}
+
+
+		/**
+		 * Stream that ignores flushes, for draining an encoder without
+		 * flushing the underlying response.
+		 */
+		private static class NonFlushingOutputStream extends FilterOutputStream {
+
+			NonFlushingOutputStream(OutputStream out) {
+				super(out);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				this.out.write(b, off, len);
+			}
+
+			@Override
+			public void flush() {
+			}
+		}
 	}
 
 }
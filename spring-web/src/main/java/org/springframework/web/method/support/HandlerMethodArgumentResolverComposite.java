@@ -141,4 +141,21 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 		return result;
 	}
 
+	/**
+	 * Find the registered {@link HandlerMethodArgumentResolver} for each of the
+	 * given method parameters, for repeated use with the same handler method.
+	 * @param parameters the method parameters of a handler method
+	 * @return an array with the resolver for each parameter, containing
+	 * {@code null} for a parameter not supported by any resolver
+	 * @since 6.2
+	 * @see InvocableHandlerMethod#setResolvedArgumentResolvers
+	 */
+	public HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		HandlerMethodArgumentResolver[] result = new HandlerMethodArgumentResolver[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			result[i] = getArgumentResolver(parameters[i]);
+		}
+		return result;
+	}
+
 }
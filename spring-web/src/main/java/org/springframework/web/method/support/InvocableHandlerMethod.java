@@ -66,6 +66,9 @@ public class InvocableHandlerMethod extends HandlerMethod {
 
 	private HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
 
+	@Nullable
+	private HandlerMethodArgumentResolver[] resolvedArgumentResolvers;
+
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
 	@Nullable
@@ -120,6 +123,34 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 */
 	public void setHandlerMethodArgumentResolvers(HandlerMethodArgumentResolverComposite argumentResolvers) {
 		this.resolvers = argumentResolvers;
+		this.resolvedArgumentResolvers = null;
+	}
+
+	/**
+	 * Set the argument resolver to use for each method parameter, as determined
+	 * through {@link #determineArgumentResolvers()} for an earlier invocation of
+	 * the same handler method, avoiding a per-parameter resolver lookup.
+	 * <p>A {@code null} entry indicates a parameter to look up through the
+	 * {@link #setHandlerMethodArgumentResolvers configured resolvers}.
+	 * @param resolvers the resolvers in method parameter order, or {@code null}
+	 * to look up the resolver for each parameter on every invocation
+	 * @since 6.2
+	 */
+	public void setResolvedArgumentResolvers(@Nullable HandlerMethodArgumentResolver[] resolvers) {
+		this.resolvedArgumentResolvers = resolvers;
+	}
+
+	/**
+	 * Determine the argument resolver for each method parameter through the
+	 * {@link #setHandlerMethodArgumentResolvers configured resolvers}, for
+	 * caching along with the handler method and subsequently passing into
+	 * {@link #setResolvedArgumentResolvers}.
+	 * @return the resolvers in method parameter order, with a {@code null}
+	 * entry for a parameter not supported by any resolver
+	 * @since 6.2
+	 */
+	public HandlerMethodArgumentResolver[] determineArgumentResolvers() {
+		return this.resolvers.getArgumentResolvers(getMethodParameters());
 	}
 
 	/**
@@ -209,6 +240,11 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			return EMPTY_ARGS;
 		}
 
+		HandlerMethodArgumentResolver[] resolved = this.resolvedArgumentResolvers;
+		if (resolved != null && resolved.length != parameters.length) {
+			resolved = null;
+		}
+
 		Object[] args = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++) {
 			MethodParameter parameter = parameters[i];
@@ -217,11 +253,15 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			if (args[i] != null) {
 				continue;
 			}
-			if (!this.resolvers.supportsParameter(parameter)) {
-				throw new IllegalStateException(formatArgumentError(parameter, "No suitable resolver"));
+			HandlerMethodArgumentResolver resolver = (resolved != null ? resolved[i] : null);
+			if (resolver == null) {
+				if (!this.resolvers.supportsParameter(parameter)) {
+					throw new IllegalStateException(formatArgumentError(parameter, "No suitable resolver"));
+				}
+				resolver = this.resolvers;
 			}
 			try {
-				args[i] = this.resolvers.resolveArgument(parameter, mavContainer, request, this.dataBinderFactory);
+				args[i] = resolver.resolveArgument(parameter, mavContainer, request, this.dataBinderFactory);
 			}
 			catch (Exception ex) {
 				// Leave stack trace for later, exception may actually be resolved and handled...
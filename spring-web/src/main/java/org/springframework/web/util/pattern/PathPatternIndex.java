@@ -0,0 +1,219 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.PathContainer.Element;
+import org.springframework.http.server.PathContainer.PathSegment;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Prefix tree of {@link PathPattern PathPatterns} that narrows down the set of
+ * values whose patterns could possibly match a given path, without running
+ * every pattern against it.
+ *
+ * <p>The tree is built from the parsed path elements of each pattern: literal
+ * segments and separators are keyed individually, while single-segment
+ * wildcards and captures such as {@code *}, {@code {id}} or
+ * {@code {name}.json} share a common segment branch. Patterns that can match a
+ * variable number of segments, like {@code /**} or {@code {*path}}, are
+ * attached to the deepest node reached by their literal prefix and are
+ * returned for any path that goes through that node.
+ *
+ * <p>The candidates returned by {@link #getCandidates(PathContainer)} are a
+ * superset of the actual matches; callers are expected to run the full match
+ * against each of them. This class is not thread-safe for concurrent
+ * modification and lookup.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ * @param <T> the type of value associated with each pattern
+ */
+public class PathPatternIndex<T> {
+
+	private final Node<T> root = new Node<>();
+
+
+	/**
+	 * Add the given pattern with its associated value.
+	 * @param pattern the pattern to index
+	 * @param value the value to return as candidate for paths the pattern may match
+	 */
+	public void add(PathPattern pattern, T value) {
+		Assert.notNull(pattern, "PathPattern must not be null");
+		Assert.notNull(value, "Value must not be null");
+		List<T> values = getValues(pattern, true);
+		Assert.state(values != null, "Expected values for indexed pattern");
+		if (!values.contains(value)) {
+			values.add(value);
+		}
+	}
+
+	/**
+	 * Remove a value previously added for the given pattern.
+	 * @param pattern the indexed pattern
+	 * @param value the value to remove
+	 * @return {@code true} if the value was removed, {@code false} if no such
+	 * value was found for the given pattern
+	 */
+	public boolean remove(PathPattern pattern, T value) {
+		List<T> values = getValues(pattern, false);
+		return (values != null && values.remove(value));
+	}
+
+	/**
+	 * Return the values of all patterns that may match the given path, in the
+	 * order in which the index was traversed.
+	 * @param path the path to find candidates for
+	 * @return the candidate values, possibly empty
+	 */
+	public Set<T> getCandidates(PathContainer path) {
+		Set<T> result = new LinkedHashSet<>();
+		collectCandidates(this.root, path.elements(), 0, result);
+		return result;
+	}
+
+	@Nullable
+	private List<T> getValues(PathPattern pattern, boolean create) {
+		Node<T> node = this.root;
+		PathElement element = pattern.getHeadSection();
+		while (element != null) {
+			Node<T> next;
+			if (element instanceof SeparatorPathElement) {
+				if (node.separatorChild == null && create) {
+					node.separatorChild = new Node<>();
+				}
+				next = node.separatorChild;
+			}
+			else if (element instanceof LiteralPathElement literal) {
+				next = node.getLiteralChild(literal.getText(), literal.isCaseSensitive(), create);
+			}
+			else if (isSingleSegment(element)) {
+				if (node.segmentChild == null && create) {
+					node.segmentChild = new Node<>();
+				}
+				next = node.segmentChild;
+			}
+			else {
+				// Wildcard or capture for the rest of the path, or an element that
+				// may match an empty segment: no further narrowing possible
+				return node.remainingPathValues;
+			}
+			if (next == null) {
+				return null;
+			}
+			node = next;
+			element = element.next;
+		}
+		return node.values;
+	}
+
+	private static boolean isSingleSegment(PathElement element) {
+		if (element instanceof CaptureVariablePathElement || element instanceof SingleCharWildcardedPathElement) {
+			return true;
+		}
+		else if (element instanceof WildcardPathElement) {
+			// A trailing "*" also matches a path that ends with a separator
+			return (element.next != null);
+		}
+		else if (element instanceof RegexPathElement regexElement) {
+			return !regexElement.matchesEmptySegment();
+		}
+		return false;
+	}
+
+	private void collectCandidates(Node<T> node, List<Element> elements, int index, Set<T> result) {
+		result.addAll(node.remainingPathValues);
+		int size = elements.size();
+		if (index == size) {
+			result.addAll(node.values);
+			return;
+		}
+		Element element = elements.get(index);
+		if (element instanceof PathSegment segment) {
+			String value = segment.valueToMatch();
+			Node<T> child = node.literalChildren.get(value);
+			if (child != null) {
+				collectCandidates(child, elements, index + 1, result);
+			}
+			if (!node.caseInsensitiveLiteralChildren.isEmpty()) {
+				child = node.caseInsensitiveLiteralChildren.get(foldCase(value));
+				if (child != null) {
+					collectCandidates(child, elements, index + 1, result);
+				}
+			}
+			if (node.segmentChild != null && !value.isEmpty()) {
+				collectCandidates(node.segmentChild, elements, index + 1, result);
+			}
+		}
+		else {
+			if (index == size - 1) {
+				// Possible match with optional trailing separator
+				result.addAll(node.values);
+			}
+			if (node.separatorChild != null) {
+				collectCandidates(node.separatorChild, elements, index + 1, result);
+			}
+		}
+	}
+
+	/**
+	 * Fold the given text to a key that is equal for two Strings if and only if
+	 * they are equal according to {@link String#equalsIgnoreCase(String)}.
+	 */
+	private static String foldCase(String text) {
+		char[] chars = text.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
+
+	private static final class Node<T> {
+
+		private final Map<String, Node<T>> literalChildren = new HashMap<>(4);
+
+		private final Map<String, Node<T>> caseInsensitiveLiteralChildren = new HashMap<>(4);
+
+		@Nullable
+		private Node<T> separatorChild;
+
+		@Nullable
+		private Node<T> segmentChild;
+
+		private final List<T> values = new ArrayList<>(1);
+
+		private final List<T> remainingPathValues = new ArrayList<>(1);
+
+		@Nullable
+		Node<T> getLiteralChild(String text, boolean caseSensitive, boolean create) {
+			Map<String, Node<T>> children = (caseSensitive ? this.literalChildren : this.caseInsensitiveLiteralChildren);
+			String key = (caseSensitive ? text : foldCase(text));
+			return (create ? children.computeIfAbsent(key, k -> new Node<>()) : children.get(key));
+		}
+	}
+
+}
@@ -118,6 +118,14 @@ class RegexPathElement extends PathElement {
 		return this.variableNames;
 	}
 
+	/**
+	 * Whether the underlying regex also matches an empty path segment,
+	 * i.e. whether this element may match without consuming a segment.
+	 */
+	boolean matchesEmptySegment() {
+		return this.pattern.matcher("").matches();
+	}
+
 	private String quote(String s, int start, int end) {
 		if (start == end) {
 			return "";
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.testfixture.io.SerializationTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link CaseInsensitiveHeadersMap}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class CaseInsensitiveHeadersMapTests {
+
+	private final CaseInsensitiveHeadersMap map = new CaseInsensitiveHeadersMap();
+
+
+	@Test
+	void caseInsensitiveLookup() {
+		this.map.add("Content-Type", "text/plain");
+		assertThat(this.map.getFirst("content-type")).isEqualTo("text/plain");
+		assertThat(this.map.get("CONTENT-TYPE")).containsExactly("text/plain");
+		assertThat(this.map.containsKey("Content-type")).isTrue();
+		assertThat(this.map.containsKey("Content-Length")).isFalse();
+		assertThat(this.map.keySet()).containsExactly("Content-Type");
+	}
+
+	@Test
+	void addValues() {
+		this.map.add("Accept", "text/plain");
+		this.map.add("accept", "text/html");
+		this.map.addAll("ACCEPT", Arrays.asList("application/json", "application/xml"));
+		assertThat(this.map).hasSize(1);
+		assertThat(this.map.getFirst("Accept")).isEqualTo("text/plain");
+		assertThat(this.map.get("Accept")).containsExactly("text/plain", "text/html", "application/json", "application/xml");
+	}
+
+	@Test
+	void setReplacesValues() {
+		this.map.add("Accept", "text/plain");
+		this.map.add("Accept", "text/html");
+		this.map.set("accept", "application/json");
+		assertThat(this.map.get("Accept")).containsExactly("application/json");
+		this.map.set("Accept", null);
+		assertThat(this.map.get("Accept")).containsExactly((String) null);
+		assertThat(this.map.getFirst("Accept")).isNull();
+	}
+
+	@Test
+	void putWithDifferentCaseMovesHeader() {
+		this.map.add("Alpha", "a");
+		this.map.add("Bravo", "b");
+		List<String> oldValue = this.map.put("ALPHA", List.of("A"));
+		assertThat(oldValue).containsExactly("a");
+		assertThat(this.map.keySet()).containsExactly("Bravo", "ALPHA");
+		this.map.put("Bravo", List.of("B"));
+		assertThat(this.map.keySet()).containsExactly("Bravo", "ALPHA");
+		assertThat(this.map.get("bravo")).containsExactly("B");
+	}
+
+	@Test
+	void changesToValuesListAreVisible() {
+		this.map.add("Accept", "text/plain");
+		this.map.get("accept").add("text/html");
+		assertThat(this.map.get("Accept")).containsExactly("text/plain", "text/html");
+
+		this.map.set("Vary", "Origin");
+		this.map.entrySet().iterator().next().getValue().clear();
+		assertThat(this.map.get("Accept")).isEmpty();
+		assertThat(this.map.getFirst("Accept")).isNull();
+		assertThat(this.map.getFirst("Vary")).isEqualTo("Origin");
+	}
+
+	@Test
+	void readsDoNotStoreSingleValueAsList() {
+		this.map.set("Accept", "text/plain");
+		List<String> values = this.map.get("accept");
+		this.map.forEach((name, list) -> assertThat(list).containsExactly("text/plain"));
+		assertThat(this.map.entrySet()).singleElement().satisfies(entry ->
+				assertThat(entry.getValue()).containsExactly("text/plain"));
+		assertThat(values).containsExactly("text/plain");
+
+		this.map.set("Accept", "text/html");
+		assertThat(values).containsExactly("text/html");
+		values.add("application/json");
+		assertThat(this.map.get("Accept")).containsExactly("text/html", "application/json");
+	}
+
+	@Test
+	void growAndRemove() {
+		for (int i = 0; i < 100; i++) {
+			this.map.add("X-Header-" + i, Integer.toString(i));
+		}
+		assertThat(this.map).hasSize(100);
+		for (int i = 0; i < 100; i += 2) {
+			assertThat(this.map.remove("x-header-" + i)).containsExactly(Integer.toString(i));
+		}
+		assertThat(this.map).hasSize(50);
+		for (int i = 0; i < 100; i++) {
+			assertThat(this.map.getFirst("X-HEADER-" + i)).isEqualTo(i % 2 == 0 ? null : Integer.toString(i));
+		}
+		assertThat(this.map.keySet()).startsWith("X-Header-1", "X-Header-3", "X-Header-5");
+		assertThat(this.map.remove("X-Header-0")).isNull();
+	}
+
+	@Test
+	void iteratorRemove() {
+		this.map.add("Alpha", "a");
+		this.map.add("Bravo", "b");
+		this.map.add("Charlie", "c");
+		this.map.keySet().removeIf(name -> name.equals("Bravo"));
+		assertThat(this.map.keySet()).containsExactly("Alpha", "Charlie");
+		this.map.entrySet().removeIf(entry -> entry.getKey().equals("Alpha"));
+		assertThat(this.map.keySet()).containsExactly("Charlie");
+		assertThat(this.map.getFirst("charlie")).isEqualTo("c");
+	}
+
+	@Test
+	void entrySetValue() {
+		this.map.add("Alpha", "a");
+		this.map.entrySet().iterator().next().setValue(List.of("x", "y"));
+		assertThat(this.map.get("alpha")).containsExactly("x", "y");
+	}
+
+	@Test
+	void toSingleValueMap() {
+		this.map.add("Alpha", "a");
+		this.map.add("Alpha", "b");
+		this.map.add("Bravo", "c");
+		assertThat(this.map.toSingleValueMap()).containsExactly(entry("Alpha", "a"), entry("Bravo", "c"));
+	}
+
+	@Test
+	void equalsAndHashCode() {
+		this.map.add("Alpha", "a");
+		this.map.add("Bravo", "b");
+		this.map.add("Bravo", "c");
+		MultiValueMap<String, String> other = new LinkedMultiValueMap<>();
+		other.add("Alpha", "a");
+		other.add("Bravo", "b");
+		other.add("Bravo", "c");
+		assertThat(this.map).isEqualTo(other);
+		assertThat(other).isEqualTo(this.map);
+		assertThat(this.map.hashCode()).isEqualTo(other.hashCode());
+		assertThat(this.map.containsValue(List.of("a"))).isTrue();
+		assertThat(this.map.containsValue(List.of("b"))).isFalse();
+	}
+
+	@Test
+	void nonAsciiHeaderNames() {
+		this.map.add("X-Straße", "a");
+		this.map.add("X-ÉTÉ", "b");
+		assertThat(this.map.getFirst("x-STRAßE")).isEqualTo("a");
+		assertThat(this.map.getFirst("x-été")).isEqualTo("b");
+	}
+
+	@Test
+	void clear() {
+		this.map.add("Alpha", "a");
+		this.map.add("Bravo", "b");
+		this.map.clear();
+		assertThat(this.map).isEmpty();
+		assertThat(this.map.getFirst("Alpha")).isNull();
+		this.map.add("alpha", "c");
+		assertThat(this.map.getFirst("ALPHA")).isEqualTo("c");
+	}
+
+	@Test
+	void serializable() throws Exception {
+		this.map.add("Alpha", "a");
+		this.map.add("Bravo", "b");
+		this.map.add("Bravo", "c");
+		Map<String, List<String>> copy = SerializationTestUtils.serializeAndDeserialize(this.map);
+		assertThat(copy).isEqualTo(new LinkedHashMap<>(this.map));
+		assertThat(((CaseInsensitiveHeadersMap) copy).getFirst("bravo")).isEqualTo("b");
+	}
+
+	@Test
+	void backsHttpHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		assertThat(headers.headers).isInstanceOf(CaseInsensitiveHeadersMap.class);
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		assertThat(headers.getFirst("content-type")).isEqualTo("application/json");
+	}
+
+}
@@ -190,6 +190,37 @@ class Jackson2JsonDecoderTests extends AbstractDecoderTests<Jackson2JsonDecoder>
 				Collections.emptyMap());
 	}
 
+	@Test
+	void decodeInBatches() {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setBatchArrayElements(true);
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},null,{\"bar\":\"b2\","),
+				stringBuffer("\"foo\":\"f2\"},{\"bar\":\"b3\",\"foo\":\"f3\"}]"));
+
+		Flux<Object> result = decoder.decode(input, ResolvableType.forClass(Pojo.class), null, Collections.emptyMap());
+
+		StepVerifier.create(result)
+				.expectNext(pojo1)
+				.expectNext(pojo2)
+				.expectNext(new Pojo("f3", "b3"))
+				.verifyComplete();
+	}
+
+	@Test
+	void decodeInBatchesWithInvalidElement() {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setBatchArrayElements(true);
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},\"invalid\",{\"bar\":\"b2\",\"foo\":\"f2\"}]"));
+
+		Flux<Object> result = decoder.decode(input, ResolvableType.forClass(Pojo.class), null, Collections.emptyMap());
+
+		StepVerifier.create(result)
+				.expectNext(pojo1)
+				.verifyError(DecodingException.class);
+	}
+
 	@Test
 	void decodeEmptyArrayToFlux() {
 		Flux<DataBuffer> input = Flux.from(stringBuffer("[]"));
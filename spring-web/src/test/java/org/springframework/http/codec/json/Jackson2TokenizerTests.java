@@ -19,6 +19,7 @@ package org.springframework.http.codec.json;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonFactory;
@@ -250,6 +251,38 @@ class Jackson2TokenizerTests extends AbstractLeakCheckingTests {
 		builder.verifyComplete();
 	}
 
+	@Test
+	void tokenizeArrayElementBatches() {
+		List<String> source = asList(
+				"[{\"id\":1,\"name\":\"Robert\"},{\"id\":2,",
+				"\"name\":\"Raide\"},{\"id\":3,\"name\":\"Ford\"},4]");
+
+		Flux<List<String>> batches = Jackson2Tokenizer.tokenizeArrayElementBatches(
+				Flux.fromIterable(source).map(this::stringBuffer),
+				this.jsonFactory, this.objectMapper, false, -1).map(this::batchToStrings);
+
+		StepVerifier.create(batches)
+				.expectNext(List.of("{\"id\":1,\"name\":\"Robert\"}"))
+				.expectNext(List.of("{\"id\":2,\"name\":\"Raide\"}", "{\"id\":3,\"name\":\"Ford\"}", "4"))
+				.verifyComplete();
+	}
+
+	@Test
+	void tokenizeStreamBatches() {
+		List<String> source = asList(
+				"{\"id\":1,\"name\":\"Robert\"}\n{\"id\":2,\"name\":\"Raide\"}\n{\"id\":3,",
+				"\"name\":\"Ford\"}");
+
+		Flux<List<String>> batches = Jackson2Tokenizer.tokenizeArrayElementBatches(
+				Flux.fromIterable(source).map(this::stringBuffer),
+				this.jsonFactory, this.objectMapper, false, -1).map(this::batchToStrings);
+
+		StepVerifier.create(batches)
+				.expectNext(List.of("{\"id\":1,\"name\":\"Robert\"}", "{\"id\":2,\"name\":\"Raide\"}"))
+				.expectNext(List.of("{\"id\":3,\"name\":\"Ford\"}"))
+				.verifyComplete();
+	}
+
 	@Test
 	void testLimit() {
 		List<String> source = asList(
@@ -385,6 +418,22 @@ class Jackson2TokenizerTests extends AbstractLeakCheckingTests {
 		}
 	}
 
+	private List<String> batchToStrings(Jackson2Tokenizer.TokenBatch batch) {
+		try {
+			List<String> result = new ArrayList<>();
+			JsonParser parser = batch.tokens().asParser();
+			for (int i = 0; i < batch.count(); i++) {
+				parser.nextToken();
+				TreeNode node = this.objectMapper.readTree(parser);
+				result.add(this.objectMapper.writeValueAsString(node));
+			}
+			return result;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	private DataBuffer stringBuffer(String value) {
 		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
 		DataBuffer buffer = this.bufferFactory.allocateBuffer(bytes.length);
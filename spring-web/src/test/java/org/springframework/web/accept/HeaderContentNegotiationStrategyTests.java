@@ -64,6 +64,17 @@ class HeaderContentNegotiationStrategyTests {
 				.containsExactly("text/html", "text/x-c", "text/x-dvi;q=0.8", "text/plain;q=0.5");
 	}
 
+	@Test
+	void resolveMediaTypesFromCache() throws Exception {
+		this.servletRequest.addHeader("Accept", "application/json, text/html;q=0.9");
+		List<MediaType> mediaTypes = this.strategy.resolveMediaTypes(this.webRequest);
+
+		MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+		otherRequest.addHeader("Accept", "application/json, text/html;q=0.9");
+		assertThat(this.strategy.resolveMediaTypes(new ServletWebRequest(otherRequest))).isSameAs(mediaTypes);
+		assertThat(mediaTypes).map(Object::toString).containsExactly("application/json", "text/html;q=0.9");
+	}
+
 	@Test  // gh-32483
 	void resolveMediaTypesWithMaxElements() throws Exception {
 		String acceptHeaderValue = "text/plain, text/html,".repeat(25);
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.accept;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.web.accept.MediaTypeNegotiationCache.Negotiation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link MediaTypeNegotiationCache}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @since 6.2
+ */
+class MediaTypeNegotiationCacheTests {
+
+	private final MediaTypeNegotiationCache cache = new MediaTypeNegotiationCache();
+
+
+	@Test
+	void negotiateConcreteMediaType() {
+		List<MediaType> acceptable = MediaType.parseMediaTypes("text/html, application/json;q=0.9, */*;q=0.8");
+		List<MediaType> producible = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML);
+
+		Negotiation negotiation = this.cache.negotiate(acceptable, producible);
+		assertThat(negotiation.getSelectedMediaType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(negotiation.getCompatibleMediaTypes()).map(MediaType::toString)
+				.containsExactly("application/json;q=0.9", "application/json;q=0.8", "application/xml;q=0.8");
+		assertThat(this.cache.negotiate(new ArrayList<>(acceptable), producible)).isSameAs(negotiation);
+	}
+
+	@Test
+	void negotiateWildcardMediaType() {
+		Negotiation negotiation = this.cache.negotiate(List.of(MediaType.ALL), List.of(MediaType.ALL));
+		assertThat(negotiation.getCompatibleMediaTypes()).containsExactly(MediaType.ALL);
+		assertThat(negotiation.getSelectedMediaType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+	}
+
+	@Test
+	void negotiateIncompatibleMediaTypes() {
+		Negotiation negotiation = this.cache.negotiate(List.of(MediaType.TEXT_HTML), List.of(MediaType.APPLICATION_JSON));
+		assertThat(negotiation.getCompatibleMediaTypes()).isEmpty();
+		assertThat(negotiation.getSelectedMediaType()).isNull();
+	}
+
+	@Test
+	void producibleTypesDeterminedOnce() {
+		AtomicInteger count = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			List<MediaType> producibleTypes = this.cache.getProducibleTypes(String.class, String.class, () -> {
+				count.incrementAndGet();
+				return new ArrayList<>(List.of(MediaType.TEXT_PLAIN));
+			});
+			assertThat(producibleTypes).containsExactly(MediaType.TEXT_PLAIN);
+			assertThatExceptionOfType(UnsupportedOperationException.class)
+					.isThrownBy(() -> producibleTypes.add(MediaType.ALL));
+		}
+		assertThat(count.get()).isEqualTo(1);
+
+		this.cache.getProducibleTypes(ResolvableType.forClass(String.class), () -> {
+			count.incrementAndGet();
+			return List.of(MediaType.TEXT_HTML);
+		});
+		assertThat(count.get()).isEqualTo(2);
+	}
+
+	@Test
+	void writerDeterminedOncePerMediaType() {
+		AtomicInteger count = new AtomicInteger();
+		ResolvableType type = ResolvableType.forClass(String.class);
+		for (int i = 0; i < 3; i++) {
+			assertThat(this.cache.getWriter(type, MediaType.TEXT_PLAIN, () -> {
+				count.incrementAndGet();
+				return "plain";
+			})).isEqualTo("plain");
+			assertThat(this.cache.getWriter(type, MediaType.TEXT_HTML, () -> {
+				count.incrementAndGet();
+				return null;
+			})).isNull();
+		}
+		assertThat(count.get()).isEqualTo(2);
+	}
+
+	@Test
+	void writerDeterminedOnceForConcurrentAccess() throws Exception {
+		ResolvableType type = ResolvableType.forClass(String.class);
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch supplierLatch = new CountDownLatch(1);
+		CompletableFuture<Object> first = CompletableFuture.supplyAsync(() ->
+				this.cache.getWriter(type, MediaType.TEXT_HTML, () -> {
+					count.incrementAndGet();
+					supplierLatch.countDown();
+					try {
+						Thread.sleep(100);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					return "html";
+				}));
+		assertThat(supplierLatch.await(5, TimeUnit.SECONDS)).isTrue();
+		Object second = this.cache.getWriter(type, MediaType.TEXT_HTML, () -> {
+			count.incrementAndGet();
+			return "other";
+		});
+
+		assertThat(second).isEqualTo("html");
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("html");
+		assertThat(count.get()).isEqualTo(1);
+	}
+
+	@Test
+	void noCaching() {
+		MediaTypeNegotiationCache cache = new MediaTypeNegotiationCache(0);
+		AtomicInteger count = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			assertThat(cache.getWriter(String.class, null, MediaType.TEXT_PLAIN, count::incrementAndGet))
+					.isEqualTo(i + 1);
+		}
+		Negotiation negotiation = cache.negotiate(List.of(MediaType.ALL), List.of(MediaType.TEXT_PLAIN));
+		assertThat(negotiation.getSelectedMediaType()).isEqualTo(MediaType.TEXT_PLAIN);
+	}
+
+	@Test
+	void clear() {
+		AtomicInteger count = new AtomicInteger();
+		this.cache.getWriter(String.class, null, MediaType.TEXT_PLAIN, count::incrementAndGet);
+		this.cache.clear();
+		this.cache.getWriter(String.class, null, MediaType.TEXT_PLAIN, count::incrementAndGet);
+		assertThat(count.get()).isEqualTo(2);
+	}
+
+}
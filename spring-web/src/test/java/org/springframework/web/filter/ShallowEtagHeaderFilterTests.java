@@ -17,6 +17,8 @@
 package org.springframework.web.filter;
 
 import java.io.InputStream;
+import java.io.PrintWriter;
+import java.util.zip.CRC32;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletResponse;
@@ -276,4 +278,147 @@ class ShallowEtagHeaderFilterTests {
 		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo(responseBody);
 	}
 
+
+	@Test
+	void filterNoMatchWithChecksum() throws Exception {
+		this.filter.setChecksumSupplier(CRC32::new);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		byte[] responseBody = "Hello World".getBytes(UTF_8);
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.setContentType(TEXT_PLAIN_VALUE);
+			FileCopyUtils.copy(responseBody, filterResponse.getOutputStream());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).as("Invalid status").isEqualTo(200);
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isEqualTo(crc32ETag(responseBody));
+		assertThat(response.getContentLength()).as("Invalid Content-Length header").isEqualTo(responseBody.length);
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo(responseBody);
+	}
+
+	@Test
+	void filterMatchWithChecksum() throws Exception {
+		this.filter.setChecksumSupplier(CRC32::new);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		byte[] responseBody = "Hello World".getBytes(UTF_8);
+		request.addHeader("If-None-Match", crc32ETag(responseBody));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			FileCopyUtils.copy("Hello World", filterResponse.getWriter());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).as("Invalid status").isEqualTo(304);
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isEqualTo(crc32ETag(responseBody));
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEmpty();
+	}
+
+	@Test
+	void filterResetBufferWithChecksum() throws Exception {
+		this.filter.setChecksumSupplier(CRC32::new);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		byte[] responseBody = "Hello World".getBytes(UTF_8);
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write("Error".getBytes(UTF_8));
+			filterResponse.resetBuffer();
+			FileCopyUtils.copy(responseBody, filterResponse.getOutputStream());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isEqualTo(crc32ETag(responseBody));
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo(responseBody);
+	}
+
+	@Test
+	void filterExceedingContentCacheLimit() throws Exception {
+		this.filter.setContentCacheLimit(8);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		request.addHeader("If-None-Match", "\"0b10a8db164e0754105b7a99be72e3fe5\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write("Hello".getBytes(UTF_8));
+			assertThat(response.isCommitted()).isFalse();
+			filterResponse.getOutputStream().write(" World".getBytes(UTF_8));
+			assertThat(response.getContentAsByteArray()).isEqualTo("Hello World".getBytes(UTF_8));
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).as("Invalid status").isEqualTo(200);
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isNull();
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo("Hello World".getBytes(UTF_8));
+	}
+
+	@Test
+	void filterWriterExceedingContentCacheLimitFlushesOnlyOnExplicitFlush() throws Exception {
+		this.filter.setContentCacheLimit(8);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			PrintWriter writer = filterResponse.getWriter();
+			writer.print("Hello World");
+			writer.print("!");
+			assertThat(response.getContentAsString()).isEqualTo("Hello World!");
+			assertThat(response.isCommitted()).isFalse();
+			writer.flush();
+			assertThat(response.isCommitted()).isTrue();
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isNull();
+		assertThat(response.getContentAsString()).as("Invalid content").isEqualTo("Hello World!");
+	}
+
+	@Test
+	void filterExceedingContentCacheLimitWithFlushBuffer() throws Exception {
+		this.filter.setContentCacheLimit(8);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write("Hello World".getBytes(UTF_8));
+			assertThat(response.isCommitted()).isFalse();
+			filterResponse.flushBuffer();
+			assertThat(response.isCommitted()).isTrue();
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo("Hello World".getBytes(UTF_8));
+	}
+
+	@Test
+	void filterWithinContentCacheLimit() throws Exception {
+		this.filter.setContentCacheLimit(11);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			FileCopyUtils.copy("Hello World", filterResponse.getWriter());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getHeader("ETag")).as("Invalid ETag").isEqualTo("\"0b10a8db164e0754105b7a99be72e3fe5\"");
+		assertThat(response.getContentAsByteArray()).as("Invalid content").isEqualTo("Hello World".getBytes(UTF_8));
+	}
+
+
+	private static String crc32ETag(byte[] content) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(content);
+		return "\"0" + Long.toHexString(crc32.getValue()) + "\"";
+	}
+
 }
@@ -158,6 +158,56 @@ class InvocableHandlerMethodTests {
 			.withMessageContaining("Illegal argument");
 	}
 
+	@Test
+	void determineArgumentResolvers() {
+		this.composite.addResolver(new StubArgumentResolver(99));
+
+		HandlerMethodArgumentResolver[] resolvers = getInvocable(Integer.class, String.class).determineArgumentResolvers();
+
+		assertThat(resolvers).containsExactly(getStubResolver(0), null);
+	}
+
+	@Test
+	void resolveArgWithResolvedArgumentResolvers() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(99));
+		this.composite.addResolver(new StubArgumentResolver("value"));
+		StubArgumentResolver resolvedResolver = new StubArgumentResolver(Integer.class, 1);
+
+		InvocableHandlerMethod invocable = getInvocable(Integer.class, String.class);
+		invocable.setResolvedArgumentResolvers(new HandlerMethodArgumentResolver[] {resolvedResolver, null});
+		Object value = invocable.invokeForRequest(request, null);
+
+		assertThat(value).isEqualTo("1-value");
+		assertThat(resolvedResolver.getResolvedParameters()).hasSize(1);
+		assertThat(getStubResolver(0).getResolvedParameters()).isEmpty();
+		assertThat(getStubResolver(1).getResolvedParameters()).hasSize(1);
+	}
+
+	@Test
+	void resolveProvidedArgBeforeResolvedArgumentResolvers() throws Exception {
+		StubArgumentResolver resolvedResolver = new StubArgumentResolver(Integer.class, 1);
+
+		InvocableHandlerMethod invocable = getInvocable(Integer.class, String.class);
+		invocable.setResolvedArgumentResolvers(new HandlerMethodArgumentResolver[] {resolvedResolver, null});
+		Object value = invocable.invokeForRequest(request, null, 2, "value");
+
+		assertThat(value).isEqualTo("2-value");
+		assertThat(resolvedResolver.getResolvedParameters()).isEmpty();
+	}
+
+	@Test
+	void resolvedArgumentResolversResetWithArgumentResolvers() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(99));
+		this.composite.addResolver(new StubArgumentResolver("value"));
+
+		InvocableHandlerMethod invocable = getInvocable(Integer.class, String.class);
+		invocable.setResolvedArgumentResolvers(new HandlerMethodArgumentResolver[] {
+				new StubArgumentResolver(Integer.class, 1), new StubArgumentResolver("other")});
+		invocable.setHandlerMethodArgumentResolvers(this.composite);
+
+		assertThat(invocable.invokeForRequest(request, null)).isEqualTo("99-value");
+	}
+
 	private InvocableHandlerMethod getInvocable(Class<?>... argTypes) {
 		Method method = ResolvableMethod.on(Handler.class).argTypes(argTypes).resolveMethod();
 		InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(new Handler(), method);
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PathPatternIndex}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class PathPatternIndexTests {
+
+	private static final List<String> PATTERNS = List.of(
+			"", "/", "/projects", "/projects/{name}", "/projects/{name}/releases/{version}",
+			"/projects/spring-*/docs", "/blog/category/{category}.atom", "/blog/{year:\\d+}/{slug}",
+			"/static/**", "/files/{*path}", "/api/*", "/api/*/items", "/user/?ser", "/x{var}*", "/{var}*", "/**");
+
+	private static final List<String> PATHS = List.of(
+			"", "/", "/projects", "/projects/", "/projects/spring-boot", "/projects/spring-boot/",
+			"/projects/spring-boot/releases/3.0", "/projects/spring-boot/docs", "/blog/category/news.atom",
+			"/blog/2024/spring", "/static", "/static/css/app.css", "/files", "/files/a/b", "/api", "/api/",
+			"/api/orders", "/api/orders/items", "/api//items", "/user/aser", "/x", "/xy", "/other/path");
+
+
+	@Test
+	void candidatesIncludeAllMatches() {
+		candidatesIncludeAllMatches(new PathPatternParser());
+	}
+
+	@Test
+	void candidatesIncludeAllMatchesCaseInsensitive() {
+		PathPatternParser parser = new PathPatternParser();
+		parser.setCaseSensitive(false);
+		candidatesIncludeAllMatches(parser);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void candidatesIncludeAllMatchesWithOptionalTrailingSeparator() {
+		PathPatternParser parser = new PathPatternParser();
+		parser.setMatchOptionalTrailingSeparator(true);
+		candidatesIncludeAllMatches(parser);
+	}
+
+	private void candidatesIncludeAllMatches(PathPatternParser parser) {
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+		List<PathPattern> patterns = PATTERNS.stream().map(parser::parse).toList();
+		patterns.forEach(pattern -> index.add(pattern, pattern));
+
+		for (String value : PATHS) {
+			PathContainer path = PathContainer.parsePath(value);
+			List<PathPattern> matches = patterns.stream().filter(pattern -> pattern.matches(path)).toList();
+			assertThat(index.getCandidates(path)).as("Candidates for '" + value + "'").containsAll(matches);
+		}
+	}
+
+	@Test
+	void literalSegmentsNarrowDownCandidates() {
+		PathPatternParser parser = new PathPatternParser();
+		PathPatternIndex<String> index = new PathPatternIndex<>();
+		index.add(parser.parse("/projects/{name}"), "project");
+		index.add(parser.parse("/projects/{name}/releases"), "releases");
+		index.add(parser.parse("/team/{username}"), "team");
+		index.add(parser.parse("/static/**"), "static");
+
+		assertThat(index.getCandidates(PathContainer.parsePath("/projects/spring"))).containsExactly("project");
+		assertThat(index.getCandidates(PathContainer.parsePath("/projects/spring/releases"))).containsExactly("releases");
+		assertThat(index.getCandidates(PathContainer.parsePath("/static/app.css"))).containsExactly("static");
+		assertThat(index.getCandidates(PathContainer.parsePath("/other"))).isEmpty();
+	}
+
+	@Test
+	void caseInsensitiveLiteral() {
+		PathPatternParser parser = new PathPatternParser();
+		parser.setCaseSensitive(false);
+		PathPatternIndex<String> index = new PathPatternIndex<>();
+		index.add(parser.parse("/Projects/{name}"), "project");
+
+		assertThat(index.getCandidates(PathContainer.parsePath("/PROJECTS/spring"))).containsExactly("project");
+	}
+
+	@Test
+	void remove() {
+		PathPatternParser parser = new PathPatternParser();
+		PathPatternIndex<String> index = new PathPatternIndex<>();
+		PathPattern pattern = parser.parse("/projects/{name}");
+		index.add(pattern, "project");
+		index.add(pattern, "other");
+
+		assertThat(index.remove(pattern, "project")).isTrue();
+		assertThat(index.remove(pattern, "project")).isFalse();
+		assertThat(index.remove(parser.parse("/unknown"), "project")).isFalse();
+		assertThat(index.getCandidates(PathContainer.parsePath("/projects/spring"))).containsExactly("other");
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,11 @@ package org.springframework.web.reactive.accept;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.server.NotAcceptableStatusException;
 import org.springframework.web.server.ServerWebExchange;
@@ -28,15 +30,27 @@ import org.springframework.web.server.ServerWebExchange;
 /**
  * Resolver that looks at the 'Accept' header of the request.
  *
+ * <p>As of 6.2, the sorted media types for recently seen 'Accept' header values
+ * are cached for a single header value, with the same unmodifiable list
+ * returned for the same value.
+ *
  * @author Rossen Stoyanchev
  * @since 5.0
  */
 public class HeaderContentTypeResolver implements RequestedContentTypeResolver {
 
+	private static final ConcurrentLruCache<String, List<MediaType>> acceptHeaderCache =
+			new ConcurrentLruCache<>(64, HeaderContentTypeResolver::parseAcceptHeader);
+
+
 	@Override
 	public List<MediaType> resolveMediaTypes(ServerWebExchange exchange) throws NotAcceptableStatusException {
 		try {
-			List<MediaType> mediaTypes = exchange.getRequest().getHeaders().getAccept();
+			List<String> headerValues = exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT);
+			if (headerValues != null && headerValues.size() == 1 && headerValues.get(0) != null) {
+				return acceptHeaderCache.get(headerValues.get(0));
+			}
+			List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValues);
 			MimeTypeUtils.sortBySpecificity(mediaTypes);
 			return (!CollectionUtils.isEmpty(mediaTypes) ? mediaTypes : MEDIA_TYPE_ALL_LIST);
 		}
@@ -47,4 +61,10 @@ public class HeaderContentTypeResolver implements RequestedContentTypeResolver {
 		}
 	}
 
+	private static List<MediaType> parseAcceptHeader(String headerValue) {
+		List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValue);
+		MimeTypeUtils.sortBySpecificity(mediaTypes);
+		return (!CollectionUtils.isEmpty(mediaTypes) ? List.copyOf(mediaTypes) : MEDIA_TYPE_ALL_LIST);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
 package org.springframework.web.reactive.result;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -31,7 +30,7 @@ import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.accept.MediaTypeNegotiationCache;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.HandlerResult;
 import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
@@ -47,16 +46,14 @@ import org.springframework.web.server.ServerWebExchange;
  */
 public abstract class HandlerResultHandlerSupport implements Ordered {
 
-	private static final List<MediaType> ALL_APPLICATION_MEDIA_TYPES =
-			List.of(MediaType.ALL, new MediaType("application"));
-
-
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final RequestedContentTypeResolver contentTypeResolver;
 
 	private final ReactiveAdapterRegistry adapterRegistry;
 
+	private final MediaTypeNegotiationCache negotiationCache = new MediaTypeNegotiationCache();
+
 	private int order = LOWEST_PRECEDENCE;
 
 
@@ -99,6 +96,14 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 		return this.order;
 	}
 
+	/**
+	 * Return the cache for the outcome of content negotiation in this handler.
+	 * @since 6.2
+	 */
+	protected MediaTypeNegotiationCache getNegotiationCache() {
+		return this.negotiationCache;
+	}
+
 
 	/**
 	 * Get a {@code ReactiveAdapter} for the top-level return value type.
@@ -139,33 +144,9 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 		}
 
 		List<MediaType> producibleTypes = getProducibleTypes(exchange, producibleTypesSupplier);
-
-		Set<MediaType> compatibleMediaTypes = new LinkedHashSet<>();
-		for (MediaType acceptable : acceptableTypes) {
-			for (MediaType producible : producibleTypes) {
-				if (acceptable.isCompatibleWith(producible)) {
-					compatibleMediaTypes.add(selectMoreSpecificMediaType(acceptable, producible));
-				}
-			}
-		}
-
-		List<MediaType> result = new ArrayList<>(compatibleMediaTypes);
-		MimeTypeUtils.sortBySpecificity(result);
-
-		MediaType selected = null;
-		for (MediaType mediaType : result) {
-			if (mediaType.isConcrete()) {
-				selected = mediaType;
-				break;
-			}
-			else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
-				selected = MediaType.APPLICATION_OCTET_STREAM;
-				break;
-			}
-		}
+		MediaType selected = this.negotiationCache.negotiate(acceptableTypes, producibleTypes).getSelectedMediaType();
 
 		if (selected != null) {
-			selected = selected.removeQualityValue();
 			if (logger.isDebugEnabled()) {
 				logger.debug(exchange.getLogPrefix() + "Using '" + selected + "' given " + acceptableTypes +
 						" and supported " + producibleTypes);
@@ -190,14 +171,4 @@ public abstract class HandlerResultHandlerSupport implements Ordered {
 		return (mediaTypes != null ? new ArrayList<>(mediaTypes) : producibleTypesSupplier.get());
 	}
 
-	private MediaType selectMoreSpecificMediaType(MediaType acceptable, MediaType producible) {
-		producible = producible.copyQualityValue(acceptable);
-		if (acceptable.isLessSpecific(producible)) {
-			return producible;
-		}
-		else {
-			return acceptable;
-		}
-	}
-
 }
@@ -138,4 +138,17 @@ class HandlerMethodArgumentResolverComposite implements HandlerMethodArgumentRes
 		return result;
 	}
 
+	/**
+	 * Find the registered {@link HandlerMethodArgumentResolver} for each of the
+	 * given method parameters, with {@code null} for an unsupported parameter.
+	 * @since 6.2
+	 */
+	HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		HandlerMethodArgumentResolver[] result = new HandlerMethodArgumentResolver[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			result[i] = getArgumentResolver(parameters[i]);
+		}
+		return result;
+	}
+
 }
@@ -84,6 +84,9 @@ public class InvocableHandlerMethod extends HandlerMethod {
 
 	private final HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
 
+	@Nullable
+	private HandlerMethodArgumentResolver[] resolvedArgumentResolvers;
+
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
 	private ReactiveAdapterRegistry reactiveAdapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
@@ -118,6 +121,7 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 */
 	public void setArgumentResolvers(List<? extends HandlerMethodArgumentResolver> resolvers) {
 		this.resolvers.addResolvers(resolvers);
+		this.resolvedArgumentResolvers = null;
 	}
 
 	/**
@@ -127,6 +131,33 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		return this.resolvers.getResolvers();
 	}
 
+	/**
+	 * Set the argument resolver to use for each method parameter, as determined
+	 * through {@link #determineArgumentResolvers()} for an earlier invocation of
+	 * the same handler method, avoiding a per-parameter resolver lookup.
+	 * <p>A {@code null} entry indicates a parameter to look up through the
+	 * {@link #setArgumentResolvers configured resolvers}.
+	 * @param resolvers the resolvers in method parameter order, or {@code null}
+	 * to look up the resolver for each parameter on every invocation
+	 * @since 6.2
+	 */
+	public void setResolvedArgumentResolvers(@Nullable HandlerMethodArgumentResolver[] resolvers) {
+		this.resolvedArgumentResolvers = resolvers;
+	}
+
+	/**
+	 * Determine the argument resolver for each method parameter through the
+	 * {@link #setArgumentResolvers configured resolvers}, for caching along
+	 * with the handler method and subsequently passing into
+	 * {@link #setResolvedArgumentResolvers}.
+	 * @return the resolvers in method parameter order, with a {@code null}
+	 * entry for a parameter not supported by any resolver
+	 * @since 6.2
+	 */
+	public HandlerMethodArgumentResolver[] determineArgumentResolvers() {
+		return this.resolvers.getArgumentResolvers(getMethodParameters());
+	}
+
 	/**
 	 * Set the ParameterNameDiscoverer for resolving parameter names when needed
 	 * (e.g. default request attribute name).
@@ -249,20 +280,30 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			return EMPTY_ARGS;
 		}
 
+		HandlerMethodArgumentResolver[] resolved = this.resolvedArgumentResolvers;
+		if (resolved != null && resolved.length != parameters.length) {
+			resolved = null;
+		}
+
 		List<Mono<Object>> argMonos = new ArrayList<>(parameters.length);
-		for (MethodParameter parameter : parameters) {
+		for (int i = 0; i < parameters.length; i++) {
+			MethodParameter parameter = parameters[i];
 			parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
 			Object providedArg = findProvidedArgument(parameter, providedArgs);
 			if (providedArg != null) {
 				argMonos.add(Mono.just(providedArg));
 				continue;
 			}
-			if (!this.resolvers.supportsParameter(parameter)) {
-				return Mono.error(new IllegalStateException(
-						formatArgumentError(parameter, "No suitable resolver")));
+			HandlerMethodArgumentResolver resolver = (resolved != null ? resolved[i] : null);
+			if (resolver == null) {
+				if (!this.resolvers.supportsParameter(parameter)) {
+					return Mono.error(new IllegalStateException(
+							formatArgumentError(parameter, "No suitable resolver")));
+				}
+				resolver = this.resolvers;
 			}
 			try {
-				argMonos.add(this.resolvers.resolveArgument(parameter, bindingContext, exchange)
+				argMonos.add(resolver.resolveArgument(parameter, bindingContext, exchange)
 						.defaultIfEmpty(NO_ARG_VALUE)
 						.doOnError(ex -> logArgumentErrorIfNecessary(exchange, parameter, ex)));
 			}
@@ -228,12 +228,13 @@ public abstract class AbstractMessageWriterResultHandler extends HandlerResultHa
 				logger.debug(logPrefix +
 						(publisher instanceof Mono ? "0..1" : "0..N") + " [" + elementType + "]");
 			}
-			for (HttpMessageWriter<?> writer : getMessageWriters()) {
-				if (writer.canWrite(actualElementType, bestMediaType)) {
-					return writer.write((Publisher) publisher, actualType, elementType,
-							bestMediaType, exchange.getRequest(), exchange.getResponse(),
-							Hints.from(Hints.LOG_PREFIX_HINT, logPrefix));
-				}
+			MediaType mediaType = bestMediaType;
+			HttpMessageWriter<?> writer = getNegotiationCache().getWriter(actualElementType, mediaType,
+					() -> findWriter(actualElementType, mediaType));
+			if (writer != null) {
+				return writer.write((Publisher) publisher, actualType, elementType,
+						bestMediaType, exchange.getRequest(), exchange.getResponse(),
+						Hints.from(Hints.LOG_PREFIX_HINT, logPrefix));
 			}
 		}
 
@@ -266,13 +267,25 @@ public abstract class AbstractMessageWriterResultHandler extends HandlerResultHa
 	}
 
 	private List<MediaType> getMediaTypesFor(ResolvableType elementType) {
-		List<MediaType> writableMediaTypes = new ArrayList<>();
-		for (HttpMessageWriter<?> converter : getMessageWriters()) {
-			if (converter.canWrite(elementType, null)) {
-				writableMediaTypes.addAll(converter.getWritableMediaTypes(elementType));
+		return getNegotiationCache().getProducibleTypes(elementType, () -> {
+			List<MediaType> writableMediaTypes = new ArrayList<>();
+			for (HttpMessageWriter<?> converter : getMessageWriters()) {
+				if (converter.canWrite(elementType, null)) {
+					writableMediaTypes.addAll(converter.getWritableMediaTypes(elementType));
+				}
+			}
+			return writableMediaTypes;
+		});
+	}
+
+	@Nullable
+	private HttpMessageWriter<?> findWriter(ResolvableType elementType, MediaType mediaType) {
+		for (HttpMessageWriter<?> writer : getMessageWriters()) {
+			if (writer.canWrite(elementType, mediaType)) {
+				return writer;
 			}
 		}
-		return writableMediaTypes;
+		return null;
 	}
 
 }
@@ -136,6 +136,9 @@ class ControllerMethodResolver {
 
 	private final Map<Class<?>, SessionAttributesHandler> sessionAttributesHandlerCache = new ConcurrentHashMap<>(64);
 
+	private final Map<HandlerMethod, HandlerMethodArgumentResolver[]> argumentResolverCache =
+			new ConcurrentHashMap<>(64);
+
 
 
 	ControllerMethodResolver(
@@ -327,16 +330,43 @@ class ControllerMethodResolver {
 	/**
 	 * Return an {@link InvocableHandlerMethod} for the given
 	 * {@code @RequestMapping} method initialized with argument resolvers.
+	 * <p>As of 6.2, the argument resolver for each parameter is determined
+	 * once per registered handler method and reused for subsequent requests.
 	 */
 	public InvocableHandlerMethod getRequestMappingMethod(HandlerMethod handlerMethod) {
 		InvocableHandlerMethod invocable = new InvocableHandlerMethod(handlerMethod);
 		invocable.setArgumentResolvers(this.requestMappingResolvers);
+		invocable.setResolvedArgumentResolvers(getArgumentResolvers(handlerMethod, invocable));
 		invocable.setReactiveAdapterRegistry(this.reactiveAdapterRegistry);
 		invocable.setMethodValidator(this.methodValidator);
 		invocable.setInvocationScheduler(getSchedulerFor(handlerMethod));
 		return invocable;
 	}
 
+	/**
+	 * Return the argument resolver for each parameter of the given handler method,
+	 * keyed by the handler method from the mapping registry since handler methods
+	 * with a resolved bean may be re-created per request, e.g. for prototype beans.
+	 * @return the argument resolvers, or {@code null} for a handler method that
+	 * has not been resolved from a registered handler method
+	 */
+	@Nullable
+	private HandlerMethodArgumentResolver[] getArgumentResolvers(
+			HandlerMethod handlerMethod, InvocableHandlerMethod invocable) {
+
+		HandlerMethod key = handlerMethod.getResolvedFromHandlerMethod();
+		if (key == null) {
+			// Not obtained from the mapping registry -> possibly created per request
+			return null;
+		}
+		HandlerMethodArgumentResolver[] resolvers = this.argumentResolverCache.get(key);
+		if (resolvers == null) {
+			resolvers = invocable.determineArgumentResolvers();
+			this.argumentResolverCache.put(key, resolvers);
+		}
+		return resolvers;
+	}
+
 	/**
 	 * Find {@code @InitBinder} methods in {@code @ControllerAdvice} components
 	 * or in the controller of the given {@code @RequestMapping} method.
@@ -121,6 +121,21 @@ class InvocableHandlerMethodTests {
 			.withMessage("Could not resolve parameter [0] in %s: No suitable resolver", method.toGenericString());
 	}
 
+	@Test
+	void resolveArgWithResolvedArgumentResolvers() {
+		HandlerMethodArgumentResolver resolver = stubResolver("value1");
+		this.resolvers.add(resolver);
+		Method method = ResolvableMethod.on(TestController.class).mockCall(o -> o.singleArg(null)).method();
+		InvocableHandlerMethod invocable = new InvocableHandlerMethod(new TestController(), method);
+		invocable.setArgumentResolvers(this.resolvers);
+
+		HandlerMethodArgumentResolver[] resolved = invocable.determineArgumentResolvers();
+		assertThat(resolved).containsExactly(resolver);
+
+		invocable.setResolvedArgumentResolvers(new HandlerMethodArgumentResolver[] {stubResolver("value2")});
+		assertHandlerResultValue(invocable.invoke(this.exchange, new BindingContext()), "success:value2");
+	}
+
 	@Test
 	void resolveProvidedArg() {
 		Method method = ResolvableMethod.on(TestController.class).mockCall(o -> o.singleArg(null)).method();
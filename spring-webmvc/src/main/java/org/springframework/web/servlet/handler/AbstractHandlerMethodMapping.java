@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +40,7 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -49,6 +51,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -95,6 +100,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private boolean detectHandlerMethodsInAncestorContexts = false;
 
+	private boolean usePathPatternIndex = false;
+
 	@Nullable
 	private HandlerMethodMappingNamingStrategy<T> namingStrategy;
 
@@ -122,6 +129,36 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		this.detectHandlerMethodsInAncestorContexts = detectHandlerMethodsInAncestorContexts;
 	}
 
+	/**
+	 * Whether to narrow down the mappings to check for a request through a
+	 * {@link PathPatternIndex}, i.e. a prefix tree built from the parsed
+	 * {@link PathPattern PathPatterns} of each mapping, rather than checking
+	 * every registered mapping when there is no direct path match.
+	 * <p>This is worth enabling for applications with a large number of
+	 * pattern-based mappings. Only mappings that expose their patterns through
+	 * {@link #getPathPatternsForIndex(Object)} are indexed, all others remain
+	 * candidates for every request.
+	 * <p>Must be set before the initialization of request mappings through
+	 * {@link #afterPropertiesSet()}.
+	 * <p>Default is "false".
+	 * @since 6.2
+	 */
+	public void setUsePathPatternIndex(boolean usePathPatternIndex) {
+		Assert.state(this.mappingRegistry.getRegistrations().isEmpty(),
+				"The path pattern index must be enabled before the initialization of " +
+						"request mappings through InitializingBean#afterPropertiesSet.");
+		this.usePathPatternIndex = usePathPatternIndex;
+	}
+
+	/**
+	 * Whether a {@link PathPatternIndex} is used to look up mappings.
+	 * @since 6.2
+	 * @see #setUsePathPatternIndex(boolean)
+	 */
+	public boolean usePathPatternIndex() {
+		return this.usePathPatternIndex;
+	}
+
 	/**
 	 * Configure the naming strategy to use for assigning a default name to every
 	 * mapped handler method.
@@ -404,7 +441,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPattern(lookupPath, request), matches, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -545,6 +582,18 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return urls;
 	}
 
+	/**
+	 * Return the parsed patterns of the given mapping to add to the
+	 * {@link #setUsePathPatternIndex path pattern index}. The returned patterns
+	 * must cover every lookup path that the mapping may match.
+	 * <p>By default this returns an empty set, in which case the mapping is
+	 * checked for every request without a direct path match.
+	 * @since 6.2
+	 */
+	protected Set<PathPattern> getPathPatternsForIndex(T mapping) {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -580,6 +629,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
+		private final PathPatternIndex<T> patternIndex = new PathPatternIndex<>();
+
+		private final Set<T> unindexedMappings = new LinkedHashSet<>();
+
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 
 		/**
@@ -599,6 +652,25 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the mappings to check for the given URL path when there is no
+		 * direct path match: the candidates from the path pattern index, if
+		 * enabled, or all registered mappings otherwise. Not thread-safe.
+		 * @since 6.2
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPattern(String urlPath, HttpServletRequest request) {
+			if (!usePathPatternIndex()) {
+				return this.registry.keySet();
+			}
+			PathContainer path = (ServletRequestPathUtils.hasParsedRequestPath(request) ?
+					ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication() :
+					PathContainer.parsePath(urlPath));
+			Set<T> mappings = this.patternIndex.getCandidates(path);
+			mappings.addAll(this.unindexedMappings);
+			return mappings;
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -644,6 +716,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				if (usePathPatternIndex()) {
+					Set<PathPattern> patterns = getPathPatternsForIndex(mapping);
+					for (PathPattern pattern : patterns) {
+						this.patternIndex.add(pattern, mapping);
+					}
+					if (patterns.isEmpty()) {
+						this.unindexedMappings.add(mapping);
+					}
+				}
+
 				String name = null;
 				if (getNamingStrategy() != null) {
 					name = getNamingStrategy().getName(handlerMethod, mapping);
@@ -712,6 +794,13 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (usePathPatternIndex()) {
+					for (PathPattern pattern : getPathPatternsForIndex(registration.getMapping())) {
+						this.patternIndex.remove(pattern, registration.getMapping());
+					}
+					this.unindexedMappings.remove(registration.getMapping());
+				}
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());
@@ -55,11 +55,12 @@ import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.accept.MediaTypeNegotiationCache;
+import org.springframework.web.accept.MediaTypeNegotiationCache.Negotiation;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
@@ -88,9 +89,6 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 	private static final Set<String> SAFE_MEDIA_BASE_TYPES =
 			Set.of("audio", "image", "video");
 
-	private static final List<MediaType> ALL_APPLICATION_MEDIA_TYPES =
-			List.of(MediaType.ALL, new MediaType("application"));
-
 	private static final Type RESOURCE_REGION_LIST_TYPE =
 			new ParameterizedTypeReference<List<ResourceRegion>>() {}.getType();
 
@@ -104,6 +102,8 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 
 	private final Set<String> safeExtensions = new HashSet<>();
 
+	private final MediaTypeNegotiationCache negotiationCache = new MediaTypeNegotiationCache();
+
 
 	/**
 	 * Constructor with list of converters only.
@@ -273,15 +273,14 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 						"No converter found for return value of type: " + valueType);
 			}
 
-			List<MediaType> compatibleMediaTypes = new ArrayList<>();
-			determineCompatibleMediaTypes(acceptableTypes, producibleTypes, compatibleMediaTypes);
+			Negotiation negotiation = this.negotiationCache.negotiate(acceptableTypes, producibleTypes);
 
 			// For ProblemDetail, fall back on RFC 9457 format
-			if (compatibleMediaTypes.isEmpty() && ProblemDetail.class.isAssignableFrom(valueType)) {
-				determineCompatibleMediaTypes(this.problemMediaTypes, producibleTypes, compatibleMediaTypes);
+			if (negotiation.getCompatibleMediaTypes().isEmpty() && ProblemDetail.class.isAssignableFrom(valueType)) {
+				negotiation = this.negotiationCache.negotiate(this.problemMediaTypes, producibleTypes);
 			}
 
-			if (compatibleMediaTypes.isEmpty()) {
+			if (negotiation.getCompatibleMediaTypes().isEmpty()) {
 				if (logger.isDebugEnabled()) {
 					logger.debug("No match for " + acceptableTypes + ", supported: " + producibleTypes);
 				}
@@ -291,18 +290,7 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 				return;
 			}
 
-			MimeTypeUtils.sortBySpecificity(compatibleMediaTypes);
-
-			for (MediaType mediaType : compatibleMediaTypes) {
-				if (mediaType.isConcrete()) {
-					selectedMediaType = mediaType;
-					break;
-				}
-				else if (mediaType.isPresentIn(ALL_APPLICATION_MEDIA_TYPES)) {
-					selectedMediaType = MediaType.APPLICATION_OCTET_STREAM;
-					break;
-				}
-			}
+			selectedMediaType = negotiation.getSelectedMediaType();
 
 			if (logger.isDebugEnabled()) {
 				logger.debug("Using '" + selectedMediaType + "', given " +
@@ -312,34 +300,35 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 
 		if (selectedMediaType != null) {
 			selectedMediaType = selectedMediaType.removeQualityValue();
-			for (HttpMessageConverter<?> converter : this.messageConverters) {
+			Class<?> writableType = valueType;
+			Type writableTargetType = targetType;
+			MediaType mediaType = selectedMediaType;
+			HttpMessageConverter<?> converter = this.negotiationCache.getWriter(valueType, targetType, selectedMediaType,
+					() -> findConverter(writableType, writableTargetType, mediaType));
+			if (converter != null) {
 				GenericHttpMessageConverter genericConverter =
 						(converter instanceof GenericHttpMessageConverter ghmc ? ghmc : null);
-				if (genericConverter != null ?
-						((GenericHttpMessageConverter) converter).canWrite(targetType, valueType, selectedMediaType) :
-						converter.canWrite(valueType, selectedMediaType)) {
-					body = getAdvice().beforeBodyWrite(body, returnType, selectedMediaType,
-							(Class<? extends HttpMessageConverter<?>>) converter.getClass(),
-							inputMessage, outputMessage);
-					if (body != null) {
-						Object theBody = body;
-						LogFormatUtils.traceDebug(logger, traceOn ->
-								"Writing [" + LogFormatUtils.formatValue(theBody, !traceOn) + "]");
-						addContentDispositionHeader(inputMessage, outputMessage);
-						if (genericConverter != null) {
-							genericConverter.write(body, targetType, selectedMediaType, outputMessage);
-						}
-						else {
-							((HttpMessageConverter) converter).write(body, selectedMediaType, outputMessage);
-						}
+				body = getAdvice().beforeBodyWrite(body, returnType, selectedMediaType,
+						(Class<? extends HttpMessageConverter<?>>) converter.getClass(),
+						inputMessage, outputMessage);
+				if (body != null) {
+					Object theBody = body;
+					LogFormatUtils.traceDebug(logger, traceOn ->
+							"Writing [" + LogFormatUtils.formatValue(theBody, !traceOn) + "]");
+					addContentDispositionHeader(inputMessage, outputMessage);
+					if (genericConverter != null) {
+						genericConverter.write(body, targetType, selectedMediaType, outputMessage);
 					}
 					else {
-						if (logger.isDebugEnabled()) {
-							logger.debug("Nothing to write: null body");
-						}
+						((HttpMessageConverter) converter).write(body, selectedMediaType, outputMessage);
 					}
-					return;
 				}
+				else {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Nothing to write: null body");
+					}
+				}
+				return;
 			}
 		}
 
@@ -414,18 +403,37 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 		if (!CollectionUtils.isEmpty(mediaTypes)) {
 			return new ArrayList<>(mediaTypes);
 		}
-		Set<MediaType> result = new LinkedHashSet<>();
-		for (HttpMessageConverter<?> converter : this.messageConverters) {
-			if (converter instanceof GenericHttpMessageConverter<?> ghmc && targetType != null) {
-				if (ghmc.canWrite(targetType, valueClass, null)) {
+		return this.negotiationCache.getProducibleTypes(valueClass, targetType, () -> {
+			Set<MediaType> result = new LinkedHashSet<>();
+			for (HttpMessageConverter<?> converter : this.messageConverters) {
+				if (converter instanceof GenericHttpMessageConverter<?> ghmc && targetType != null) {
+					if (ghmc.canWrite(targetType, valueClass, null)) {
+						result.addAll(converter.getSupportedMediaTypes(valueClass));
+					}
+				}
+				else if (converter.canWrite(valueClass, null)) {
 					result.addAll(converter.getSupportedMediaTypes(valueClass));
 				}
 			}
-			else if (converter.canWrite(valueClass, null)) {
-				result.addAll(converter.getSupportedMediaTypes(valueClass));
+			return (result.isEmpty() ? Collections.singletonList(MediaType.ALL) : new ArrayList<>(result));
+		});
+	}
+
+	/**
+	 * Find the first converter that can write the given type of value
+	 * with the given media type.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Nullable
+	private HttpMessageConverter<?> findConverter(Class<?> valueType, Type targetType, MediaType mediaType) {
+		for (HttpMessageConverter<?> converter : this.messageConverters) {
+			if (converter instanceof GenericHttpMessageConverter genericConverter ?
+					genericConverter.canWrite(targetType, valueType, mediaType) :
+					converter.canWrite(valueType, mediaType)) {
+				return converter;
 			}
 		}
-		return (result.isEmpty() ? Collections.singletonList(MediaType.ALL) : new ArrayList<>(result));
+		return null;
 	}
 
 	private List<MediaType> getAcceptableMediaTypes(HttpServletRequest request)
@@ -434,32 +442,6 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 		return this.contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
 	}
 
-	private void determineCompatibleMediaTypes(
-			List<MediaType> acceptableTypes, List<MediaType> producibleTypes, List<MediaType> mediaTypesToUse) {
-
-		for (MediaType requestedType : acceptableTypes) {
-			for (MediaType producibleType : producibleTypes) {
-				if (requestedType.isCompatibleWith(producibleType)) {
-					mediaTypesToUse.add(getMostSpecificMediaType(requestedType, producibleType));
-				}
-			}
-		}
-	}
-
-	/**
-	 * Return the more specific of the acceptable and the producible media types
-	 * with the q-value of the former.
-	 */
-	private MediaType getMostSpecificMediaType(MediaType acceptType, MediaType produceType) {
-		MediaType produceTypeToUse = produceType.copyQualityValue(acceptType);
-		if (acceptType.isLessSpecific(produceTypeToUse)) {
-			return produceTypeToUse;
-		}
-		else {
-			return acceptType;
-		}
-	}
-
 	/**
 	 * Check if the path has a file extension and whether the extension is either
 	 * on the list of {@link #SAFE_EXTENSIONS safe extensions} or explicitly
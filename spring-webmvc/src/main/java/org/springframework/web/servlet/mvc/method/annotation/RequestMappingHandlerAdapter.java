@@ -206,6 +206,9 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private final Map<ControllerAdviceBean, Set<Method>> modelAttributeAdviceCache = new LinkedHashMap<>();
 
+	private final Map<HandlerMethod, HandlerMethodArgumentResolver[]> argumentResolverCache =
+			new ConcurrentHashMap<>(64);
+
 
 	/**
 	 * Provide resolvers for custom argument types. Custom resolvers are ordered
@@ -236,6 +239,7 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 			this.argumentResolvers = new HandlerMethodArgumentResolverComposite();
 			this.argumentResolvers.addResolvers(argumentResolvers);
 		}
+		this.argumentResolverCache.clear();
 	}
 
 	/**
@@ -921,6 +925,7 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		ServletInvocableHandlerMethod invocableMethod = createInvocableHandlerMethod(handlerMethod);
 		if (this.argumentResolvers != null) {
 			invocableMethod.setHandlerMethodArgumentResolvers(this.argumentResolvers);
+			invocableMethod.setResolvedArgumentResolvers(getArgumentResolvers(handlerMethod, invocableMethod));
 		}
 		if (this.returnValueHandlers != null) {
 			invocableMethod.setHandlerMethodReturnValueHandlers(this.returnValueHandlers);
@@ -965,6 +970,32 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return new ServletInvocableHandlerMethod(handlerMethod);
 	}
 
+	/**
+	 * Return the argument resolver for each parameter of the given handler method,
+	 * determined once per registered handler method rather than looked up per
+	 * parameter on every request. Keyed by the handler method from the mapping
+	 * registry since handler methods with a resolved bean may be re-created per
+	 * request, e.g. for prototype beans.
+	 * @return the argument resolvers, or {@code null} for a handler method that
+	 * has not been resolved from a registered handler method
+	 */
+	@Nullable
+	private HandlerMethodArgumentResolver[] getArgumentResolvers(
+			HandlerMethod handlerMethod, ServletInvocableHandlerMethod invocableMethod) {
+
+		HandlerMethod key = handlerMethod.getResolvedFromHandlerMethod();
+		if (key == null) {
+			// Not obtained from the mapping registry -> possibly created per request
+			return null;
+		}
+		HandlerMethodArgumentResolver[] resolvers = this.argumentResolverCache.get(key);
+		if (resolvers == null) {
+			resolvers = invocableMethod.determineArgumentResolvers();
+			this.argumentResolverCache.put(key, resolvers);
+		}
+		return resolvers;
+	}
+
 	private ModelFactory getModelFactory(HandlerMethod handlerMethod, WebDataBinderFactory binderFactory) {
 		SessionAttributesHandler sessionAttrHandler = getSessionAttributesHandler(handlerMethod);
 		Class<?> handlerType = handlerMethod.getBeanType();
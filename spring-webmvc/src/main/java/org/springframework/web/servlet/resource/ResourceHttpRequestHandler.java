@@ -16,6 +16,7 @@
 
 package org.springframework.web.servlet.resource;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.function.Function;
 
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponseWrapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.logging.Log;
@@ -38,6 +40,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.EmbeddedValueResolverAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.core.log.LogFormatUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -104,6 +107,14 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private static final String URL_RESOURCE_CHARSET_PREFIX = "[charset=";
 
+	private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
 
 	private final List<String> locationValues = new ArrayList<>(4);
 
@@ -147,6 +158,8 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private boolean optimizeLocations = false;
 
+	private long sendfileThreshold = 48 * 1024;
+
 	@Nullable
 	private StringValueResolver embeddedValueResolver;
 
@@ -434,6 +447,32 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		return this.optimizeLocations;
 	}
 
+	/**
+	 * Set the minimum content length, in bytes, of file system resources to
+	 * hand off to the Servlet container for writing the file directly, e.g.
+	 * through Tomcat's sendfile support, rather than copying its content
+	 * through the response output stream.
+	 * <p>This only applies to full content and single range responses, if the
+	 * container indicates support through the
+	 * {@code "org.apache.tomcat.sendfile.support"} request attribute, and if
+	 * the response is not wrapped, e.g. by a content caching filter.
+	 * <p>The default is 48 KB. Set this to -1 in order to always write the
+	 * content through the response output stream.
+	 * @since 6.2
+	 */
+	public void setSendfileThreshold(long sendfileThreshold) {
+		this.sendfileThreshold = sendfileThreshold;
+	}
+
+	/**
+	 * Return the minimum content length of file system resources to hand off
+	 * to the Servlet container for writing the file directly.
+	 * @since 6.2
+	 */
+	public long getSendfileThreshold() {
+		return this.sendfileThreshold;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -613,7 +652,9 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		if (request.getHeader(HttpHeaders.RANGE) == null) {
 			Assert.state(this.resourceHttpMessageConverter != null, "Not initialized");
 
-			if (HttpMethod.HEAD.matches(request.getMethod())) {
+			if (HttpMethod.HEAD.matches(request.getMethod()) ||
+					sendFile(request, response, resource, 0, resource.contentLength())) {
+				// Only the headers, with the content written by the container, if at all
 				this.resourceHttpMessageConverter.addDefaultHeaders(outputMessage, resource, mediaType);
 				outputMessage.flush();
 			}
@@ -626,9 +667,24 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 			ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(request);
 			try {
 				List<HttpRange> httpRanges = inputMessage.getHeaders().getRange();
+				List<ResourceRegion> regions = HttpRange.toResourceRegions(httpRanges, resource);
 				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
-				this.resourceRegionHttpMessageConverter.write(
-						HttpRange.toResourceRegions(httpRanges, resource), mediaType, outputMessage);
+				if (regions.size() == 1 && !HttpMethod.HEAD.matches(request.getMethod())) {
+					ResourceRegion region = regions.get(0);
+					long start = region.getPosition();
+					long end = start + region.getCount() - 1;
+					if (sendFile(request, response, resource, start, region.getCount())) {
+						if (mediaType == null) {
+							// Same default as ResourceRegionHttpMessageConverter
+							response.setContentType(MediaTypeFactory.getMediaType(resource)
+									.orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+						}
+						response.setHeader(HttpHeaders.CONTENT_RANGE,
+								"bytes " + start + '-' + end + '/' + resource.contentLength());
+						return;
+					}
+				}
+				this.resourceRegionHttpMessageConverter.write(regions, mediaType, outputMessage);
 			}
 			catch (IllegalArgumentException ex) {
 				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + resource.contentLength());
@@ -637,6 +693,34 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		}
 	}
 
+	/**
+	 * Hand off the given portion of a file system resource to the Servlet
+	 * container, if supported and applicable.
+	 * @return {@code true} if the container is going to write the content,
+	 * {@code false} if the content is to be written to the response as usual
+	 */
+	private boolean sendFile(HttpServletRequest request, HttpServletResponse response,
+			Resource resource, long position, long count) {
+
+		if (this.sendfileThreshold < 0 || count < this.sendfileThreshold ||
+				!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE)) ||
+				response instanceof ServletResponseWrapper || !resource.isFile()) {
+			return false;
+		}
+		File file;
+		try {
+			file = resource.getFile();
+		}
+		catch (IOException ex) {
+			return false;
+		}
+		response.setContentLengthLong(count);
+		request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.getAbsolutePath());
+		request.setAttribute(SENDFILE_START_ATTRIBUTE, position);
+		request.setAttribute(SENDFILE_END_ATTRIBUTE, position + count);
+		return true;
+	}
+
 	@Nullable
 	protected Resource getResource(HttpServletRequest request) throws IOException {
 		String path = getPath(request);
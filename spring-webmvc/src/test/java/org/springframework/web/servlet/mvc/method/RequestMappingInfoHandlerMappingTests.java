@@ -86,7 +86,10 @@ class RequestMappingInfoHandlerMappingTests {
 		TestRequestMappingInfoHandlerMapping mapping2 = new TestRequestMappingInfoHandlerMapping();
 		mapping2.setUrlPathHelper(pathHelper);
 
-		return Stream.of(mapping1, mapping2).peek(mapping -> {
+		TestRequestMappingInfoHandlerMapping mapping3 = new TestRequestMappingInfoHandlerMapping();
+		mapping3.setUsePathPatternIndex(true);
+
+		return Stream.of(mapping1, mapping2, mapping3).peek(mapping -> {
 			mapping.setApplicationContext(new StaticWebApplicationContext());
 			mapping.registerHandler(controller);
 			mapping.afterPropertiesSet();
@@ -256,6 +259,21 @@ class RequestMappingInfoHandlerMappingTests {
 		assertThat(chain).isNull();
 	}
 
+	@Test
+	void registerAndUnregisterMappingWithPathPatternIndex() throws Exception {
+		TestRequestMappingInfoHandlerMapping mapping = new TestRequestMappingInfoHandlerMapping();
+		mapping.setUsePathPatternIndex(true);
+		mapping.setApplicationContext(new StaticWebApplicationContext());
+
+		RequestMappingInfo info = mapping.createInfo("/person/{id}");
+		mapping.registerMapping(info, new TestController(), TestController.class.getMethod("foo"));
+		assertThat(mapping.getHandler(new MockHttpServletRequest("GET", "/person/1"))).isNotNull();
+		assertThat(mapping.getHandler(new MockHttpServletRequest("GET", "/persons/1"))).isNull();
+
+		mapping.unregisterMapping(info);
+		assertThat(mapping.getHandler(new MockHttpServletRequest("GET", "/person/1"))).isNull();
+	}
+
 	@SuppressWarnings("unchecked")
 	@PathPatternsParameterizedTest
 	void handleMatchUriTemplateVariables(TestRequestMappingInfoHandlerMapping mapping) {
@@ -108,6 +108,46 @@ class ResourceHttpRequestHandlerTests {
 			assertThat(this.response.getContentAsByteArray()).isEmpty();
 		}
 
+		@Test
+		void servesResourceThroughSendfile() throws Exception {
+			this.handler.setSendfileThreshold(0);
+			this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getContentType()).isEqualTo("text/css");
+			assertThat(this.response.getContentLength()).isEqualTo(17);
+			assertThat(this.response.getContentAsByteArray()).isEmpty();
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename"))
+					.isEqualTo(testResource.createRelative("foo.css").getFile().getAbsolutePath());
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(17L);
+		}
+
+		@Test
+		void servesResourceWithUnknownExtensionThroughSendfile() throws Exception {
+			this.handler.setSendfileThreshold(0);
+			this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.bar");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getContentType()).isEqualTo("application/octet-stream");
+			assertThat(this.response.getContentLength()).isEqualTo(17);
+			assertThat(this.response.getContentAsByteArray()).isEmpty();
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename"))
+					.isEqualTo(testResource.createRelative("foo.bar").getFile().getAbsolutePath());
+		}
+
+		@Test
+		void servesResourceBelowSendfileThreshold() throws Exception {
+			this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+		}
+
 		@Test
 		void supportsOptionsRequests() throws Exception {
 			this.request.setMethod("OPTIONS");
@@ -266,6 +306,38 @@ class ResourceHttpRequestHandlerTests {
 			assertThat(this.response.getHeaders("Accept-Ranges")).hasSize(1);
 		}
 
+		@Test
+		void partialContentByteRangeThroughSendfile() throws Exception {
+			this.handler.setSendfileThreshold(0);
+			this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+			this.request.addHeader("Range", "bytes=4-5");
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getStatus()).isEqualTo(206);
+			assertThat(this.response.getContentType()).isEqualTo("text/plain");
+			assertThat(this.response.getContentLength()).isEqualTo(2);
+			assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 4-5/10");
+			assertThat(this.response.getContentAsByteArray()).isEmpty();
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+			assertThat(this.request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+		}
+
+		@Test
+		void partialContentByteRangeWithUnknownExtensionThroughSendfile() throws Exception {
+			this.handler.setSendfileThreshold(0);
+			this.request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+			this.request.addHeader("Range", "bytes=4-5");
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.bar");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getStatus()).isEqualTo(206);
+			assertThat(this.response.getContentType()).isEqualTo("application/octet-stream");
+			assertThat(this.response.getContentLength()).isEqualTo(2);
+			assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 4-5/17");
+			assertThat(this.response.getContentAsByteArray()).isEmpty();
+		}
+
 		@Test
 		void partialContentByteRangeNoEnd() throws Exception {
 			this.request.addHeader("Range", "bytes=9-");